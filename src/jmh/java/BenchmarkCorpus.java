@@ -0,0 +1,120 @@
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Messages used as benchmark input: the recorded {@code examples/*.bin} files plus generated large messages.
+ */
+final class BenchmarkCorpus {
+
+    static final String EXAMPLE1 = "example1";
+    static final String EXAMPLE2 = "example2";
+    static final String EXAMPLE3 = "example3";
+    static final String BOOK_500 = "book500";
+    static final String TEXT_4K = "text4k";
+    static final String EXEC_40 = "exec40";
+
+    private static final String HEADER = "34=7\u000149=EXEC\u000152=20231123-17:20:39.148\u000156=BANZAI\u0001";
+
+    private BenchmarkCorpus() {
+    }
+
+    static byte[] load(String name) throws IOException {
+        switch (name) {
+            case EXAMPLE1:
+            case EXAMPLE2:
+            case EXAMPLE3:
+                return Files.readAllBytes(Path.of("examples", name + ".bin"));
+            case BOOK_500:
+                return marketDataSnapshot(500);
+            case TEXT_4K:
+                return newsWithText(4096);
+            case EXEC_40:
+                return fillExecutionReport();
+            default:
+                throw new IllegalArgumentException("Unknown corpus entry: " + name);
+        }
+    }
+
+    /**
+     * Writes a temporary log of newline-separated example messages of at least the given size.
+     */
+    static Path writeLog(long size) throws IOException {
+        byte[][] messages = {load(EXAMPLE1), load(EXAMPLE2), load(EXAMPLE3)};
+        Path file = Files.createTempFile("fixparser-batch", ".log");
+        file.toFile().deleteOnExit();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            long written = 0;
+            for (int i = 0; written < size; i++) {
+                byte[] message = messages[i % messages.length];
+                out.write(message);
+                out.write('\n');
+                written += message.length + 1;
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Generates a MarketDataSnapshotFullRefresh (35=W) with the given number of NoMDEntries entries.
+     */
+    static byte[] marketDataSnapshot(int levels) {
+        StringBuilder body = new StringBuilder("35=W\u0001").append(HEADER).append("55=AAPL\u0001268=").append(levels).append('\u0001');
+        for (int i = 0; i < levels; i++) {
+            body.append("269=").append(i % 2).append('\u0001')
+                    .append("270=").append(189 + i / 100).append('.').append(10 + i % 90).append('\u0001')
+                    .append("271=").append(100 * (i + 1)).append('\u0001');
+        }
+        return TestMessages.frame(body.toString());
+    }
+
+    /**
+     * Generates a fill ExecutionReport (35=8) with 41 fields, the typical shape of a drop-copy message.
+     */
+    static byte[] fillExecutionReport() {
+        return fillExecutionReport("ACC1", "AAPL");
+    }
+
+    static byte[] fillExecutionReport(String account, String symbol) {
+        String body = "35=8\u0001" + HEADER
+                + "37=O-1700760043390\u000111=1700760043390\u000117=E-1700760043391\u0001150=F\u000139=2\u0001"
+                + "1=" + account + "\u000155=" + symbol + "\u000148=037833100\u000122=1\u0001167=CS\u0001207=XNAS\u000154=1\u000138=100\u0001"
+                + "40=2\u000144=189.50\u000159=0\u000160=20231123-17:20:43.398\u000132=100\u000131=189.50\u000130=XNAS\u0001"
+                + "29=1\u0001151=0\u000114=100\u00016=189.50\u000115=USD\u000175=20231123\u000164=20231127\u0001528=A\u0001"
+                + "12=1.25\u000113=3\u0001381=18950.00\u0001118=18951.25\u000158=Filled\u0001";
+        return TestMessages.frame(body);
+    }
+
+    /**
+     * Returns ten messages of which one is a fill for account ACC1 in AAPL, the rest being fills for other
+     * symbols or accounts and session and order messages: the mix a drop-copy consumer mostly discards.
+     */
+    static byte[][] dropCopyMix() throws IOException {
+        return new byte[][]{
+                fillExecutionReport("ACC1", "AAPL"),
+                fillExecutionReport("ACC1", "MSFT"),
+                fillExecutionReport("ACC2", "IBM"),
+                fillExecutionReport("ACC1", "GOOG"),
+                fillExecutionReport("XYZ9", "AAPL"),
+                fillExecutionReport("XYZ9", "MSFT"),
+                load(EXAMPLE1),
+                load(EXAMPLE2),
+                load(EXAMPLE3),
+                load(EXAMPLE3)
+        };
+    }
+
+    /**
+     * Generates a News (35=B) message whose body is padded with a Text (58) field to at least the given size.
+     */
+    static byte[] newsWithText(int bodySize) {
+        StringBuilder body = new StringBuilder("35=B\u0001").append(HEADER).append("148=Headline\u000133=1\u000158=");
+        while (body.length() < bodySize) {
+            body.append("The quick brown fox jumps over the lazy dog. ");
+        }
+        body.append('\u0001');
+        return TestMessages.frame(body.toString());
+    }
+}
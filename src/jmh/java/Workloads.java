@@ -0,0 +1,342 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Factories for the operations measured by the JMH benchmarks in the {@code benchmarks} package.
+ * <p>
+ * JMH requires benchmark classes to live in a named package, and code in a named package cannot refer to the
+ * unnamed package the parser is declared in. The benchmarks therefore obtain their workload from these static
+ * factories through {@code benchmarks.WorkloadFactory}, once per trial, and only invoke the returned functional
+ * interface in the measured method.
+ * </p>
+ */
+public final class Workloads {
+
+    private static final byte SOH = 1;
+    private static final ParserMetrics SHARED_METRICS = new ParserMetrics();
+
+    private Workloads() {
+    }
+
+    public static Supplier<Object> parseMessage(String corpus) throws IOException {
+        Parser parser = new Parser(ProtocolVersion.FIX44);
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        return () -> parser.parse(msg);
+    }
+
+    public static Supplier<Object> parseView(String corpus) throws IOException {
+        Parser parser = new Parser(ProtocolVersion.FIX44);
+        MessageView view = new MessageView();
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        return () -> {
+            parser.parse(msg, view);
+            return view;
+        };
+    }
+
+    public static Supplier<Object> parsePooled(String corpus) throws IOException {
+        MessagePool pool = new MessagePool(new Parser(ProtocolVersion.FIX44), 1024);
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        return () -> pool.parse(msg);
+    }
+
+    /**
+     * Parses into a reused view with a plain parser ({@code "off"}) or with an {@code InstrumentedParser} that
+     * records into metrics shared by all benchmark threads ({@code "on"}).
+     */
+    public static Supplier<Object> parseInstrumented(String corpus, String metrics) throws IOException {
+        Parser parser = switch (metrics) {
+            case "off" -> new Parser(ProtocolVersion.FIX44);
+            case "on" -> new InstrumentedParser(ProtocolVersion.FIX44, SHARED_METRICS);
+            default -> throw new IllegalArgumentException("Unknown metrics setting " + metrics);
+        };
+        MessageView view = new MessageView();
+        ParseResult result = new ParseResult();
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        return () -> {
+            parser.parse(msg, 0, msg.length, view, result);
+            return view;
+        };
+    }
+
+    /**
+     * Parses into a reused view from a {@code byte[]} ({@code "array"}), an array-backed {@code ByteBuffer}
+     * ({@code "heap"}) or a direct {@code ByteBuffer} ({@code "direct"}).
+     */
+    public static Supplier<Object> parseSource(String corpus, String source) throws IOException {
+        Parser parser = new Parser(ProtocolVersion.FIX44);
+        MessageView view = new MessageView();
+        ParseResult result = new ParseResult();
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        return switch (source) {
+            case "array" -> () -> parser.parse(msg, 0, msg.length, view, result);
+            case "heap" -> {
+                ByteBuffer heap = ByteBuffer.wrap(msg);
+                yield () -> parser.parse(heap, view, result);
+            }
+            case "direct" -> {
+                ByteBuffer direct = ByteBuffer.allocateDirect(msg.length).put(msg).flip();
+                yield () -> parser.parse(direct, view, result);
+            }
+            default -> throw new IllegalArgumentException("Unknown source " + source);
+        };
+    }
+
+    /**
+     * Parses an ExecutionReport and reads the fields an order manager would, through the {@code Map} views of a
+     * {@code Message} ({@code "map"}), the tag accessors of a {@code MessageView} ({@code "view"}) or a generated
+     * {@code Fix44ExecutionReportDecoder} ({@code "decoder"}).
+     */
+    public static LongSupplier readExecutionReport(String corpus, String access) throws IOException {
+        Parser parser = new Parser(ProtocolVersion.FIX44);
+        MessageView view = new MessageView();
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        return switch (access) {
+            case "map" -> () -> {
+                Message message = parser.parse(msg);
+                Map<Integer, String> body = message.getBody();
+                return Long.parseLong(message.getHeader().get(34)) + body.get(150).charAt(0) + body.get(39).charAt(0)
+                        + Math.round(Double.parseDouble(body.get(32)) * 10_000) + Math.round(Double.parseDouble(body.get(31)) * 10_000)
+                        + Math.round(Double.parseDouble(body.get(14)) * 10_000) + body.get(55).length();
+            };
+            case "view" -> () -> {
+                parser.parse(msg, view);
+                return view.getLong(34) + view.getChar(150) + view.getChar(39) + view.getDecimal(32, 4)
+                        + view.getDecimal(31, 4) + view.getDecimal(14, 4) + view.getCharSequence(55).length();
+            };
+            case "decoder" -> {
+                Fix44ExecutionReportDecoder report = new Fix44ExecutionReportDecoder();
+                yield () -> {
+                    parser.parse(msg, view);
+                    report.wrap(view);
+                    return report.getHeader().getMsgSeqNum() + report.getExecType() + report.getOrdStatus()
+                            + report.getLastQty(4) + report.getLastPx(4) + report.getCumQty(4) + report.getSymbol().length();
+                };
+            }
+            default -> throw new IllegalArgumentException("Unknown access " + access);
+        };
+    }
+
+    /**
+     * Runs the drop-copy mix through a {@code MessageFilter} and parses only the messages it accepts
+     * ({@code "filterThenParse"}), or parses every message into a {@code Message} and tests the same condition
+     * on its field strings ({@code "parseThenFilter"}). Returns the number of messages accepted.
+     */
+    public static IntSupplier filterMessages(String order) throws IOException {
+        Parser parser = new Parser(ProtocolVersion.FIX44);
+        MessageView view = new MessageView();
+        Message message = new Message();
+        byte[][] mix = BenchmarkCorpus.dropCopyMix();
+        return switch (order) {
+            case "filterThenParse" -> {
+                MessageFilter filter = MessageFilter.compile("35 in (8, 9) and 55 = \"AAPL\" and 1 startsWith \"ACC\"",
+                        Dictionary.getInstance(ProtocolVersion.FIX44));
+                yield () -> {
+                    int accepted = 0;
+                    for (byte[] msg : mix) {
+                        if (filter.matches(msg, 0, msg.length)) {
+                            parser.parse(msg, 0, msg.length, view, message);
+                            accepted++;
+                        }
+                    }
+                    return accepted;
+                };
+            }
+            case "parseThenFilter" -> () -> {
+                int accepted = 0;
+                for (byte[] msg : mix) {
+                    parser.parse(msg, 0, msg.length, view, message);
+                    String msgType = message.getHeader().get(35);
+                    Map<Integer, String> body = message.getBody();
+                    String account = body.get(1);
+                    if (("8".equals(msgType) || "9".equals(msgType)) && "AAPL".equals(body.get(55))
+                            && account != null && account.startsWith("ACC")) {
+                        accepted++;
+                    }
+                }
+                return accepted;
+            };
+            default -> throw new IllegalArgumentException("Unknown order " + order);
+        };
+    }
+
+    /**
+     * Parses into a reused {@code Message} and reads the CompIDs, Symbol, Currency, Account and SecurityExchange
+     * as strings, creating them per message ({@code "off"}) or interning them through a {@code ValueCache}
+     * ({@code "on"}).
+     */
+    public static Supplier<Object> readRepeatedStrings(String corpus, String cache) throws IOException {
+        Dictionary dictionary = Dictionary.getInstance(ProtocolVersion.FIX44);
+        ValueCache valueCache = switch (cache) {
+            case "off" -> null;
+            case "on" -> new ValueCache(dictionary, 1024);
+            default -> throw new IllegalArgumentException("Unknown cache setting " + cache);
+        };
+        Parser parser = new Parser(dictionary, ByteScanner.getDefault(), ValidationLevel.STRUCTURAL, valueCache);
+        MessageView view = new MessageView();
+        Message message = new Message();
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        int[] tags = {49, 56, 55, 15, 1, 207};
+        Object[] values = new Object[tags.length];
+        return () -> {
+            parser.parse(msg, 0, msg.length, view, message);
+            for (int i = 0; i < tags.length; i++) {
+                values[i] = message.getString(tags[i]);
+            }
+            return values;
+        };
+    }
+
+    public static Supplier<Object> parseValidated(String corpus, String validationLevel) throws IOException {
+        Parser parser = new Parser(ProtocolVersion.FIX44, ValidationLevel.valueOf(validationLevel));
+        MessageView view = new MessageView();
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        return () -> {
+            parser.parse(msg, view);
+            return view;
+        };
+    }
+
+    /**
+     * Parses a message that is either valid or rejected for a CheckSum mismatch, which is only detected after the
+     * whole message has been scanned, reporting the outcome through a reused {@code ParseResult} or through a
+     * {@code ParserException}.
+     */
+    public static Supplier<Object> parseOutcome(String corpus, String outcome, String reporting) throws IOException {
+        Parser parser = new Parser(ProtocolVersion.FIX44);
+        MessageView view = new MessageView();
+        ParseResult result = new ParseResult();
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        switch (outcome) {
+            case "valid" -> {
+            }
+            case "rejected" -> msg[msg.length - 2] = (byte) (msg[msg.length - 2] == '0' ? '1' : '0');
+            default -> throw new IllegalArgumentException("Unknown outcome " + outcome);
+        }
+        return switch (reporting) {
+            case "result" -> () -> {
+                parser.parse(msg, 0, msg.length, view, result);
+                return result;
+            };
+            case "exception" -> () -> {
+                try {
+                    parser.parse(msg, 0, msg.length, view);
+                    return view;
+                } catch (ParserException e) {
+                    return e;
+                }
+            };
+            default -> throw new IllegalArgumentException("Unknown reporting " + reporting);
+        };
+    }
+
+    /**
+     * Extracts the routing tags of an order or execution report (MsgType, ClOrdID, Side, Symbol, OrderQty and
+     * Price), which all occur early in the message.
+     */
+    public static Supplier<Object> parseSelective(String corpus, String verifyChecksum) throws IOException {
+        SelectiveParser parser = new SelectiveParser(ProtocolVersion.FIX44, new int[]{35, 11, 54, 55, 38, 44},
+                Boolean.parseBoolean(verifyChecksum));
+        MessageView view = new MessageView();
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        return () -> {
+            parser.parse(msg, 0, msg.length, view);
+            return view;
+        };
+    }
+
+    public static Supplier<Object> loadDictionary(String version, String source) {
+        ProtocolVersion protocolVersion = ProtocolVersion.valueOf(version);
+        return switch (source) {
+            case "snapshot" -> () -> Dictionary.loadUncached(protocolVersion);
+            case "xml" -> () -> Dictionary.loadXml(protocolVersion);
+            default -> throw new IllegalArgumentException("Unknown dictionary source " + source);
+        };
+    }
+
+    /**
+     * Writes a parsed {@code Message} to a discarding stream in the given {@code StandardDisplayFormat}.
+     */
+    public static Runnable displayMessage(String corpus, String format) throws IOException {
+        MessageDisplayer displayer = MessageDisplayer.getInstance(ProtocolVersion.FIX44);
+        Message message = new Parser(ProtocolVersion.FIX44).parse(BenchmarkCorpus.load(corpus));
+        DisplayFormat displayFormat = StandardDisplayFormat.valueOf(format);
+        OutputStream out = OutputStream.nullOutputStream();
+        return () -> {
+            try {
+                displayer.display(message, displayFormat, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * Renders a parsed {@code MessageView} into a reused {@code DisplayBuffer}.
+     */
+    public static Supplier<Object> renderView(String corpus, String format) throws IOException {
+        MessageDisplayer displayer = MessageDisplayer.getInstance(ProtocolVersion.FIX44);
+        MessageView view = new MessageView();
+        new Parser(ProtocolVersion.FIX44).parse(BenchmarkCorpus.load(corpus), view);
+        DisplayFormat displayFormat = StandardDisplayFormat.valueOf(format);
+        DisplayBuffer buffer = new DisplayBuffer();
+        return () -> {
+            buffer.clear();
+            displayer.render(view, displayFormat, buffer);
+            return buffer;
+        };
+    }
+
+    /**
+     * Parses a generated log of about {@code megabytes} MiB, cycling through the example messages, with a
+     * dedicated pool of the given parallelism. The file is created once per trial and deleted on exit.
+     */
+    public static Supplier<Object> batchParse(String threads, String megabytes, String ordered) throws IOException {
+        Path file = BenchmarkCorpus.writeLog(Integer.parseInt(megabytes) * 1024L * 1024L);
+        BatchParser batchParser = new BatchParser(ProtocolVersion.FIX44, new ForkJoinPool(Integer.parseInt(threads)),
+                BatchParser.DEFAULT_CHUNK_SIZE, BatchParser.DEFAULT_MAX_FRAME_LENGTH);
+        boolean inOrder = Boolean.parseBoolean(ordered);
+        return () -> {
+            try {
+                if (inOrder) {
+                    long[] sum = new long[1];
+                    batchParser.parseOrdered(file, view -> view.getInt(34), seqNum -> sum[0] += seqNum);
+                    return sum[0];
+                }
+                return batchParser.parse(file, (offset, view) -> {
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    public static IntSupplier checksum(String backend, String corpus) throws IOException {
+        ByteScanner scanner = ByteScanner.forName(backend);
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        int checksumStart = msg.length - 7;
+        return () -> scanner.sum(msg, 0, checksumStart) % 256;
+    }
+
+    public static IntSupplier countFields(String backend, String corpus) throws IOException {
+        ByteScanner scanner = ByteScanner.forName(backend);
+        byte[] msg = BenchmarkCorpus.load(corpus);
+        return () -> {
+            int fields = 0;
+            int pos = scanner.indexOf(msg, SOH, 0, msg.length);
+            while (pos != -1) {
+                fields++;
+                pos = scanner.indexOf(msg, SOH, pos + 1, msg.length);
+            }
+            return fields;
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures how {@code BatchParser} throughput scales with the number of worker threads on a generated log.
+ * <p>
+ * Each operation parses the whole file; with a 256 MiB file, MiB/s is {@code 256 / score}. Run with
+ * {@code -p threads=1,2,4,...} up to the core count of the machine to obtain the scaling curve.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchParserBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public String threads;
+
+    @Param({"256"})
+    public String megabytes;
+
+    @Param({"false", "true"})
+    public String ordered;
+
+    private Supplier<Object> batchParse;
+
+    @Setup
+    public void setUp() {
+        batchParse = WorkloadFactory.create("batchParse", threads, megabytes, ordered);
+    }
+
+    @Benchmark
+    public Object parseFile() {
+        return batchParse.get();
+    }
+}
@@ -0,0 +1,53 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Measures checksum summation and SOH search on each {@code ByteScanner} backend.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ChecksumBenchmark {
+
+    @Param({"scalar", "swar", "vector"})
+    public String backend;
+
+    @Param({WorkloadFactory.EXAMPLE3, WorkloadFactory.TEXT_4K})
+    public String message;
+
+    private IntSupplier checksum;
+    private IntSupplier countFields;
+
+    @Setup
+    public void setUp() {
+        checksum = WorkloadFactory.create("checksum", backend, message);
+        countFields = WorkloadFactory.create("countFields", backend, message);
+    }
+
+    @Benchmark
+    public int checksum() {
+        return checksum.getAsInt();
+    }
+
+    @Benchmark
+    public int countFields() {
+        return countFields.getAsInt();
+    }
+}
@@ -0,0 +1,44 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Compares reading the same fields of an ExecutionReport through the {@code Map} views of a {@code Message},
+ * the tag accessors of a {@code MessageView} and a generated {@code Fix44ExecutionReportDecoder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class DecoderBenchmark {
+
+    @Param({"map", "view", "decoder"})
+    public String access;
+
+    private LongSupplier read;
+
+    @Setup
+    public void setUp() {
+        read = WorkloadFactory.create("readExecutionReport", WorkloadFactory.EXEC_40, access);
+    }
+
+    @Benchmark
+    public long read() {
+        return read.getAsLong();
+    }
+}
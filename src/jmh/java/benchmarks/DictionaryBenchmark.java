@@ -0,0 +1,60 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the cost of loading a {@code Dictionary}, bypassing the per-version cache.
+ * <p>
+ * The single-shot mode with many forks captures true cold-start latency (class loading, XML parser
+ * initialization, no JIT), while the average-time mode shows the cost of a reload in a warmed-up JVM. Both are
+ * measured for the binary snapshot compiled at build time and for the XML specification it is derived from.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DictionaryBenchmark {
+
+    @Param({"FIX42", "FIX44"})
+    public String version;
+
+    @Param({"snapshot", "xml"})
+    public String source;
+
+    private Supplier<Object> load;
+
+    @Setup
+    public void setUp() {
+        load = WorkloadFactory.create("loadDictionary", version, source);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public Object coldLoad() {
+        return load.get();
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(1)
+    public Object warmLoad() {
+        return load.get();
+    }
+}
@@ -0,0 +1,49 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Compares filter-then-parse with a {@code MessageFilter} against parse-then-filter on a drop-copy mix of ten
+ * messages of which one is wanted. Scores are per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class FilterBenchmark {
+
+    @Param({"filterThenParse", "parseThenFilter"})
+    public String order;
+
+    private IntSupplier filter;
+
+    @Setup
+    public void setUp() {
+        filter = WorkloadFactory.create("filterMessages", order);
+        if (filter.getAsInt() != 1) {
+            throw new IllegalStateException("Expected exactly one message of the mix to pass the filter");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public int filter() {
+        return filter.getAsInt();
+    }
+}
@@ -0,0 +1,55 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures {@code MessageDisplayer} rendering in each {@code StandardDisplayFormat}: a parsed {@code Message}
+ * written to a discarding stream, and a {@code MessageView} rendered into a reused buffer. Throughput is
+ * reported in messages per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageDisplayerBenchmark {
+
+    @Param({WorkloadFactory.EXAMPLE1, WorkloadFactory.EXAMPLE3})
+    public String message;
+
+    @Param({"TEXT", "JSON_LINES", "CSV"})
+    public String format;
+
+    private Runnable displayMessage;
+    private Supplier<Object> renderView;
+
+    @Setup
+    public void setUp() {
+        displayMessage = WorkloadFactory.create("displayMessage", message, format);
+        renderView = WorkloadFactory.create("renderView", message, format);
+    }
+
+    @Benchmark
+    public void displayMessage() {
+        displayMessage.run();
+    }
+
+    @Benchmark
+    public Object renderView() {
+        return renderView.get();
+    }
+}
@@ -0,0 +1,49 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the overhead of parser metrics: a plain parser against an instrumented parser whose metrics are
+ * shared by four threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Threads(4)
+public class MetricsBenchmark {
+
+    @Param({"off", "on"})
+    public String metrics;
+
+    @Param({WorkloadFactory.EXAMPLE3, WorkloadFactory.EXEC_40})
+    public String message;
+
+    private Supplier<Object> parse;
+
+    @Setup
+    public void setUp() {
+        parse = WorkloadFactory.create("parseInstrumented", message, metrics);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return parse.get();
+    }
+}
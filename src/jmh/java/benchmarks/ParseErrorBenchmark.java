@@ -0,0 +1,50 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares the cost of rejecting a message with the cost of accepting it, reported through a reused
+ * {@code ParseResult} or a {@code ParserException}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ParseErrorBenchmark {
+
+    @Param({"valid", "rejected"})
+    public String outcome;
+
+    @Param({"result", "exception"})
+    public String reporting;
+
+    @Param({WorkloadFactory.EXAMPLE3, WorkloadFactory.EXEC_40})
+    public String message;
+
+    private Supplier<Object> parse;
+
+    @Setup
+    public void setUp() {
+        parse = WorkloadFactory.create("parseOutcome", message, outcome, reporting);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return parse.get();
+    }
+}
@@ -0,0 +1,62 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures {@code Parser.parse(byte[])}, parsing into reused {@code Message} slots of a {@code MessagePool} and
+ * the allocation-free {@code Parser.parse(byte[], MessageView)}.
+ * <p>
+ * Run with {@code -prof gc} to report allocation rates alongside the timings.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ParserBenchmark {
+
+    @Param({WorkloadFactory.EXAMPLE1, WorkloadFactory.EXAMPLE2, WorkloadFactory.EXAMPLE3,
+            WorkloadFactory.EXEC_40, WorkloadFactory.BOOK_500, WorkloadFactory.TEXT_4K})
+    public String message;
+
+    private Supplier<Object> parseMessage;
+    private Supplier<Object> parsePooled;
+    private Supplier<Object> parseView;
+
+    @Setup
+    public void setUp() {
+        parseMessage = WorkloadFactory.create("parseMessage", message);
+        parsePooled = WorkloadFactory.create("parsePooled", message);
+        parseView = WorkloadFactory.create("parseView", message);
+    }
+
+    @Benchmark
+    public Object parseMessage() {
+        return parseMessage.get();
+    }
+
+    @Benchmark
+    public Object parsePooled() {
+        return parsePooled.get();
+    }
+
+    @Benchmark
+    public Object parseView() {
+        return parseView.get();
+    }
+}
@@ -0,0 +1,58 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares extracting six routing tags with {@code SelectiveParser}, with and without CheckSum verification,
+ * against a full {@code Parser.parse(byte[], MessageView)} of the same message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SelectiveParserBenchmark {
+
+    @Param({WorkloadFactory.EXAMPLE3, WorkloadFactory.EXEC_40})
+    public String message;
+
+    private Supplier<Object> parseView;
+    private Supplier<Object> selectiveVerified;
+    private Supplier<Object> selectiveUnverified;
+
+    @Setup
+    public void setUp() {
+        parseView = WorkloadFactory.create("parseView", message);
+        selectiveVerified = WorkloadFactory.create("parseSelective", message, "true");
+        selectiveUnverified = WorkloadFactory.create("parseSelective", message, "false");
+    }
+
+    @Benchmark
+    public Object fullParse() {
+        return parseView.get();
+    }
+
+    @Benchmark
+    public Object selectiveWithChecksum() {
+        return selectiveVerified.get();
+    }
+
+    @Benchmark
+    public Object selectiveWithoutChecksum() {
+        return selectiveUnverified.get();
+    }
+}
@@ -0,0 +1,46 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the per-message cost of each {@code ValidationLevel} when parsing into a {@code MessageView}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ValidationBenchmark {
+
+    @Param({"NONE", "CHECKSUM_ONLY", "STRUCTURAL", "FRAMING", "FULL_DICTIONARY"})
+    public String level;
+
+    @Param({WorkloadFactory.EXAMPLE3, WorkloadFactory.EXEC_40, WorkloadFactory.BOOK_500})
+    public String message;
+
+    private Supplier<Object> parse;
+
+    @Setup
+    public void setUp() {
+        parse = WorkloadFactory.create("parseValidated", message, level);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return parse.get();
+    }
+}
@@ -0,0 +1,44 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures reading six high-repetition fields of a parsed ExecutionReport as strings, with and without a
+ * {@code ValueCache}. Run with {@code -prof gc} to compare the bytes allocated per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ValueCacheBenchmark {
+
+    @Param({"off", "on"})
+    public String cache;
+
+    private Supplier<Object> read;
+
+    @Setup
+    public void setUp() {
+        read = WorkloadFactory.create("readRepeatedStrings", WorkloadFactory.EXEC_40, cache);
+    }
+
+    @Benchmark
+    public Object read() {
+        return read.get();
+    }
+}
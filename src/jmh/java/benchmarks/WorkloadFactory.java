@@ -0,0 +1,36 @@
+package benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Obtains workloads from the {@code Workloads} factory class in the unnamed package.
+ */
+final class WorkloadFactory {
+
+    static final String EXAMPLE1 = "example1";
+    static final String EXAMPLE2 = "example2";
+    static final String EXAMPLE3 = "example3";
+    static final String BOOK_500 = "book500";
+    static final String TEXT_4K = "text4k";
+    static final String EXEC_40 = "exec40";
+
+    private WorkloadFactory() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T create(String name, String... args) {
+        try {
+            Class<?> workloads = Class.forName("Workloads");
+            Class<?>[] parameterTypes = new Class<?>[args.length];
+            Arrays.fill(parameterTypes, String.class);
+            Method factory = workloads.getMethod(name, parameterTypes);
+            return (T) factory.invoke(null, (Object[]) args);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create workload " + name, e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unknown workload " + name, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link CharSequence} view over a range of ASCII bytes.
+ * <p>
+ * The bytes are not copied; the sequence reads directly from the underlying buffer, so it is only valid
+ * for as long as the buffer contents are left untouched. Use {@link #toString()} to obtain a stable copy.
+ * </p>
+ */
+public final class AsciiSequence implements CharSequence {
+
+    private final byte[] buffer;
+    private final int offset;
+    private final int length;
+
+    public AsciiSequence(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) (buffer[offset + index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new AsciiSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, offset, length, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,282 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Parses large files of concatenated FIX messages, such as drop-copy logs, in parallel.
+ * <p>
+ * The file is divided into fixed-size chunks that are parsed as independent tasks on a {@link ForkJoinPool}.
+ * A chunk owns every message that starts inside it: it skips ahead to the first {@code 8=} following a SOH or
+ * line break, then walks the messages with {@link StreamFramer#frameLength} and finishes the last one even if
+ * it extends into the next chunk. Messages may be separated by line breaks. A running task reads its chunk
+ * with positional reads into a buffer and parses into a {@link MessageView} that it borrows from a set owned by
+ * the parse call, while the {@link Parser} and its immutable {@link Dictionary} are shared. At most a few chunks
+ * per worker are in flight at any time, so memory use does not grow with the size of the file: a call holds one
+ * buffer of {@code chunkSize + maxFrameLength} bytes per task that ran concurrently, and releases them all when
+ * it returns. Example usage:
+ * <pre>
+ * {@code
+ * BatchParser batchParser = new BatchParser(ProtocolVersion.FIX44);
+ * LongAdder fills = new LongAdder();
+ * batchParser.parse(Path.of("dropcopy.log"), (offset, view) -> {
+ *     if (view.getChar(35) == '8') {
+ *         fills.increment();
+ *     }
+ * });
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Instances are thread-safe, but a single file should not be parsed by two calls at once.
+ * </p>
+ */
+public class BatchParser {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 1024 * 1024;
+
+    private static final byte SOH = 1;
+    private static final int CHUNKS_IN_FLIGHT_PER_WORKER = 2;
+
+    private final Parser parser;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxFrameLength;
+
+    /**
+     * Receives each parsed message of an unordered batch.
+     */
+    @FunctionalInterface
+    public interface MessageHandler {
+        /**
+         * Called from worker threads, concurrently and in no particular order.
+         *
+         * @param fileOffset The position of the message in the file.
+         * @param view The parsed message, valid only for the duration of the call.
+         */
+        void onMessage(long fileOffset, MessageView view);
+    }
+
+    public BatchParser(ProtocolVersion version) {
+        this(version, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * Creates a batch parser with explicit concurrency and chunking.
+     *
+     * @param version The FIX protocol version of the messages.
+     * @param pool The pool that runs the chunk tasks; its parallelism bounds the number of busy cores.
+     * @param chunkSize The number of bytes of the file assigned to one task.
+     * @param maxFrameLength The largest message that may extend past the end of a chunk.
+     */
+    public BatchParser(ProtocolVersion version, ForkJoinPool pool, int chunkSize, int maxFrameLength) {
+        if (chunkSize <= 0 || maxFrameLength <= 0 || (long) chunkSize + maxFrameLength + 1 > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Invalid chunk size " + chunkSize + " or max frame length " + maxFrameLength);
+        }
+        this.parser = new Parser(version);
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    /**
+     * Parses every message of a file, handing each to the handler as soon as it is parsed.
+     *
+     * @param file The file to read.
+     * @param handler The thread-safe callback receiving each message.
+     * @return The number of messages parsed.
+     */
+    public long parse(Path file, MessageHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return parse(channel, handler);
+        }
+    }
+
+    /**
+     * Parses every message of a channel, handing each to the handler as soon as it is parsed.
+     *
+     * @param channel The channel to read with positional reads; its position is not changed.
+     * @param handler The thread-safe callback receiving each message.
+     * @return The number of messages parsed.
+     */
+    public long parse(FileChannel channel, MessageHandler handler) throws IOException {
+        long[] count = new long[1];
+        run(channel, (worker, start, end, size) -> parseChunk(channel, worker, start, end, size, handler),
+                chunkCount -> count[0] += chunkCount);
+        return count[0];
+    }
+
+    /**
+     * Parses every message of a file and delivers the results in file order.
+     *
+     * @param file The file to read.
+     * @param mapper Converts a parsed message into a result; called concurrently from worker threads.
+     * @param sink Receives the results in the order of the messages in the file, on the calling thread.
+     * @return The number of messages parsed.
+     */
+    public <T> long parseOrdered(Path file, Function<MessageView, T> mapper, Consumer<? super T> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return parseOrdered(channel, mapper, sink);
+        }
+    }
+
+    /**
+     * Parses every message of a channel and delivers the results in channel order.
+     *
+     * @param channel The channel to read with positional reads; its position is not changed.
+     * @param mapper Converts a parsed message into a result; called concurrently from worker threads.
+     * @param sink Receives the results in the order of the messages in the channel, on the calling thread.
+     * @return The number of messages parsed.
+     */
+    public <T> long parseOrdered(FileChannel channel, Function<MessageView, T> mapper, Consumer<? super T> sink)
+            throws IOException {
+        long[] count = new long[1];
+        run(channel, (worker, start, end, size) -> {
+            List<T> results = new ArrayList<>();
+            parseChunk(channel, worker, start, end, size, (offset, view) -> results.add(mapper.apply(view)));
+            return results;
+        }, results -> {
+            results.forEach(sink);
+            count[0] += results.size();
+        });
+        return count[0];
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask<R> {
+        R parse(Worker worker, long start, long end, long size) throws IOException;
+    }
+
+    /**
+     * Submits one task per chunk, keeping a bounded window in flight, and consumes the results in chunk order.
+     * <p>
+     * Tasks borrow their worker state from a set that lives only as long as this call, so its buffers become
+     * garbage when the call returns instead of staying attached to the pool's threads.
+     * </p>
+     */
+    private <R> void run(FileChannel channel, ChunkTask<R> task, Consumer<R> consumer) throws IOException {
+        long size = channel.size();
+        int window = Math.max(1, pool.getParallelism() * CHUNKS_IN_FLIGHT_PER_WORKER);
+        ConcurrentLinkedQueue<Worker> idleWorkers = new ConcurrentLinkedQueue<>();
+        ArrayDeque<ForkJoinTask<R>> inFlight = new ArrayDeque<>();
+        try {
+            for (long start = 0; start < size; start += chunkSize) {
+                long chunkStart = start;
+                long chunkEnd = Math.min(start + chunkSize, size);
+                inFlight.add(pool.submit(() -> {
+                    Worker worker = idleWorkers.poll();
+                    if (worker == null) {
+                        worker = new Worker(chunkSize + maxFrameLength + 1);
+                    }
+                    try {
+                        return task.parse(worker, chunkStart, chunkEnd, size);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        idleWorkers.offer(worker);
+                    }
+                }));
+                if (inFlight.size() >= window) {
+                    consumer.accept(inFlight.poll().join());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                consumer.accept(inFlight.poll().join());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            inFlight.forEach(pending -> pending.cancel(true));
+        }
+    }
+
+    /**
+     * Parses the messages that start within {@code [start, end)}.
+     *
+     * @return The number of messages parsed.
+     */
+    private long parseChunk(FileChannel channel, Worker worker, long start, long end, long size,
+                            MessageHandler handler) throws IOException {
+        byte[] buffer = worker.buffer;
+        long readStart = start == 0 ? 0 : start - 1;
+        long readEnd = Math.min(end + maxFrameLength, size);
+        int length = read(channel, worker.byteBuffer, readStart, (int) (readEnd - readStart));
+        int ownedEnd = (int) (end - readStart);
+
+        int pos = start == 0 ? 0 : firstMessageStart(buffer, 1, length);
+        long count = 0;
+        while (true) {
+            pos = skipLineBreaks(buffer, pos, length);
+            if (pos >= ownedEnd) {
+                return count;
+            }
+            int frameLength = StreamFramer.frameLength(buffer, pos, length - pos);
+            if (frameLength == -1 || frameLength > length - pos) {
+                if (readEnd == size) {
+                    throw new ParserException("Invalid data: Truncated message at offset " + (readStart + pos));
+                }
+                throw new ParserException("Invalid data: Message at offset " + (readStart + pos)
+                        + " exceeds maximum frame length of " + maxFrameLength + " bytes");
+            }
+            parser.parse(buffer, pos, frameLength, worker.view);
+            handler.onMessage(readStart + pos, worker.view);
+            pos += frameLength;
+            count++;
+        }
+    }
+
+    /**
+     * Finds the first {@code 8=} that directly follows a SOH or line break, i.e. the start of a message.
+     */
+    private static int firstMessageStart(byte[] buffer, int from, int limit) {
+        for (int i = from; i < limit - 1; i++) {
+            byte previous = buffer[i - 1];
+            if (buffer[i] == '8' && buffer[i + 1] == '=' && (previous == SOH || previous == '\n' || previous == '\r')) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    private static int skipLineBreaks(byte[] buffer, int pos, int limit) {
+        while (pos < limit && (buffer[pos] == '\n' || buffer[pos] == '\r')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int read(FileChannel channel, ByteBuffer target, long position, int length) throws IOException {
+        target.clear().limit(length);
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) == -1) {
+                break;
+            }
+        }
+        return target.position();
+    }
+
+    /**
+     * The reusable state of a running chunk task, used by one task at a time.
+     */
+    private static final class Worker {
+        private final byte[] buffer;
+        private final ByteBuffer byteBuffer;
+        private final MessageView view = new MessageView();
+
+        private Worker(int capacity) {
+            this.buffer = new byte[capacity];
+            this.byteBuffer = ByteBuffer.wrap(buffer);
+        }
+    }
+}
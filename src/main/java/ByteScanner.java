@@ -0,0 +1,122 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Scans raw FIX bytes for delimiters and sums them for checksum calculation.
+ * <p>
+ * {@link Parser} delegates its two innermost loops to a scanner so that the scanning strategy can be chosen
+ * per platform. Three implementations are available:
+ * <ul>
+ *     <li>{@code vector} - SIMD strides built on the incubating {@code jdk.incubator.vector} module,</li>
+ *     <li>{@code swar} - eight bytes at a time packed into a {@code long} (SIMD within a register),</li>
+ *     <li>{@code scalar} - one byte at a time.</li>
+ * </ul>
+ * {@link #getDefault()} picks the vector backend when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector} and falls back to SWAR otherwise. The choice can be forced with
+ * the {@code fixparser.scanner} system property.
+ * </p>
+ * <p>
+ * Each operation exists for {@code byte[]} and for {@link ByteBuffer}, so that messages held off-heap can be
+ * scanned in place. Each backend keeps a separate loop per source type. The parser picks between them through
+ * its {@link ByteSource}, whose two final implementations keep that dispatch at most bimorphic.
+ * </p>
+ */
+public interface ByteScanner {
+
+    String BACKEND_PROPERTY = "fixparser.scanner";
+
+    /**
+     * Finds the index of a specific byte in the byte array within a given range.
+     *
+     * @param array The byte array to search.
+     * @param target The byte to find.
+     * @param start The starting index (inclusive).
+     * @param end The ending index (exclusive).
+     * @return The index of the target byte, or -1 if not found.
+     */
+    int indexOf(byte[] array, byte target, int start, int end);
+
+    /**
+     * Sums the unsigned values of the bytes within a given range.
+     *
+     * @param array The byte array to sum.
+     * @param start The starting index (inclusive).
+     * @param end The ending index (exclusive).
+     * @return The sum of all bytes in the range.
+     */
+    int sum(byte[] array, int start, int end);
+
+    /**
+     * Finds the index of a specific byte within a given range of a buffer, using absolute indexes and ignoring
+     * the buffer's position and limit.
+     *
+     * @param buffer The buffer to search, typically a direct buffer.
+     * @param target The byte to find.
+     * @param start The starting index (inclusive).
+     * @param end The ending index (exclusive).
+     * @return The index of the target byte, or -1 if not found.
+     */
+    default int indexOf(ByteBuffer buffer, byte target, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sums the unsigned values of the bytes within a given range of a buffer, using absolute indexes and
+     * ignoring the buffer's position and limit.
+     *
+     * @param buffer The buffer to sum, typically a direct buffer.
+     * @param start The starting index (inclusive).
+     * @param end The ending index (exclusive).
+     * @return The sum of all bytes in the range.
+     */
+    default int sum(ByteBuffer buffer, int start, int end) {
+        int sum = 0;
+        for (int i = start; i < end; i++) {
+            sum += buffer.get(i) & 0xFF;
+        }
+        return sum;
+    }
+
+    static ByteScanner getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    static boolean isVectorSupported() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    static ByteScanner forName(String name) {
+        switch (name) {
+            case "scalar":
+                return new ScalarByteScanner();
+            case "swar":
+                return new SwarByteScanner();
+            case "vector":
+                if (!isVectorSupported()) {
+                    throw new IllegalStateException("jdk.incubator.vector is not enabled; start the JVM with --add-modules jdk.incubator.vector");
+                }
+                return new VectorByteScanner();
+            default:
+                throw new IllegalArgumentException("Unknown scanner backend: " + name);
+        }
+    }
+
+    final class DefaultHolder {
+        private static final ByteScanner INSTANCE = select();
+
+        private DefaultHolder() {
+        }
+
+        private static ByteScanner select() {
+            String name = System.getProperty(BACKEND_PROPERTY);
+            if (name != null) {
+                return forName(name);
+            }
+            return isVectorSupported() ? new VectorByteScanner() : new SwarByteScanner();
+        }
+    }
+}
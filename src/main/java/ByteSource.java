@@ -0,0 +1,90 @@
+import java.nio.ByteBuffer;
+
+/**
+ * The bytes of the message a {@link Parser} is reading, held either in a {@code byte[]} or in a {@link ByteBuffer}
+ * without an accessible array.
+ * <p>
+ * The parser runs one loop over this abstraction for both kinds of input. There are exactly two final
+ * implementations, so every call in the loop is at most bimorphic and is inlined by the JIT; a process that only
+ * parses arrays sees a single receiver type. Each {@link MessageView} owns one instance of each implementation
+ * and rebinds it to every message it is reset to, so selecting a source allocates nothing.
+ * </p>
+ */
+abstract class ByteSource {
+
+    abstract byte get(int index);
+
+    abstract int indexOf(ByteScanner scanner, byte target, int start, int end);
+
+    abstract int sum(ByteScanner scanner, int start, int end);
+
+    abstract boolean hasValue(TagInfo tagInfo, int offset, int length);
+
+    abstract MessageDefinition getMessageDefinition(Dictionary dictionary, int offset, int length);
+
+    static final class ArraySource extends ByteSource {
+        private byte[] array;
+
+        void bind(byte[] array) {
+            this.array = array;
+        }
+
+        @Override
+        byte get(int index) {
+            return array[index];
+        }
+
+        @Override
+        int indexOf(ByteScanner scanner, byte target, int start, int end) {
+            return scanner.indexOf(array, target, start, end);
+        }
+
+        @Override
+        int sum(ByteScanner scanner, int start, int end) {
+            return scanner.sum(array, start, end);
+        }
+
+        @Override
+        boolean hasValue(TagInfo tagInfo, int offset, int length) {
+            return tagInfo.hasValue(array, offset, length);
+        }
+
+        @Override
+        MessageDefinition getMessageDefinition(Dictionary dictionary, int offset, int length) {
+            return dictionary.getMessageDefinition(array, offset, length);
+        }
+    }
+
+    static final class BufferSource extends ByteSource {
+        private ByteBuffer buffer;
+
+        void bind(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        byte get(int index) {
+            return buffer.get(index);
+        }
+
+        @Override
+        int indexOf(ByteScanner scanner, byte target, int start, int end) {
+            return scanner.indexOf(buffer, target, start, end);
+        }
+
+        @Override
+        int sum(ByteScanner scanner, int start, int end) {
+            return scanner.sum(buffer, start, end);
+        }
+
+        @Override
+        boolean hasValue(TagInfo tagInfo, int offset, int length) {
+            return tagInfo.hasValue(buffer, offset, length);
+        }
+
+        @Override
+        MessageDefinition getMessageDefinition(Dictionary dictionary, int offset, int length) {
+            return dictionary.getMessageDefinition(buffer, offset, length);
+        }
+    }
+}
@@ -0,0 +1,532 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates typed flyweight decoders from the FIX dictionaries.
+ * <p>
+ * The build runs {@link #main} after compilation, like {@link DictionarySnapshot}, and compiles the output with
+ * the rest of the classes. For every {@link ProtocolVersion} it writes one decoder per message type, named after
+ * the version and the message, e.g. {@code Fix44ExecutionReportDecoder}, and a {@code Fix44HeaderDecoder} for
+ * the standard header and trailer. A decoder wraps a parsed {@link MessageView}: one pass over the fields stores
+ * the index of every field of the message type in a slot of its own, selected by a {@code switch} on the tag,
+ * and typed getters decode straight from the view. Repeating groups get nested decoders that iterate over their
+ * entries in the same way. Example usage of a generated decoder:
+ * <pre>
+ * {@code
+ * Fix44ExecutionReportDecoder report = new Fix44ExecutionReportDecoder();
+ * parser.parse(rawFixBytes, view);
+ * report.wrap(view);
+ * long lastPx = report.getLastPx(4);
+ * for (Fix44ExecutionReportDecoder.NoPartyIDsDecoder party : report.getNoPartyIDs()) {
+ *     CharSequence partyId = party.getPartyID();
+ * }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Getters are typed by {@link ValueType}: integers as {@code int} ({@code long} for SEQNUM), decimals as
+ * fixed-point {@code long} with a caller-supplied scale, UTCTimestamps as epoch nanoseconds, dates as epoch
+ * days, and all other types as {@link CharSequence}. Reading a field that is absent throws a
+ * {@link ParserException}; every field also has a {@code has} method.
+ * </p>
+ */
+public final class DecoderGenerator {
+
+    private static final int MSG_TYPE_FIELD = 35;
+
+    private final Dictionary dictionary;
+    private final String prefix;
+    private final String beginString;
+
+    private record Field(int tag, String name, String type, ValueType valueType, GroupDefinition group) {}
+
+    DecoderGenerator(Dictionary dictionary, String prefix, String beginString) {
+        this.dictionary = dictionary;
+        this.prefix = prefix;
+        this.beginString = beginString;
+    }
+
+    /**
+     * Generates the decoders of every bundled dictionary.
+     *
+     * @param args The output directory, normally {@code target/generated-sources/decoders}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: DecoderGenerator <output directory>");
+        }
+        Path outputDirectory = Paths.get(args[0]);
+        Files.createDirectories(outputDirectory);
+        for (ProtocolVersion version : ProtocolVersion.values()) {
+            String prefix = "Fix" + version.name().substring("FIX".length());
+            new DecoderGenerator(Dictionary.loadXml(version), prefix, version.getBeginString()).generate(outputDirectory);
+        }
+    }
+
+    void generate(Path outputDirectory) throws IOException {
+        write(outputDirectory, headerClassName(), generateHeader());
+        for (MessageDefinition definition : dictionary.getMessageDefinitions()) {
+            write(outputDirectory, messageClassName(definition), generateMessage(definition));
+        }
+    }
+
+    String headerClassName() {
+        return prefix + "HeaderDecoder";
+    }
+
+    String messageClassName(MessageDefinition definition) {
+        return prefix + definition.getName() + "Decoder";
+    }
+
+    /**
+     * Writes a source file unless it already has the same content, so that unchanged decoders are not
+     * recompiled.
+     */
+    private static void write(Path outputDirectory, String className, String source) throws IOException {
+        Path target = outputDirectory.resolve(className + ".java");
+        byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+        if (Files.exists(target) && Arrays.equals(Files.readAllBytes(target), bytes)) {
+            return;
+        }
+        Files.write(target, bytes);
+    }
+
+    String generateHeader() {
+        List<Field> fields = fields(dictionary.getHeaderLayout());
+        Set<Integer> tags = new LinkedHashSet<>();
+        fields.forEach(field -> tags.add(field.tag()));
+        for (TagInfo tagInfo : dictionary.getTagInfos()) {
+            if (dictionary.getSection(tagInfo.getNumber()) == Dictionary.SECTION_TRAILER && tags.add(tagInfo.getNumber())) {
+                fields.add(field(tagInfo.getNumber(), null));
+            }
+        }
+        // Header groups are not iterated; their NumInGroup fields are read as plain counts.
+        fields.replaceAll(field -> field.group() == null ? field : field(field.tag(), null));
+
+        String className = headerClassName();
+        Source out = new Source();
+        out.line("/**");
+        out.line(" * Decodes the " + beginString + " standard header and trailer fields from a parsed {@link MessageView}.");
+        out.line(" * <p>");
+        out.line(" * Generated by {@link DecoderGenerator} from the " + beginString + " dictionary; do not edit.");
+        out.line(" * </p>");
+        out.line(" */");
+        out.line("public final class " + className + " {");
+        out.line();
+        out.indent();
+        out.line("private MessageView view;");
+        slotDeclarations(out, fields);
+        out.line();
+        out.line("/**");
+        out.line(" * Indexes the header and trailer fields of a parsed message.");
+        out.line(" *");
+        out.line(" * @param view A parsed message of any type.");
+        out.line(" * @return This decoder.");
+        out.line(" */");
+        out.line("public " + className + " wrap(MessageView view) {");
+        out.indent();
+        out.line("reset(view);");
+        out.line("int count = view.getFieldCount();");
+        out.line("for (int i = 0; i < count; i++) {");
+        out.indent();
+        out.line("offer(view.getTagAt(i), i);");
+        out.outdent();
+        out.line("}");
+        out.line("return this;");
+        out.outdent();
+        out.line("}");
+        out.line();
+        out.line("void reset(MessageView view) {");
+        out.indent();
+        out.line("this.view = view;");
+        slotResets(out, fields);
+        out.outdent();
+        out.line("}");
+        out.line();
+        out.line("void offer(int tag, int index) {");
+        out.indent();
+        out.line("switch (tag) {");
+        out.indent();
+        for (Field field : fields) {
+            out.line("case " + field.tag() + " -> " + slotName(field) + " = index;");
+        }
+        out.line("default -> {");
+        out.line("}");
+        out.outdent();
+        out.line("}");
+        out.outdent();
+        out.line("}");
+        getters(out, fields);
+        requireMethod(out);
+        out.outdent();
+        out.line("}");
+        return out.toString();
+    }
+
+    String generateMessage(MessageDefinition definition) {
+        List<Field> fields = fields(definition);
+        String className = messageClassName(definition);
+        String msgType = definition.getMsgType();
+        Source out = new Source();
+        if (hasGroups(definition)) {
+            out.line("import java.util.Iterator;");
+            out.line("import java.util.NoSuchElementException;");
+            out.line();
+        }
+        out.line("/**");
+        out.line(" * Decodes the " + beginString + " " + definition.getName() + " message (35=" + msgType
+                + ") from a parsed {@link MessageView}.");
+        out.line(" * <p>");
+        out.line(" * Generated by {@link DecoderGenerator} from the " + beginString + " dictionary; do not edit.");
+        out.line(" * </p>");
+        out.line(" */");
+        out.line("public final class " + className + " {");
+        out.line();
+        out.indent();
+        out.line("public static final String MSG_TYPE = \"" + msgType + "\";");
+        out.line();
+        out.line("private final " + headerClassName() + " header = new " + headerClassName() + "();");
+        groupInstances(out, fields);
+        out.line("private MessageView view;");
+        slotDeclarations(out, fields);
+        out.line();
+        out.line("/**");
+        out.line(" * Indexes the fields of a parsed " + definition.getName() + " message.");
+        out.line(" *");
+        out.line(" * @param view A parsed message of this type.");
+        out.line(" * @return This decoder.");
+        out.line(" * @throws IllegalArgumentException If the view holds a message of another type.");
+        out.line(" */");
+        out.line("public " + className + " wrap(MessageView view) {");
+        out.indent();
+        out.line("int msgType = view.indexOf(" + MSG_TYPE_FIELD + ");");
+        out.line("if (msgType == -1 || !" + msgTypeCondition(msgType) + ") {");
+        out.indent();
+        out.line("throw new IllegalArgumentException(\"Not a " + definition.getName() + " (35=" + msgType + ") message\");");
+        out.outdent();
+        out.line("}");
+        out.line("this.view = view;");
+        out.line("header.reset(view);");
+        slotResets(out, fields);
+        out.line("int count = view.getFieldCount();");
+        out.line("for (int i = 0; i < count; i++) {");
+        out.indent();
+        out.line("int tag = view.getTagAt(i);");
+        out.line("switch (tag) {");
+        out.indent();
+        fieldCases(out, fields, "-1");
+        out.line("default -> header.offer(tag, i);");
+        out.outdent();
+        out.line("}");
+        out.outdent();
+        out.line("}");
+        out.line("return this;");
+        out.outdent();
+        out.line("}");
+        out.line();
+        out.line("public " + headerClassName() + " getHeader() {");
+        out.indent();
+        out.line("return header;");
+        out.outdent();
+        out.line("}");
+        getters(out, fields);
+        requireMethod(out);
+        groupClasses(out, fields);
+        out.outdent();
+        out.line("}");
+        return out.toString();
+    }
+
+    private List<Field> fields(FieldLayout layout) {
+        List<Field> fields = new ArrayList<>();
+        Set<Integer> seen = new LinkedHashSet<>();
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            int tag = layout.getFieldTag(i);
+            if (seen.add(tag)) {
+                fields.add(field(tag, layout.getGroup(tag)));
+            }
+        }
+        return fields;
+    }
+
+    private Field field(int tag, GroupDefinition group) {
+        TagInfo tagInfo = dictionary.getTagInfo(tag);
+        if (tagInfo == null) {
+            return new Field(tag, "Tag" + tag, "STRING", ValueType.STRING, group);
+        }
+        return new Field(tag, tagInfo.getName(), tagInfo.getType(), tagInfo.getValueType(), group);
+    }
+
+    private static boolean hasGroups(FieldLayout layout) {
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            if (layout.getGroup(layout.getFieldTag(i)) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String msgTypeCondition(String msgType) {
+        StringBuilder condition = new StringBuilder("(view.getValueLengthAt(msgType) == " + msgType.length());
+        for (int i = 0; i < msgType.length(); i++) {
+            String offset = i == 0 ? "view.getValueOffsetAt(msgType)" : "view.getValueOffsetAt(msgType) + " + i;
+            condition.append(" && view.byteAt(").append(offset).append(") == '").append(msgType.charAt(i)).append("'");
+        }
+        return condition.append(")").toString();
+    }
+
+    private static void slotDeclarations(Source out, List<Field> fields) {
+        for (Field field : fields) {
+            out.line("private int " + slotName(field) + " = -1;");
+        }
+    }
+
+    private static void slotResets(Source out, List<Field> fields) {
+        for (Field field : fields) {
+            out.line(slotName(field) + " = -1;");
+        }
+    }
+
+    private static void groupInstances(Source out, List<Field> fields) {
+        for (Field field : fields) {
+            if (field.group() != null) {
+                String groupClass = groupClassName(field);
+                out.line("private final " + groupClass + " " + variableName(field) + " = new " + groupClass + "();");
+            }
+        }
+    }
+
+    /**
+     * Writes the switch cases that store field indexes, skipping over the fields of repeating groups.
+     *
+     * @param parentEntry The expression for the entry that contains the fields, {@code -1} at the top level.
+     */
+    private static void fieldCases(Source out, List<Field> fields, String parentEntry) {
+        for (Field field : fields) {
+            if (field.group() == null) {
+                out.line("case " + field.tag() + " -> " + slotName(field) + " = i;");
+            } else {
+                out.line("case " + field.tag() + " -> {");
+                out.indent();
+                out.line(slotName(field) + " = view.findGroup(" + field.tag() + ", " + parentEntry + ");");
+                out.line("if (" + slotName(field) + " != -1) {");
+                out.indent();
+                out.line("i = view.getGroupEnd(" + slotName(field) + ") - 1;");
+                out.outdent();
+                out.line("}");
+                out.outdent();
+                out.line("}");
+            }
+        }
+    }
+
+    private static void getters(Source out, List<Field> fields) {
+        for (Field field : fields) {
+            out.line();
+            if (field.group() != null) {
+                String groupClass = groupClassName(field);
+                out.line("/**");
+                out.line(" * Returns the entries of the " + field.name() + " (" + field.tag() + ") repeating group, positioned before the first one.");
+                out.line(" */");
+                out.line("public " + groupClass + " get" + field.name() + "() {");
+                out.indent();
+                out.line(variableName(field) + ".reset(view, " + slotName(field) + ");");
+                out.line("return " + variableName(field) + ";");
+                out.outdent();
+                out.line("}");
+                continue;
+            }
+            String index = "require(" + slotName(field) + ", " + field.tag() + ")";
+            out.line("public boolean has" + field.name() + "() {");
+            out.indent();
+            out.line("return " + slotName(field) + " != -1;");
+            out.outdent();
+            out.line("}");
+            out.line();
+            switch (field.valueType()) {
+                case INT -> {
+                    if ("SEQNUM".equals(field.type())) {
+                        getter(out, field, "long", "", "view.getLongAt(" + index + ")", null);
+                    } else {
+                        getter(out, field, "int", "", "view.getIntAt(" + index + ")", null);
+                    }
+                }
+                case DECIMAL -> getter(out, field, "long", "int scale", "view.getDecimalAt(" + index + ", scale)",
+                        "as a fixed-point value with {@code scale} implied decimal places");
+                case CHAR -> getter(out, field, "char", "", "view.getCharAt(" + index + ")", null);
+                case BOOLEAN -> getter(out, field, "boolean", "", "view.getBooleanAt(" + index + ")", null);
+                case UTC_TIMESTAMP -> getter(out, field, "long", "", "view.getUtcTimestampAt(" + index + ")",
+                        "in nanoseconds since the Unix epoch");
+                case DATE -> getter(out, field, "int", "", "view.getDateAt(" + index + ")", "in days since the Unix epoch");
+                case STRING -> getter(out, field, "CharSequence", "", "view.getCharSequenceAt(" + index + ")", null);
+            }
+        }
+    }
+
+    private static void getter(Source out, Field field, String returnType, String parameters, String expression,
+                               String description) {
+        if (description != null) {
+            out.line("/**");
+            out.line(" * Returns " + field.name() + " (" + field.tag() + ") " + description + ".");
+            out.line(" */");
+        }
+        out.line("public " + returnType + " get" + field.name() + "(" + parameters + ") {");
+        out.indent();
+        out.line("return " + expression + ";");
+        out.outdent();
+        out.line("}");
+    }
+
+    private static void requireMethod(Source out) {
+        out.line();
+        out.line("private static int require(int index, int tag) {");
+        out.indent();
+        out.line("if (index == -1) {");
+        out.indent();
+        out.line("throw new ParserException(\"Invalid data: Missing field \" + tag);");
+        out.outdent();
+        out.line("}");
+        out.line("return index;");
+        out.outdent();
+        out.line("}");
+    }
+
+    private void groupClasses(Source out, List<Field> fields) {
+        for (Field field : fields) {
+            if (field.group() != null) {
+                groupClass(out, field);
+            }
+        }
+    }
+
+    private void groupClass(Source out, Field groupField) {
+        String className = groupClassName(groupField);
+        List<Field> fields = fields(groupField.group());
+        out.line();
+        out.line("/**");
+        out.line(" * Iterates over the entries of the " + groupField.name() + " (" + groupField.tag()
+                + ") repeating group. The decoder itself is the iterator and the current entry, so iterating allocates nothing.");
+        out.line(" */");
+        out.line("public static final class " + className + " implements Iterable<" + className + ">, Iterator<" + className + "> {");
+        out.line();
+        out.indent();
+        groupInstances(out, fields);
+        out.line("private MessageView view;");
+        out.line("private int group = -1;");
+        out.line("private int next;");
+        slotDeclarations(out, fields);
+        out.line();
+        out.line("void reset(MessageView view, int group) {");
+        out.indent();
+        out.line("this.view = view;");
+        out.line("this.group = group;");
+        out.line("this.next = 0;");
+        out.outdent();
+        out.line("}");
+        out.line();
+        out.line("/**");
+        out.line(" * Returns the number of entries in the group, 0 if the message does not contain it.");
+        out.line(" */");
+        out.line("public int getCount() {");
+        out.indent();
+        out.line("return group == -1 ? 0 : view.getGroupEntryCount(group);");
+        out.outdent();
+        out.line("}");
+        out.line();
+        out.line("@Override");
+        out.line("public boolean hasNext() {");
+        out.indent();
+        out.line("return next < getCount();");
+        out.outdent();
+        out.line("}");
+        out.line();
+        out.line("/**");
+        out.line(" * Moves to the next entry and indexes its fields.");
+        out.line(" */");
+        out.line("@Override");
+        out.line("public " + className + " next() {");
+        out.indent();
+        out.line("if (!hasNext()) {");
+        out.indent();
+        out.line("throw new NoSuchElementException();");
+        out.outdent();
+        out.line("}");
+        out.line("int entry = view.getGroupEntry(group, next++);");
+        slotResets(out, fields);
+        out.line("int end = view.getEntryEnd(entry);");
+        out.line("for (int i = view.getEntryStart(entry); i < end; i++) {");
+        out.indent();
+        out.line("switch (view.getTagAt(i)) {");
+        out.indent();
+        fieldCases(out, fields, "entry");
+        out.line("default -> {");
+        out.line("}");
+        out.outdent();
+        out.line("}");
+        out.outdent();
+        out.line("}");
+        out.line("return this;");
+        out.outdent();
+        out.line("}");
+        out.line();
+        out.line("@Override");
+        out.line("public Iterator<" + className + "> iterator() {");
+        out.indent();
+        out.line("return this;");
+        out.outdent();
+        out.line("}");
+        getters(out, fields);
+        groupClasses(out, fields);
+        out.outdent();
+        out.line("}");
+    }
+
+    private static String groupClassName(Field field) {
+        return field.name() + "Decoder";
+    }
+
+    private static String variableName(Field field) {
+        return Character.toLowerCase(field.name().charAt(0)) + field.name().substring(1);
+    }
+
+    private static String slotName(Field field) {
+        return variableName(field) + (field.group() != null ? "Group" : "Index");
+    }
+
+    /**
+     * Accumulates generated source text with four-space indentation.
+     */
+    private static final class Source {
+        private final StringBuilder text = new StringBuilder();
+        private int depth;
+
+        void indent() {
+            depth++;
+        }
+
+        void outdent() {
+            depth--;
+        }
+
+        void line() {
+            text.append('\n');
+        }
+
+        void line(String line) {
+            text.append("    ".repeat(depth)).append(line).append('\n');
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}
@@ -1,6 +1,18 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -9,35 +21,234 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
+/**
+ * The compiled form of a FIX dictionary: field definitions, message sections and message layouts.
+ * <p>
+ * The bundled dictionaries are obtained per {@link ProtocolVersion}. Custom dictionaries are loaded from a file
+ * or stream holding either XML in the QuickFIX layout or a {@link DictionarySnapshot}. A base dictionary can
+ * be extended with an overlay, a partial XML dictionary that adds fields (such as venue-specific tags in the
+ * 5000-9999 range), header and trailer fields, and messages or fields of existing messages:
+ * <pre>
+ * {@code
+ * Dictionary venue = Dictionary.getInstance(ProtocolVersion.FIX44, Path.of("venue-x.xml"));
+ * Parser parser = new Parser(venue);
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * An extended dictionary is compiled into its own lookup tables, but shares the {@link TagInfo} instances,
+ * with their compiled value matchers, and every message definition the overlay leaves untouched with its base.
+ * Many dialects of one base version therefore only add their own fields and messages to the heap. Dictionaries
+ * obtained through {@code getInstance} are cached by version and file, so each dialect is loaded once.
+ * </p>
+ */
 public class Dictionary {
 
-    private final Map<Integer, TagInfo> tagInfoMap;
+    public static final byte SECTION_UNKNOWN = 0;
+    public static final byte SECTION_HEADER = 1;
+    public static final byte SECTION_BODY = 2;
+    public static final byte SECTION_TRAILER = 3;
+
+    private final List<TagInfo> tagInfos;
+    private final TagTable tagTable;
 
     private final Set<String> headerFields;
     private final Set<String> trailerFields;
 
+    private final FieldLayout headerLayout;
+    private final Map<String, MessageDefinition> messageDefinitions;
+    private final int[] packedMsgTypes;
+    private final MessageDefinition[] packedMessageDefinitions;
+
     private static final Map<ProtocolVersion, Dictionary> instances = new ConcurrentHashMap<>();
+    private static final Map<Identity, Dictionary> customInstances = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies a cached custom dictionary: a file, optionally applied as an overlay to a bundled version.
+     */
+    private record Identity(ProtocolVersion base, Path path) {
+    }
 
     public static Dictionary getInstance(ProtocolVersion version) {
-        return instances.computeIfAbsent(version, Dictionary::new);
+        return instances.computeIfAbsent(version, Dictionary::load);
+    }
+
+    /**
+     * Returns the dictionary stored in a file, loading it on first use.
+     *
+     * @param path An XML dictionary or a {@link DictionarySnapshot}.
+     * @return The dictionary, shared by all callers that name the same file.
+     * @throws UncheckedIOException If the file cannot be read or parsed.
+     */
+    public static Dictionary getInstance(Path path) {
+        return customInstances.computeIfAbsent(new Identity(null, path.toAbsolutePath().normalize()), identity -> {
+            try (InputStream inputStream = Files.newInputStream(identity.path())) {
+                return load(inputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load dictionary " + identity.path(), e);
+            }
+        });
+    }
+
+    /**
+     * Returns a bundled dictionary extended with an overlay file, merging them on first use.
+     *
+     * @param base The version whose bundled dictionary is extended.
+     * @param extension A partial XML dictionary, see {@link #extend(Dictionary, InputStream)}.
+     * @return The merged dictionary, shared by all callers that name the same version and file.
+     * @throws UncheckedIOException If the file cannot be read or parsed.
+     */
+    public static Dictionary getInstance(ProtocolVersion base, Path extension) {
+        return customInstances.computeIfAbsent(new Identity(base, extension.toAbsolutePath().normalize()), identity -> {
+            try (InputStream inputStream = Files.newInputStream(identity.path())) {
+                return extend(getInstance(base), inputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load dictionary extension " + identity.path(), e);
+            }
+        });
+    }
+
+    /**
+     * Loads a dictionary from a stream, bypassing the cache.
+     *
+     * @param input An XML dictionary or a {@link DictionarySnapshot}; it is read to the end but not closed.
+     * @return The dictionary.
+     * @throws IOException If the stream cannot be read or does not hold a valid dictionary.
+     */
+    public static Dictionary load(InputStream input) throws IOException {
+        byte[] bytes = input.readAllBytes();
+        if (DictionarySnapshot.isSnapshot(bytes)) {
+            return DictionarySnapshot.read(new ByteArrayInputStream(bytes));
+        }
+        try {
+            return fromXml(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Invalid dictionary", e);
+        }
     }
 
-    private Dictionary(ProtocolVersion version) {
+    /**
+     * Merges an overlay into a base dictionary, bypassing the cache.
+     * <p>
+     * The overlay uses the XML layout of a full dictionary, but every section is optional. Its fields are added,
+     * replacing base fields with the same number. Fields listed under {@code <header>} or {@code <trailer>} are
+     * appended to those sections. A message whose MsgType exists in the base has the overlay's fields and
+     * groups appended to its layout; other messages are added. Components referenced by the overlay must be
+     * defined in the overlay itself.
+     * </p>
+     *
+     * @param base The dictionary to extend; it is not modified.
+     * @param extension The overlay XML; it is read to the end but not closed.
+     * @return The merged dictionary.
+     * @throws IOException If the stream cannot be read or does not hold a valid overlay.
+     */
+    public static Dictionary extend(Dictionary base, InputStream extension) throws IOException {
+        try {
+            return merge(base, parseXml(extension));
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Invalid dictionary extension", e);
+        }
+    }
+
+    /**
+     * Loads a fresh dictionary, bypassing the per-version cache. Used to measure cold-start cost.
+     */
+    static Dictionary loadUncached(ProtocolVersion version) {
+        return load(version);
+    }
+
+    /**
+     * Loads a dictionary from its XML specification, ignoring any precompiled snapshot.
+     */
+    static Dictionary loadXml(ProtocolVersion version) {
         String fileName = version.getResourceName();
         try (InputStream inputStream = Dictionary.class.getClassLoader().getResourceAsStream(fileName)) {
-            Document document = parseXml(inputStream);
-            this.tagInfoMap = readFields(document);
-            this.headerFields = readHeaderFields(document);
-            this.trailerFields = readTrailerFields(document);
+            return fromXml(inputStream);
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize FIXDictionary", e);
         }
     }
 
+    /**
+     * Loads a dictionary from the binary snapshot compiled at build time by {@link DictionarySnapshot},
+     * falling back to the XML specification when no snapshot is bundled.
+     */
+    private static Dictionary load(ProtocolVersion version) {
+        String snapshotName = version.getSnapshotResourceName();
+        try (InputStream inputStream = Dictionary.class.getClassLoader().getResourceAsStream(snapshotName)) {
+            if (inputStream != null) {
+                return DictionarySnapshot.read(inputStream);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize FIXDictionary", e);
+        }
+        return loadXml(version);
+    }
+
+    private static Dictionary fromXml(InputStream inputStream) throws Exception {
+        Document document = parseXml(inputStream);
+        Map<Integer, TagInfo> tagInfoMap = readFields(document);
+        Set<String> headerFields = readHeaderFields(document);
+        Set<String> trailerFields = readTrailerFields(document);
+
+        Map<String, Integer> tagNumbers = new HashMap<>();
+        tagInfoMap.values().forEach(tagInfo -> tagNumbers.put(tagInfo.getName(), tagInfo.getNumber()));
+        Map<String, Element> components = readComponents(document);
+        Element headerElement = (Element) document.getElementsByTagName("header").item(0);
+        FieldLayout headerLayout = readLayout(headerElement, tagNumbers, components);
+        Map<String, MessageDefinition> messageDefinitions = readMessages(document, tagNumbers, components);
+
+        return new Dictionary(tagInfoMap.values(), headerFields, trailerFields, headerLayout, messageDefinitions);
+    }
+
+    Dictionary(Collection<TagInfo> tagInfos, Set<String> headerFields, Set<String> trailerFields,
+               FieldLayout headerLayout, Map<String, MessageDefinition> messageDefinitions) {
+        this.tagInfos = List.copyOf(tagInfos);
+        this.headerFields = headerFields;
+        this.trailerFields = trailerFields;
+        this.tagTable = compileTagTable(this.tagInfos);
+        this.headerLayout = headerLayout;
+        this.messageDefinitions = messageDefinitions;
+
+        List<MessageDefinition> packable = new ArrayList<>();
+        for (MessageDefinition definition : messageDefinitions.values()) {
+            int length = definition.getMsgType().length();
+            if (length > 0 && length <= Integer.BYTES) {
+                packable.add(definition);
+            }
+        }
+        packable.sort((a, b) -> Integer.compare(packMsgType(a.getMsgType()), packMsgType(b.getMsgType())));
+        this.packedMsgTypes = packable.stream().mapToInt(definition -> packMsgType(definition.getMsgType())).toArray();
+        this.packedMessageDefinitions = packable.toArray(new MessageDefinition[0]);
+    }
+
     public TagInfo getTagInfo(int key) {
-        return tagInfoMap.get(key);
+        return tagTable.get(key);
+    }
+
+    /**
+     * Returns the message section a tag belongs to.
+     *
+     * @param tag The tag number.
+     * @return One of {@link #SECTION_HEADER}, {@link #SECTION_BODY} or {@link #SECTION_TRAILER}, or
+     *         {@link #SECTION_UNKNOWN} if the tag is not defined in this dictionary.
+     */
+    public byte getSection(int tag) {
+        return tagTable.getSection(tag);
+    }
+
+    /**
+     * Returns all fields defined in this dictionary.
+     */
+    public List<TagInfo> getTagInfos() {
+        return tagInfos;
     }
 
     public boolean isHeaderTag(String tagName) {
@@ -48,7 +259,133 @@ public class Dictionary {
         return trailerFields.contains(tagName);
     }
 
-    private Document parseXml(InputStream inputStream) throws Exception {
+    /**
+     * Returns the layout of the standard header, including header repeating groups such as NoHops.
+     */
+    public FieldLayout getHeaderLayout() {
+        return headerLayout;
+    }
+
+    public Collection<MessageDefinition> getMessageDefinitions() {
+        return messageDefinitions.values();
+    }
+
+    Set<String> getHeaderFields() {
+        return headerFields;
+    }
+
+    Set<String> getTrailerFields() {
+        return trailerFields;
+    }
+
+    public MessageDefinition getMessageDefinition(String msgType) {
+        return messageDefinitions.get(msgType);
+    }
+
+    /**
+     * Looks up a message definition by the raw bytes of a MsgType (35) value without creating a String.
+     *
+     * @param buffer The byte array containing the value.
+     * @param offset The starting index (inclusive) of the value.
+     * @param length The number of bytes in the value.
+     * @return The message definition, or null if the message type is not defined in this dictionary.
+     */
+    public MessageDefinition getMessageDefinition(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return null;
+        }
+        if (length > Integer.BYTES) {
+            return messageDefinitions.get(new String(buffer, offset, length, StandardCharsets.US_ASCII));
+        }
+        int key = 0;
+        for (int i = offset; i < offset + length; i++) {
+            key = (key << 8) | (buffer[i] & 0xFF);
+        }
+        int index = Arrays.binarySearch(packedMsgTypes, key);
+        return index >= 0 ? packedMessageDefinitions[index] : null;
+    }
+
+    /**
+     * Looks up a message definition by the raw bytes of a MsgType (35) value held in a buffer, typically a
+     * direct one, at absolute indexes.
+     *
+     * @see #getMessageDefinition(byte[], int, int)
+     */
+    public MessageDefinition getMessageDefinition(ByteBuffer buffer, int offset, int length) {
+        if (length == 0) {
+            return null;
+        }
+        if (length > Integer.BYTES) {
+            byte[] msgType = new byte[length];
+            buffer.get(offset, msgType);
+            return getMessageDefinition(msgType, 0, length);
+        }
+        int key = 0;
+        for (int i = offset; i < offset + length; i++) {
+            key = (key << 8) | (buffer.get(i) & 0xFF);
+        }
+        int index = Arrays.binarySearch(packedMsgTypes, key);
+        return index >= 0 ? packedMessageDefinitions[index] : null;
+    }
+
+    private static int packMsgType(String msgType) {
+        int key = 0;
+        for (int i = 0; i < msgType.length(); i++) {
+            key = (key << 8) | (msgType.charAt(i) & 0xFF);
+        }
+        return key;
+    }
+
+    private static Dictionary merge(Dictionary base, Document overlay) {
+        Map<Integer, TagInfo> tagInfoMap = new LinkedHashMap<>();
+        base.tagInfos.forEach(tagInfo -> tagInfoMap.put(tagInfo.getNumber(), tagInfo));
+        if (overlay.getElementsByTagName("fields").getLength() > 0) {
+            tagInfoMap.putAll(readFields(overlay));
+        }
+
+        Set<String> headerFields = new HashSet<>(base.headerFields);
+        Set<String> trailerFields = new HashSet<>(base.trailerFields);
+        Element headerElement = (Element) overlay.getElementsByTagName("header").item(0);
+        if (headerElement != null) {
+            headerFields.addAll(readHeaderFields(overlay));
+        }
+        if (overlay.getElementsByTagName("trailer").getLength() > 0) {
+            trailerFields.addAll(readTrailerFields(overlay));
+        }
+
+        Map<String, Integer> tagNumbers = new HashMap<>();
+        tagInfoMap.values().forEach(tagInfo -> tagNumbers.put(tagInfo.getName(), tagInfo.getNumber()));
+        Map<String, Element> components = readComponents(overlay);
+
+        FieldLayout headerLayout = base.headerLayout;
+        if (headerElement != null) {
+            LayoutBuilder builder = new LayoutBuilder();
+            builder.addAll(base.headerLayout);
+            collectLayout(headerElement, true, builder, tagNumbers, components);
+            headerLayout = new FieldLayout(builder.tags(), builder.required(), builder.groups());
+        }
+
+        Map<String, MessageDefinition> messageDefinitions = new HashMap<>(base.messageDefinitions);
+        NodeList messagesList = overlay.getElementsByTagName("messages");
+        if (messagesList.getLength() > 0) {
+            for (Element messageElement : childElements((Element) messagesList.item(0))) {
+                String msgType = messageElement.getAttribute("msgtype");
+                MessageDefinition existing = messageDefinitions.get(msgType);
+                LayoutBuilder builder = new LayoutBuilder();
+                if (existing != null) {
+                    builder.addAll(existing);
+                }
+                collectLayout(messageElement, true, builder, tagNumbers, components);
+                String name = existing != null ? existing.getName() : messageElement.getAttribute("name");
+                messageDefinitions.put(msgType, new MessageDefinition(msgType, name, builder.tags(),
+                        builder.required(), builder.groups()));
+            }
+        }
+
+        return new Dictionary(tagInfoMap.values(), headerFields, trailerFields, headerLayout, messageDefinitions);
+    }
+
+    private static Document parseXml(InputStream inputStream) throws Exception {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         DocumentBuilder builder = factory.newDocumentBuilder();
         Document document = builder.parse(inputStream);
@@ -56,7 +393,7 @@ public class Dictionary {
         return document;
     }
 
-    private Map<Integer, TagInfo> readFields(Document document) {
+    private static Map<Integer, TagInfo> readFields(Document document) {
         Map<Integer, TagInfo> fieldsTable = new HashMap<>();
 
         Element fieldsElement = (Element) document.getElementsByTagName("fields").item(0);
@@ -82,7 +419,28 @@ public class Dictionary {
         return fieldsTable;
     }
 
-    private Set<String> readHeaderFields(Document document) {
+    private TagTable compileTagTable(Collection<TagInfo> tagInfos) {
+        int maxTag = 0;
+        for (TagInfo tagInfo : tagInfos) {
+            maxTag = Math.max(maxTag, tagInfo.getNumber());
+        }
+
+        TagTable table = new TagTable(maxTag);
+        for (TagInfo tagInfo : tagInfos) {
+            byte section;
+            if (headerFields.contains(tagInfo.getName())) {
+                section = SECTION_HEADER;
+            } else if (trailerFields.contains(tagInfo.getName())) {
+                section = SECTION_TRAILER;
+            } else {
+                section = SECTION_BODY;
+            }
+            table.put(tagInfo, section);
+        }
+        return table;
+    }
+
+    private static Set<String> readHeaderFields(Document document) {
         Set<String> headerFields = new HashSet<>();
         Element headerElement = (Element) document.getElementsByTagName("header").item(0);
 
@@ -110,7 +468,7 @@ public class Dictionary {
         return headerFields;
     }
 
-    private Set<String> readTrailerFields(Document document) {
+    private static Set<String> readTrailerFields(Document document) {
         Set<String> trailerFields = new HashSet<>();
         Element trailerElement = (Element) document.getElementsByTagName("trailer").item(0);
 
@@ -124,4 +482,137 @@ public class Dictionary {
 
         return trailerFields;
     }
+
+    private static Map<String, Element> readComponents(Document document) {
+        Map<String, Element> components = new HashMap<>();
+        NodeList componentsList = document.getElementsByTagName("components");
+        if (componentsList.getLength() == 0) {
+            return components;
+        }
+
+        for (Element componentElement : childElements((Element) componentsList.item(0))) {
+            components.put(componentElement.getAttribute("name"), componentElement);
+        }
+        return components;
+    }
+
+    private static Map<String, MessageDefinition> readMessages(Document document, Map<String, Integer> tagNumbers,
+                                                        Map<String, Element> components) {
+        Map<String, MessageDefinition> messages = new HashMap<>();
+        NodeList messagesList = document.getElementsByTagName("messages");
+        if (messagesList.getLength() == 0) {
+            return messages;
+        }
+
+        for (Element messageElement : childElements((Element) messagesList.item(0))) {
+            LayoutBuilder builder = new LayoutBuilder();
+            collectLayout(messageElement, true, builder, tagNumbers, components);
+            String msgType = messageElement.getAttribute("msgtype");
+            messages.put(msgType, new MessageDefinition(msgType, messageElement.getAttribute("name"),
+                    builder.tags(), builder.required(), builder.groups()));
+        }
+        return messages;
+    }
+
+    private static FieldLayout readLayout(Element element, Map<String, Integer> tagNumbers, Map<String, Element> components) {
+        LayoutBuilder builder = new LayoutBuilder();
+        collectLayout(element, true, builder, tagNumbers, components);
+        return new FieldLayout(builder.tags(), builder.required(), builder.groups());
+    }
+
+    /**
+     * Appends the fields, groups and expanded components directly under an element to a layout.
+     * <p>
+     * Fields of a component that is itself optional are never required, whatever their own flag says.
+     * </p>
+     */
+    private static void collectLayout(Element parent, boolean requiredScope, LayoutBuilder builder,
+                               Map<String, Integer> tagNumbers, Map<String, Element> components) {
+        for (Element child : childElements(parent)) {
+            String name = child.getAttribute("name");
+            boolean required = requiredScope && "Y".equals(child.getAttribute("required"));
+            switch (child.getTagName()) {
+                case "field" -> builder.add(tagNumber(name, tagNumbers), required, null);
+                case "group" -> {
+                    LayoutBuilder groupBuilder = new LayoutBuilder();
+                    collectLayout(child, true, groupBuilder, tagNumbers, components);
+                    int countTag = tagNumber(name, tagNumbers);
+                    builder.add(countTag, required, new GroupDefinition(countTag, groupBuilder.tags(),
+                            groupBuilder.required(), groupBuilder.groups()));
+                }
+                case "component" -> {
+                    Element component = components.get(name);
+                    if (component == null) {
+                        throw new IllegalStateException("Unknown component " + name);
+                    }
+                    collectLayout(component, required, builder, tagNumbers, components);
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static int tagNumber(String name, Map<String, Integer> tagNumbers) {
+        Integer number = tagNumbers.get(name);
+        if (number == null) {
+            throw new IllegalStateException("Unknown field " + name);
+        }
+        return number;
+    }
+
+    private static List<Element> childElements(Element parent) {
+        List<Element> children = new ArrayList<>();
+        NodeList nodes = parent.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                children.add((Element) node);
+            }
+        }
+        return children;
+    }
+
+    private static final class LayoutBuilder {
+        private final List<Integer> tags = new ArrayList<>();
+        private final List<Boolean> required = new ArrayList<>();
+        private final List<GroupDefinition> groups = new ArrayList<>();
+
+        /**
+         * Copies the fields and groups of an existing layout, so that an overlay can append to it.
+         */
+        void addAll(FieldLayout layout) {
+            for (int i = 0; i < layout.getFieldCount(); i++) {
+                int tag = layout.getFieldTag(i);
+                add(tag, layout.isRequired(i), layout.getGroup(tag));
+            }
+        }
+
+        void add(int tag, boolean isRequired, GroupDefinition group) {
+            if (tags.contains(tag)) {
+                return;
+            }
+            tags.add(tag);
+            required.add(isRequired);
+            if (group != null) {
+                groups.add(group);
+            }
+        }
+
+        int[] tags() {
+            return tags.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        boolean[] required() {
+            boolean[] flags = new boolean[required.size()];
+            for (int i = 0; i < flags.length; i++) {
+                flags[i] = required.get(i);
+            }
+            return flags;
+        }
+
+        GroupDefinition[] groups() {
+            return groups.toArray(new GroupDefinition[0]);
+        }
+    }
 }
@@ -0,0 +1,208 @@
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads and writes the compact binary form of a {@link Dictionary}.
+ * <p>
+ * Parsing the XML specification with DOM dominates the cost of the first {@link Dictionary#getInstance} call.
+ * The build therefore runs {@link #main} once after compilation to write a {@code .dict} snapshot of every
+ * {@link ProtocolVersion} next to the classes; at runtime the snapshot is read with a single bulk read and
+ * decoded sequentially, with no XML parser involved. The format is versioned, and a dictionary is loaded from
+ * XML as before when no snapshot is bundled.
+ * </p>
+ * <p>
+ * Layout: magic, format version, fields (number, name, type, values), header and trailer field names, the
+ * header layout and every message layout. Layouts are written recursively, with nested repeating groups
+ * following their NumInGroup field.
+ * </p>
+ */
+public final class DictionarySnapshot {
+
+    private static final int MAGIC = 0x46495844; // "FIXD"
+    private static final int FORMAT_VERSION = 1;
+
+    private DictionarySnapshot() {
+    }
+
+    /**
+     * Compiles the bundled XML dictionaries into snapshots.
+     *
+     * @param args The output directory, normally {@code target/classes}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: DictionarySnapshot <output directory>");
+        }
+        Path outputDirectory = Paths.get(args[0]);
+        Files.createDirectories(outputDirectory);
+        for (ProtocolVersion version : ProtocolVersion.values()) {
+            Path target = outputDirectory.resolve(version.getSnapshotResourceName());
+            try (OutputStream out = Files.newOutputStream(target)) {
+                write(Dictionary.loadXml(version), out);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the bytes start like a snapshot rather than an XML dictionary.
+     */
+    static boolean isSnapshot(byte[] bytes) {
+        return bytes.length >= Integer.BYTES
+                && ((bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF)) == MAGIC;
+    }
+
+    /**
+     * Writes a dictionary in snapshot form.
+     *
+     * @param dictionary The dictionary to write.
+     * @param output The stream to write to; it is not closed.
+     */
+    public static void write(Dictionary dictionary, OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(output);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        List<TagInfo> tagInfos = dictionary.getTagInfos();
+        out.writeInt(tagInfos.size());
+        for (TagInfo tagInfo : tagInfos) {
+            out.writeInt(tagInfo.getNumber());
+            out.writeUTF(tagInfo.getName());
+            out.writeUTF(tagInfo.getType());
+            out.writeInt(tagInfo.getValues().size());
+            for (TagInfo.Value value : tagInfo.getValues()) {
+                out.writeUTF(value.value());
+                out.writeUTF(value.description());
+            }
+        }
+
+        writeNames(out, dictionary.getHeaderFields());
+        writeNames(out, dictionary.getTrailerFields());
+        writeLayout(out, dictionary.getHeaderLayout());
+
+        List<MessageDefinition> messages = new ArrayList<>(dictionary.getMessageDefinitions());
+        messages.sort(Comparator.comparing(MessageDefinition::getMsgType));
+        out.writeInt(messages.size());
+        for (MessageDefinition message : messages) {
+            out.writeUTF(message.getMsgType());
+            out.writeUTF(message.getName());
+            writeLayout(out, message);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a dictionary written by {@link #write}.
+     *
+     * @param input The snapshot stream; it is read to the end but not closed.
+     * @return The decoded dictionary.
+     * @throws IOException If the stream cannot be read or is not a snapshot of the supported format version.
+     */
+    public static Dictionary read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(input.readAllBytes()));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a dictionary snapshot");
+        }
+        int formatVersion = in.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported dictionary snapshot version " + formatVersion);
+        }
+
+        int fieldCount = in.readInt();
+        List<TagInfo> tagInfos = new ArrayList<>(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            TagInfo tagInfo = new TagInfo(in.readInt(), in.readUTF(), in.readUTF());
+            int valueCount = in.readInt();
+            for (int j = 0; j < valueCount; j++) {
+                tagInfo.addValue(new TagInfo.Value(in.readUTF(), in.readUTF()));
+            }
+            tagInfos.add(tagInfo);
+        }
+
+        Set<String> headerFields = readNames(in);
+        Set<String> trailerFields = readNames(in);
+        FieldLayout headerLayout = readLayout(in, null, null, 0);
+
+        int messageCount = in.readInt();
+        Map<String, MessageDefinition> messageDefinitions = new HashMap<>(messageCount * 2);
+        for (int i = 0; i < messageCount; i++) {
+            String msgType = in.readUTF();
+            String name = in.readUTF();
+            messageDefinitions.put(msgType, (MessageDefinition) readLayout(in, msgType, name, 0));
+        }
+
+        return new Dictionary(tagInfos, headerFields, trailerFields, headerLayout, messageDefinitions);
+    }
+
+    private static void writeNames(DataOutputStream out, Set<String> names) throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    private static Set<String> readNames(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Set<String> names = new LinkedHashSet<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            names.add(in.readUTF());
+        }
+        return names;
+    }
+
+    private static void writeLayout(DataOutputStream out, FieldLayout layout) throws IOException {
+        int count = layout.getFieldCount();
+        out.writeInt(count);
+        for (int i = 0; i < count; i++) {
+            int tag = layout.getFieldTag(i);
+            out.writeInt(tag);
+            out.writeBoolean(layout.isRequired(i));
+            GroupDefinition group = layout.getGroup(tag);
+            out.writeBoolean(group != null);
+            if (group != null) {
+                writeLayout(out, group);
+            }
+        }
+    }
+
+    /**
+     * Reads a layout; a message definition when {@code msgType} is given, a group when {@code countTag} is
+     * positive, and a plain layout otherwise.
+     */
+    private static FieldLayout readLayout(DataInputStream in, String msgType, String name, int countTag)
+            throws IOException {
+        int count = in.readInt();
+        int[] tags = new int[count];
+        boolean[] required = new boolean[count];
+        List<GroupDefinition> groups = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tags[i] = in.readInt();
+            required[i] = in.readBoolean();
+            if (in.readBoolean()) {
+                groups.add((GroupDefinition) readLayout(in, null, null, tags[i]));
+            }
+        }
+
+        GroupDefinition[] groupArray = groups.toArray(new GroupDefinition[0]);
+        if (msgType != null) {
+            return new MessageDefinition(msgType, name, tags, required, groupArray);
+        }
+        if (countTag > 0) {
+            return new GroupDefinition(countTag, tags, required, groupArray);
+        }
+        return new FieldLayout(tags, required, groupArray);
+    }
+}
@@ -0,0 +1,103 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer that {@link MessageDisplayer} renders into.
+ * <p>
+ * The buffer is meant to be allocated once and reused: {@link #clear()} keeps the capacity, so rendering a
+ * stream of messages allocates only while the buffer grows to fit the largest one. The rendered bytes are
+ * handed on with {@link #writeTo(OutputStream)} or {@link #appendTo(Appendable)}, or read directly from
+ * {@link #array()}. Instances are not thread-safe.
+ * </p>
+ */
+public final class DisplayBuffer {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private byte[] bytes;
+    private int length;
+
+    public DisplayBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DisplayBuffer(int initialCapacity) {
+        this.bytes = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public DisplayBuffer append(byte b) {
+        ensureCapacity(1);
+        bytes[length++] = b;
+        return this;
+    }
+
+    public DisplayBuffer append(byte[] src) {
+        return append(src, 0, src.length);
+    }
+
+    public DisplayBuffer append(byte[] src, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(src, offset, bytes, length, count);
+        length += count;
+        return this;
+    }
+
+    /**
+     * Appends a non-negative integer as ASCII digits.
+     */
+    public DisplayBuffer append(int value) {
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    /**
+     * Returns the backing array; the rendered bytes are at indices 0 to {@link #length()} - 1. The array is
+     * replaced when the buffer grows.
+     */
+    public byte[] array() {
+        return bytes;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Discards the content and keeps the capacity.
+     */
+    public void clear() {
+        length = 0;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, length);
+    }
+
+    /**
+     * Appends the content to a character sink, one char per byte, without copying it into a string.
+     */
+    public void appendTo(Appendable out) throws IOException {
+        out.append(new AsciiSequence(bytes, 0, length));
+    }
+
+    @Override
+    public String toString() {
+        return new AsciiSequence(bytes, 0, length).toString();
+    }
+
+    private void ensureCapacity(int additional) {
+        if (length + additional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+        }
+    }
+}
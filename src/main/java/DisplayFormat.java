@@ -0,0 +1,33 @@
+/**
+ * Renders the fields of a message into a {@link DisplayBuffer}.
+ * <p>
+ * {@link MessageDisplayer} calls {@link #beginMessage}, then {@link #field} once per field in wire order, then
+ * {@link #endMessage}. Names and descriptions are passed as pre-encoded ASCII and the value as a range of the
+ * message bytes, so a format can render without creating strings. The built-in formats are the constants of
+ * {@link StandardDisplayFormat}.
+ * </p>
+ */
+public interface DisplayFormat {
+
+    default void beginMessage(DisplayBuffer out) {
+    }
+
+    /**
+     * Renders one field.
+     *
+     * @param out The buffer to append to.
+     * @param index The position of the field in the message, starting at 0.
+     * @param tag The tag number.
+     * @param name The field name, or null if the tag is not in the dictionary.
+     * @param buffer The array holding the value.
+     * @param offset The index of the first value byte.
+     * @param length The number of value bytes.
+     * @param description The description of the value, or null if the field has no enumerated values or the
+     *                    value is not one of them.
+     */
+    void field(DisplayBuffer out, int index, int tag, byte[] name, byte[] buffer, int offset, int length,
+               byte[] description);
+
+    default void endMessage(DisplayBuffer out) {
+    }
+}
@@ -0,0 +1,64 @@
+import java.util.Arrays;
+
+/**
+ * The ordered field layout of a message, a repeating group entry or the standard header, as defined in the
+ * FIX dictionary with all components expanded.
+ * <p>
+ * Membership checks and nested group lookups are answered from primitive arrays, so they can be used on the
+ * parsing hot path without boxing.
+ * </p>
+ */
+public class FieldLayout {
+
+    private final int[] fieldTags;
+    private final boolean[] required;
+    private final int[] sortedTags;
+    private final int[] groupTags;
+    private final GroupDefinition[] groups;
+
+    FieldLayout(int[] fieldTags, boolean[] required, GroupDefinition[] groups) {
+        this.fieldTags = fieldTags;
+        this.required = required;
+        this.sortedTags = fieldTags.clone();
+        Arrays.sort(this.sortedTags);
+        this.groups = groups;
+        this.groupTags = new int[groups.length];
+        for (int i = 0; i < groups.length; i++) {
+            groupTags[i] = groups[i].getCountTag();
+        }
+    }
+
+    /**
+     * Returns the number of fields in the layout, counting each nested group as its NumInGroup field.
+     */
+    public int getFieldCount() {
+        return fieldTags.length;
+    }
+
+    public int getFieldTag(int index) {
+        return fieldTags[index];
+    }
+
+    public boolean isRequired(int index) {
+        return required[index];
+    }
+
+    public boolean containsTag(int tag) {
+        return Arrays.binarySearch(sortedTags, tag) >= 0;
+    }
+
+    /**
+     * Returns the definition of the repeating group introduced by the given NumInGroup tag.
+     *
+     * @param countTag The NumInGroup tag number.
+     * @return The group definition, or null if the tag does not start a group in this layout.
+     */
+    public GroupDefinition getGroup(int countTag) {
+        for (int i = 0; i < groupTags.length; i++) {
+            if (groupTags[i] == countTag) {
+                return groups[i];
+            }
+        }
+        return null;
+    }
+}
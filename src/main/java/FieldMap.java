@@ -0,0 +1,269 @@
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An insertion-ordered map from tag number to field value, holding one section of a {@link Message}.
+ * <p>
+ * Tags, value offsets and value lengths are kept in parallel primitive arrays, and the value bytes are copied
+ * back to back into a single byte array, so a field costs a few array slots instead of a boxed key and a map
+ * entry. Tags are located through an open-addressed index with linear probing. Strings are only created when
+ * a value is read as a {@link String}, and are cached until the map is cleared. Clearing keeps all arrays, so
+ * a reused map stops allocating once it has grown to fit the largest section seen.
+ * </p>
+ * <p>
+ * Putting a tag that is already present replaces its value in place and keeps its position, like a
+ * {@link java.util.LinkedHashMap}.
+ * </p>
+ */
+final class FieldMap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_DATA_CAPACITY = 256;
+    private static final int EMPTY_SLOT = 0;
+
+    private int[] tags;
+    private int[] offsets;
+    private int[] lengths;
+    private String[] strings;
+    private int count;
+
+    private byte[] data;
+    private int dataLength;
+
+    // Field index + 1 per slot, or EMPTY_SLOT; twice the field capacity keeps probe sequences short
+    private int[] slots;
+
+    private Map<Integer, String> mapView;
+    private ValueCache valueCache;
+
+    FieldMap() {
+        this.tags = new int[DEFAULT_CAPACITY];
+        this.offsets = new int[DEFAULT_CAPACITY];
+        this.lengths = new int[DEFAULT_CAPACITY];
+        this.strings = new String[DEFAULT_CAPACITY];
+        this.data = new byte[DEFAULT_DATA_CAPACITY];
+        this.slots = new int[DEFAULT_CAPACITY * 2];
+    }
+
+    int size() {
+        return count;
+    }
+
+    int getTagAt(int index) {
+        return tags[index];
+    }
+
+    int getValueOffsetAt(int index) {
+        return offsets[index];
+    }
+
+    int getValueLengthAt(int index) {
+        return lengths[index];
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Sets the cache used to create value strings of interned tags, or null to create a new string per value.
+     */
+    void setValueCache(ValueCache valueCache) {
+        this.valueCache = valueCache;
+    }
+
+    String getStringAt(int index) {
+        String value = strings[index];
+        if (value == null) {
+            value = valueCache != null
+                    ? valueCache.getString(tags[index], data, offsets[index], lengths[index])
+                    : new AsciiSequence(data, offsets[index], lengths[index]).toString();
+            strings[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the position of a tag in insertion order, or -1 if the tag is not present.
+     */
+    int indexOf(int tag) {
+        int mask = slots.length - 1;
+        for (int slot = hash(tag) & mask; slots[slot] != EMPTY_SLOT; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (tags[index] == tag) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copies a value from a byte range, such as a field of a parsed buffer.
+     */
+    void put(int tag, byte[] buffer, int offset, int length) {
+        int index = indexFor(tag);
+        ensureData(length);
+        System.arraycopy(buffer, offset, data, dataLength, length);
+        setValue(index, length);
+    }
+
+    /**
+     * Stores a value given as a string. The string itself is kept and returned by {@link #getStringAt(int)};
+     * its characters are also stored as bytes for the typed accessors, with characters outside ISO-8859-1
+     * replaced by {@code '?'}.
+     */
+    void put(int tag, String value) {
+        Objects.requireNonNull(value, "value");
+        int index = indexFor(tag);
+        int length = value.length();
+        ensureData(length);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            data[dataLength + i] = (byte) (c <= 0xFF ? c : '?');
+        }
+        setValue(index, length);
+        strings[index] = value;
+    }
+
+    void clear() {
+        Arrays.fill(strings, 0, count, null);
+        Arrays.fill(slots, EMPTY_SLOT);
+        count = 0;
+        dataLength = 0;
+    }
+
+    /**
+     * Returns a {@link Map} view of the fields in insertion order. The view is created once and reflects later
+     * changes. Adding fields through {@link Map#put} is supported; removing fields is not.
+     */
+    Map<Integer, String> asMap() {
+        if (mapView == null) {
+            mapView = new MapView();
+        }
+        return mapView;
+    }
+
+    /**
+     * Returns the index of a tag, appending a new empty field if the tag is not present.
+     */
+    private int indexFor(int tag) {
+        int index = indexOf(tag);
+        if (index != -1) {
+            return index;
+        }
+        if (count == tags.length) {
+            grow();
+        }
+        index = count++;
+        tags[index] = tag;
+        insertSlot(tag, index);
+        return index;
+    }
+
+    private void setValue(int index, int length) {
+        offsets[index] = dataLength;
+        lengths[index] = length;
+        strings[index] = null;
+        dataLength += length;
+    }
+
+    private void insertSlot(int tag, int index) {
+        int mask = slots.length - 1;
+        int slot = hash(tag) & mask;
+        while (slots[slot] != EMPTY_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = index + 1;
+    }
+
+    private static int hash(int tag) {
+        int h = tag * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void ensureData(int length) {
+        if (dataLength + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length << 1, dataLength + length));
+        }
+    }
+
+    private void grow() {
+        int newCapacity = tags.length << 1;
+        tags = Arrays.copyOf(tags, newCapacity);
+        offsets = Arrays.copyOf(offsets, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+        strings = Arrays.copyOf(strings, newCapacity);
+        slots = new int[newCapacity * 2];
+        for (int i = 0; i < count; i++) {
+            insertSlot(tags[i], i);
+        }
+    }
+
+    private final class MapView extends AbstractMap<Integer, String> {
+
+        private final Set<Entry<Integer, String>> entrySet = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, String>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < count;
+                    }
+
+                    @Override
+                    public Entry<Integer, String> next() {
+                        if (next >= count) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = next++;
+                        return new SimpleImmutableEntry<>(tags[index], getStringAt(index));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+
+        @Override
+        public Set<Entry<Integer, String>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer tag && indexOf(tag) != -1;
+        }
+
+        @Override
+        public String get(Object key) {
+            if (!(key instanceof Integer tag)) {
+                return null;
+            }
+            int index = indexOf(tag);
+            return index == -1 ? null : getStringAt(index);
+        }
+
+        @Override
+        public String put(Integer key, String value) {
+            String previous = get(key);
+            FieldMap.this.put(key, value);
+            return previous;
+        }
+    }
+}
@@ -0,0 +1,485 @@
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Random access to the messages of a FIX log file through a persistent offset index.
+ * <p>
+ * The log is memory-mapped with {@link FileChannel#map} in fixed-size segments. The first time a log is opened,
+ * one pass over it records the offset and length of every message together with its MsgSeqNum (34), SendingTime
+ * (52) and ClOrdID (11) in a sidecar file next to the log ({@code <log>.idx}). Later opens load the sidecar and
+ * only index what was appended since, and {@link #refresh()} does the same for a log that is still being
+ * written. Lookups resolve entries from the in-memory index, and {@link #read(int, MessageView)} copies and
+ * parses just the one frame. Example usage:
+ * <pre>
+ * {@code
+ * try (FixLogReader reader = FixLogReader.open(Path.of("session.log"), ProtocolVersion.FIX44)) {
+ *     for (int entry : reader.findByClOrdId("ORD-1")) {
+ *         Message message = reader.read(entry);
+ *     }
+ * }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Messages may be separated by line breaks. An incomplete message at the end of the log is left unindexed
+ * until a later refresh finds it complete. Instances are not thread-safe.
+ * </p>
+ */
+public class FixLogReader implements Closeable {
+
+    public static final String INDEX_SUFFIX = ".idx";
+    public static final long NO_SENDING_TIME = Long.MIN_VALUE;
+    public static final int NO_SEQ_NUM = -1;
+
+    static final long SEGMENT_SIZE = 256L * 1024 * 1024;
+    static final int MAX_FRAME_LENGTH = 4 * 1024 * 1024;
+
+    private static final int INDEX_MAGIC = 0x46584958; // "FXIX"
+    private static final int INDEX_VERSION = 1;
+    private static final int INDEX_HEADER_LENGTH = 24;
+    private static final int FRAME_PREFIX_LENGTH = 32;
+
+    private static final byte SOH = 1;
+    private static final int CLORDID_FIELD = 11;
+    private static final int MSG_SEQ_NUM_FIELD = 34;
+    private static final int SENDING_TIME_FIELD = 52;
+
+    private final FileChannel log;
+    private final FileChannel index;
+    private final Parser parser;
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private byte[] frame = new byte[1024];
+
+    private long indexedLength;
+    private long indexRecordBytes;
+    private int count;
+    private long[] offsets = new long[1024];
+    private int[] lengths = new int[1024];
+    private int[] seqNums = new int[1024];
+    private long[] sendingTimes = new long[1024];
+    private final Map<String, int[]> clOrdIds = new HashMap<>();
+    private long[] sortedSeqNums;
+
+    private FixLogReader(FileChannel log, FileChannel index, ProtocolVersion version) {
+        this.log = log;
+        this.index = index;
+        this.parser = new Parser(version);
+    }
+
+    /**
+     * Opens a log, loading its sidecar index if one exists and indexing any messages it does not cover yet.
+     *
+     * @param logFile The FIX log file.
+     * @param version The FIX protocol version used to parse messages read from the log.
+     */
+    public static FixLogReader open(Path logFile, ProtocolVersion version) throws IOException {
+        Path indexFile = logFile.resolveSibling(logFile.getFileName() + INDEX_SUFFIX);
+        FileChannel log = FileChannel.open(logFile, StandardOpenOption.READ);
+        FileChannel index = null;
+        try {
+            index = FileChannel.open(indexFile, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+            FixLogReader reader = new FixLogReader(log, index, version);
+            reader.loadIndex();
+            reader.refresh();
+            return reader;
+        } catch (IOException | RuntimeException e) {
+            log.close();
+            if (index != null) {
+                index.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Indexes the complete messages appended to the log since the last refresh and persists them to the sidecar.
+     *
+     * @return The number of messages added to the index.
+     */
+    public int refresh() throws IOException {
+        long size = log.size();
+        long pos = indexedLength;
+        int added = 0;
+        ByteBuffer records = ByteBuffer.allocate(64 * 1024);
+        while (true) {
+            pos = skipLineBreaks(pos, size);
+            int frameLength = frameLengthAt(pos, size);
+            if (frameLength == -1) {
+                break;
+            }
+            String clOrdId = addEntry(pos, frameLength);
+            int entry = count - 1;
+            if (clOrdId != null) {
+                indexClOrdId(clOrdId, entry);
+            }
+            byte[] key = clOrdId == null ? new byte[0] : clOrdId.getBytes(StandardCharsets.US_ASCII);
+            if (records.remaining() < 26 + key.length) {
+                flushRecords(records);
+            }
+            records.putLong(pos).putInt(frameLength).putInt(seqNums[entry]).putLong(sendingTimes[entry])
+                    .putShort((short) key.length).put(key);
+            pos += frameLength;
+            added++;
+        }
+        flushRecords(records);
+        indexedLength = pos;
+        writeIndexHeader();
+        if (added > 0) {
+            sortedSeqNums = null;
+        }
+        return added;
+    }
+
+    public int getMessageCount() {
+        return count;
+    }
+
+    public long getOffset(int entry) {
+        checkEntry(entry);
+        return offsets[entry];
+    }
+
+    public int getLength(int entry) {
+        checkEntry(entry);
+        return lengths[entry];
+    }
+
+    /**
+     * Returns the MsgSeqNum of an entry, or {@link #NO_SEQ_NUM} if the message has none.
+     */
+    public int getSeqNum(int entry) {
+        checkEntry(entry);
+        return seqNums[entry];
+    }
+
+    /**
+     * Returns the SendingTime of an entry in epoch nanoseconds, or {@link #NO_SENDING_TIME} if the message has none.
+     */
+    public long getSendingTime(int entry) {
+        checkEntry(entry);
+        return sendingTimes[entry];
+    }
+
+    /**
+     * Finds all entries with a MsgSeqNum. A log holding both directions of a session, or several sessions,
+     * can contain the same number more than once.
+     *
+     * @return The matching entries in log order.
+     */
+    public int[] findBySeqNum(int seqNum) {
+        if (sortedSeqNums == null) {
+            sortedSeqNums = new long[count];
+            for (int i = 0; i < count; i++) {
+                sortedSeqNums[i] = (long) seqNums[i] << 32 | i;
+            }
+            Arrays.sort(sortedSeqNums);
+        }
+        long key = (long) seqNum << 32;
+        int from = Arrays.binarySearch(sortedSeqNums, key);
+        from = from < 0 ? -from - 1 : from;
+        int to = from;
+        while (to < sortedSeqNums.length && (int) (sortedSeqNums[to] >> 32) == seqNum) {
+            to++;
+        }
+        int[] entries = new int[to - from];
+        for (int i = from; i < to; i++) {
+            entries[i - from] = (int) sortedSeqNums[i];
+        }
+        return entries;
+    }
+
+    /**
+     * Finds all entries with a ClOrdID, e.g. an order and its execution reports.
+     *
+     * @return The matching entries in log order.
+     */
+    public int[] findByClOrdId(String clOrdId) {
+        int[] entries = clOrdIds.get(clOrdId);
+        return entries == null ? new int[0] : Arrays.copyOfRange(entries, 1, entries[0] + 1);
+    }
+
+    /**
+     * Finds the first entry sent at or after a point in time. The entries are binary searched, which relies
+     * on the log being written in SendingTime order; messages without a SendingTime are treated as sent at
+     * the time of the closest preceding one.
+     *
+     * @param epochNanos The point in time in epoch nanoseconds.
+     * @return The entry, or {@link #getMessageCount()} if every message was sent earlier.
+     */
+    public int findBySendingTime(long epochNanos) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (effectiveSendingTime(mid) < epochNanos) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Parses one indexed message into a view. The view refers to an internal buffer and is valid until the
+     * next read.
+     */
+    public void read(int entry, MessageView view) throws IOException {
+        checkEntry(entry);
+        readFrame(offsets[entry], lengths[entry]);
+        parser.parse(frame, 0, lengths[entry], view);
+    }
+
+    /**
+     * Parses one indexed message.
+     */
+    public Message read(int entry) throws IOException {
+        checkEntry(entry);
+        readFrame(offsets[entry], lengths[entry]);
+        return parser.parse(Arrays.copyOf(frame, lengths[entry]));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            index.close();
+        } finally {
+            log.close();
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        long size = index.size();
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_LENGTH);
+        if (size < INDEX_HEADER_LENGTH || readIndex(header, 0) != INDEX_HEADER_LENGTH
+                || header.getInt(0) != INDEX_MAGIC || header.getInt(4) != INDEX_VERSION
+                || header.getLong(8) > log.size() || INDEX_HEADER_LENGTH + header.getLong(16) > size) {
+            resetIndex();
+            return;
+        }
+        long recordBytes = header.getLong(16);
+        byte[] records = new byte[(int) recordBytes];
+        if (readIndex(ByteBuffer.wrap(records), INDEX_HEADER_LENGTH) != recordBytes) {
+            resetIndex();
+            return;
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(records));
+        while (in.available() > 0) {
+            long offset = in.readLong();
+            int length = in.readInt();
+            int seqNum = in.readInt();
+            long sendingTime = in.readLong();
+            byte[] key = new byte[in.readShort()];
+            in.readFully(key);
+            addEntry(offset, length, seqNum, sendingTime);
+            if (key.length > 0) {
+                indexClOrdId(new String(key, StandardCharsets.US_ASCII), count - 1);
+            }
+        }
+        indexedLength = header.getLong(8);
+        indexRecordBytes = recordBytes;
+        // Drop records appended by a writer that stopped before committing the header
+        index.truncate(INDEX_HEADER_LENGTH + recordBytes);
+    }
+
+    /**
+     * Reads from the index until the buffer is full or the end of the file is reached.
+     *
+     * @return The number of bytes read.
+     */
+    private int readIndex(ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            if (index.read(target, position + target.position()) == -1) {
+                break;
+            }
+        }
+        return target.position();
+    }
+
+    private void resetIndex() throws IOException {
+        index.truncate(0);
+        indexedLength = 0;
+        indexRecordBytes = 0;
+        writeIndexHeader();
+    }
+
+    private void flushRecords(ByteBuffer records) throws IOException {
+        records.flip();
+        while (records.hasRemaining()) {
+            indexRecordBytes += index.write(records, INDEX_HEADER_LENGTH + indexRecordBytes);
+        }
+        records.clear();
+    }
+
+    /**
+     * Commits the records written so far; the header is written last so a torn append is discarded on load.
+     */
+    private void writeIndexHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_LENGTH)
+                .putInt(INDEX_MAGIC).putInt(INDEX_VERSION).putLong(indexedLength).putLong(indexRecordBytes);
+        header.flip();
+        while (header.hasRemaining()) {
+            index.write(header, header.position());
+        }
+    }
+
+    /**
+     * Adds an entry for the frame in the frame buffer, extracting its keys with a plain field scan that stops
+     * at the ClOrdID, as the body is otherwise irrelevant to the index.
+     *
+     * @return The ClOrdID of the message, or null if it has none.
+     */
+    private String addEntry(long offset, int length) {
+        int seqNum = NO_SEQ_NUM;
+        long sendingTime = NO_SENDING_TIME;
+        String clOrdId = null;
+        int pos = 0;
+        while (pos < length && clOrdId == null) {
+            int tag = 0;
+            while (pos < length && frame[pos] != '=') {
+                tag = tag * 10 + frame[pos++] - '0';
+            }
+            int valueStart = ++pos;
+            while (pos < length && frame[pos] != SOH) {
+                pos++;
+            }
+            if (tag == MSG_SEQ_NUM_FIELD) {
+                seqNum = ValueDecoder.decodeInt(frame, valueStart, pos - valueStart);
+            } else if (tag == SENDING_TIME_FIELD) {
+                sendingTime = ValueDecoder.decodeUtcTimestamp(frame, valueStart, pos - valueStart);
+            } else if (tag == CLORDID_FIELD) {
+                clOrdId = new String(frame, valueStart, pos - valueStart, StandardCharsets.US_ASCII);
+            }
+            pos++;
+        }
+        addEntry(offset, length, seqNum, sendingTime);
+        return clOrdId;
+    }
+
+    private void addEntry(long offset, int length, int seqNum, long sendingTime) {
+        if (count == offsets.length) {
+            int capacity = count * 2;
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            seqNums = Arrays.copyOf(seqNums, capacity);
+            sendingTimes = Arrays.copyOf(sendingTimes, capacity);
+        }
+        offsets[count] = offset;
+        lengths[count] = length;
+        seqNums[count] = seqNum;
+        sendingTimes[count] = sendingTime;
+        count++;
+    }
+
+    /**
+     * Appends an entry to the list kept for a ClOrdID; element 0 of the list holds its size.
+     */
+    private void indexClOrdId(String clOrdId, int entry) {
+        int[] entries = clOrdIds.get(clOrdId);
+        if (entries == null) {
+            entries = new int[2];
+        } else if (entries[0] + 1 == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        entries[++entries[0]] = entry;
+        clOrdIds.put(clOrdId, entries);
+    }
+
+    private long effectiveSendingTime(int entry) {
+        for (int i = entry; i >= 0; i--) {
+            if (sendingTimes[i] != NO_SENDING_TIME) {
+                return sendingTimes[i];
+            }
+        }
+        return NO_SENDING_TIME;
+    }
+
+    private void checkEntry(int entry) {
+        if (entry < 0 || entry >= count) {
+            throw new IndexOutOfBoundsException("Entry " + entry + ", count " + count);
+        }
+    }
+
+    private long skipLineBreaks(long pos, long size) throws IOException {
+        while (pos < size) {
+            MappedByteBuffer segment = segment(pos, 1, size);
+            byte b = segment.get((int) (pos % SEGMENT_SIZE));
+            if (b != '\n' && b != '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Returns the length of the frame at a position, leaving the complete frame in the frame buffer, or -1
+     * if it is not yet complete.
+     */
+    private int frameLengthAt(long pos, long size) throws IOException {
+        int available = (int) Math.min(FRAME_PREFIX_LENGTH, size - pos);
+        if (available <= 0) {
+            return -1;
+        }
+        readFrame(pos, available);
+        int frameLength = StreamFramer.frameLength(frame, 0, available);
+        if (frameLength > MAX_FRAME_LENGTH) {
+            throw new ParserException("Invalid data: Message at offset " + pos + " exceeds maximum frame length of "
+                    + MAX_FRAME_LENGTH + " bytes");
+        }
+        if (frameLength == -1) {
+            if (available == FRAME_PREFIX_LENGTH) {
+                throw new ParserException("Invalid data: Malformed message prefix at offset " + pos);
+            }
+            return -1;
+        }
+        if (frameLength > size - pos) {
+            return -1;
+        }
+        readFrame(pos, frameLength);
+        // Now that the whole frame is in the buffer, this checks the 10= trailer and throws if it is missing
+        StreamFramer.frameLength(frame, 0, frameLength);
+        return frameLength;
+    }
+
+    /**
+     * Copies a byte range of the log into the frame buffer.
+     */
+    private void readFrame(long offset, int length) throws IOException {
+        if (frame.length < length) {
+            frame = new byte[Math.max(length, frame.length * 2)];
+        }
+        segment(offset, length, log.size()).get((int) (offset % SEGMENT_SIZE), frame, 0, length);
+    }
+
+    /**
+     * Returns the mapping that contains the given range. Segment {@code k} maps the log from {@code k * SEGMENT_SIZE}
+     * with {@link #MAX_FRAME_LENGTH} bytes of overlap, so every frame lies within the segment it starts in.
+     * Segments are remapped when the log has grown past them.
+     */
+    private MappedByteBuffer segment(long offset, int length, long size) throws IOException {
+        int k = (int) (offset / SEGMENT_SIZE);
+        if (k >= segments.length) {
+            segments = Arrays.copyOf(segments, k + 1);
+        }
+        MappedByteBuffer segment = segments[k];
+        long start = k * SEGMENT_SIZE;
+        if (segment == null || start + segment.capacity() < offset + length) {
+            long mappedLength = Math.min(SEGMENT_SIZE + MAX_FRAME_LENGTH, size - start);
+            segment = log.map(FileChannel.MapMode.READ_ONLY, start, mappedLength);
+            segments[k] = segment;
+        }
+        return segment;
+    }
+}
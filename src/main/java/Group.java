@@ -0,0 +1,241 @@
+import java.util.Arrays;
+
+/**
+ * A repeating group instance of a {@link Message}.
+ * <p>
+ * The fields of all entries are stored back to back in flat arrays, with an offset table giving the first
+ * field of each entry, so entry {@code n} is located in constant time and a large group costs a handful of
+ * arrays rather than one map per entry. The NumInGroup field of a nested group stays in its parent entry,
+ * while the nested group's own fields are only reachable through {@link #getGroup(int, int)}.
+ * </p>
+ * <p>
+ * Value bytes are copied into a single byte array, and a value string is only created when the value is read
+ * and is then cached, as in the message sections. A group belongs to the message it was parsed into and is
+ * read-only to callers. When that message is parsed into again, for example as a {@link MessagePool} slot,
+ * the group and its nested groups are refilled in place and keep their arrays, so a reused message parses
+ * repeating groups without allocating. A group is therefore only valid until its message is reused.
+ * </p>
+ */
+public final class Group {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_DATA_CAPACITY = 128;
+    private static final int DEFAULT_NESTED_CAPACITY = 4;
+
+    private int countTag;
+    private int[] entryOffsets;
+    private int entryCount;
+
+    private int[] tags;
+    private int[] offsets;
+    private int[] lengths;
+    private String[] strings;
+    private int fieldCount;
+
+    private byte[] data;
+    private int dataLength;
+
+    private int[] nestedEntries;
+    private Group[] nestedGroups;
+    private int nestedCount;
+
+    private ValueCache valueCache;
+
+    Group() {
+        this.entryOffsets = new int[DEFAULT_CAPACITY + 1];
+        this.tags = new int[DEFAULT_CAPACITY];
+        this.offsets = new int[DEFAULT_CAPACITY];
+        this.lengths = new int[DEFAULT_CAPACITY];
+        this.strings = new String[DEFAULT_CAPACITY];
+        this.data = new byte[DEFAULT_DATA_CAPACITY];
+        this.nestedEntries = new int[DEFAULT_NESTED_CAPACITY];
+        this.nestedGroups = new Group[DEFAULT_NESTED_CAPACITY];
+    }
+
+    /**
+     * Refills the group, including its nested groups, from a parsed {@link MessageView}. Nested groups are
+     * refilled in place as well; the arrays only grow when a group is larger than any seen before.
+     *
+     * @param view The parsed message.
+     * @param group The group index within the view.
+     */
+    void fill(MessageView view, int group) {
+        int entries = view.getGroupEntryCount(group);
+        int groupEnd = view.getGroupEnd(group);
+
+        // Groups are indexed in the order their NumInGroup fields appear, so the groups nested at any depth in
+        // this one follow it directly and bound the number of its direct children
+        int spanEnd = group + 1;
+        while (spanEnd < view.getGroupCount() && view.getGroupCountField(spanEnd) < groupEnd) {
+            spanEnd++;
+        }
+
+        Arrays.fill(strings, 0, fieldCount, null);
+        countTag = view.getGroupDefinition(group).getCountTag();
+        valueCache = view.getValueCache();
+        entryCount = entries;
+        fieldCount = 0;
+        dataLength = 0;
+        nestedCount = 0;
+        ensureCapacity(entries, entries == 0 ? 0 : groupEnd - view.getEntryStart(view.getGroupEntry(group, 0)),
+                spanEnd - group - 1);
+
+        int nextGroup = group + 1;
+        for (int n = 0; n < entries; n++) {
+            int entry = view.getGroupEntry(group, n);
+            entryOffsets[n] = fieldCount;
+            int i = view.getEntryStart(entry);
+            while (i < view.getEntryEnd(entry)) {
+                addField(view, i);
+                if (nextGroup < spanEnd && view.getGroupCountField(nextGroup) == i) {
+                    Group nested = nestedGroups[nestedCount];
+                    if (nested == null) {
+                        nested = new Group();
+                        nestedGroups[nestedCount] = nested;
+                    }
+                    nested.fill(view, nextGroup);
+                    nestedEntries[nestedCount++] = n;
+                    i = view.getGroupEnd(nextGroup);
+                    while (nextGroup < spanEnd && view.getGroupCountField(nextGroup) < i) {
+                        nextGroup++;
+                    }
+                } else {
+                    i++;
+                }
+            }
+        }
+        entryOffsets[entries] = fieldCount;
+    }
+
+    public int getCountTag() {
+        return countTag;
+    }
+
+    /**
+     * Returns the number of entries in the group.
+     */
+    public int size() {
+        return entryCount;
+    }
+
+    public int getFieldCount(int entry) {
+        checkEntry(entry);
+        return entryOffsets[entry + 1] - entryOffsets[entry];
+    }
+
+    public int getTag(int entry, int index) {
+        return tags[fieldPosition(entry, index)];
+    }
+
+    public String getValue(int entry, int index) {
+        return getStringAt(fieldPosition(entry, index));
+    }
+
+    /**
+     * Returns the array holding the value bytes of all fields, for {@link #getValueOffset(int, int)}.
+     */
+    byte[] getData() {
+        return data;
+    }
+
+    int getValueOffset(int entry, int index) {
+        return offsets[fieldPosition(entry, index)];
+    }
+
+    int getValueLength(int entry, int index) {
+        return lengths[fieldPosition(entry, index)];
+    }
+
+    /**
+     * Returns the value of a tag within an entry.
+     *
+     * @param entry The zero-based entry position.
+     * @param tag The tag number.
+     * @return The value, or null if the entry does not contain the tag.
+     */
+    public String get(int entry, int tag) {
+        checkEntry(entry);
+        for (int i = entryOffsets[entry]; i < entryOffsets[entry + 1]; i++) {
+            if (tags[i] == tag) {
+                return getStringAt(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a group nested inside an entry.
+     *
+     * @param entry The zero-based entry position.
+     * @param countTag The NumInGroup tag of the nested group.
+     * @return The nested group, or null if the entry does not contain it.
+     */
+    public Group getGroup(int entry, int countTag) {
+        checkEntry(entry);
+        for (int i = 0; i < nestedCount; i++) {
+            if (nestedEntries[i] == entry && nestedGroups[i].getCountTag() == countTag) {
+                return nestedGroups[i];
+            }
+        }
+        return null;
+    }
+
+    private String getStringAt(int position) {
+        String value = strings[position];
+        if (value == null) {
+            value = valueCache != null
+                    ? valueCache.getString(tags[position], data, offsets[position], lengths[position])
+                    : new AsciiSequence(data, offsets[position], lengths[position]).toString();
+            strings[position] = value;
+        }
+        return value;
+    }
+
+    private void addField(MessageView view, int index) {
+        int length = view.getValueLengthAt(index);
+        if (dataLength + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length << 1, dataLength + length));
+        }
+        view.copyValueAt(index, data, dataLength);
+        tags[fieldCount] = view.getTagAt(index);
+        offsets[fieldCount] = dataLength;
+        lengths[fieldCount] = length;
+        fieldCount++;
+        dataLength += length;
+    }
+
+    /**
+     * Grows the arrays to hold a group of the given size. The field count may include the fields of nested
+     * groups, which are not stored here, so it is an upper bound.
+     */
+    private void ensureCapacity(int entries, int fields, int nested) {
+        if (entries + 1 > entryOffsets.length) {
+            entryOffsets = new int[Math.max(entryOffsets.length << 1, entries + 1)];
+        }
+        if (fields > tags.length) {
+            int capacity = Math.max(tags.length << 1, fields);
+            tags = new int[capacity];
+            offsets = new int[capacity];
+            lengths = new int[capacity];
+            strings = new String[capacity];
+        }
+        if (nested > nestedGroups.length) {
+            int capacity = Math.max(nestedGroups.length << 1, nested);
+            nestedEntries = new int[capacity];
+            nestedGroups = Arrays.copyOf(nestedGroups, capacity);
+        }
+    }
+
+    private int fieldPosition(int entry, int index) {
+        if (index < 0 || index >= getFieldCount(entry)) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return entryOffsets[entry] + index;
+    }
+
+    private void checkEntry(int entry) {
+        if (entry < 0 || entry >= size()) {
+            throw new IndexOutOfBoundsException(entry);
+        }
+    }
+}
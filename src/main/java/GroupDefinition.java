@@ -0,0 +1,27 @@
+/**
+ * The layout of one entry of a repeating group.
+ * <p>
+ * Every entry starts with the delimiter field, which is the first field of the group definition. A field that
+ * is neither the delimiter nor a member of the entry ends the group.
+ * </p>
+ */
+public final class GroupDefinition extends FieldLayout {
+
+    private final int countTag;
+
+    GroupDefinition(int countTag, int[] fieldTags, boolean[] required, GroupDefinition[] groups) {
+        super(fieldTags, required, groups);
+        if (fieldTags.length == 0) {
+            throw new IllegalArgumentException("Group " + countTag + " has no fields");
+        }
+        this.countTag = countTag;
+    }
+
+    public int getCountTag() {
+        return countTag;
+    }
+
+    public int getDelimiterTag() {
+        return getFieldTag(0);
+    }
+}
@@ -0,0 +1,57 @@
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Parser} that records every parse attempt in a {@link ParserMetrics}.
+ * <p>
+ * All parse methods end in {@link #parse(byte[], int, int, MessageView, ParseResult)} or
+ * {@link #parse(ByteBuffer, MessageView, ParseResult)}, which this class wraps with two {@link System#nanoTime()}
+ * calls and an update of the metrics. Instrumentation is enabled by creating
+ * an instrumented parser instead of a plain one, so a plain {@link Parser} has no metrics code on its path
+ * at all. One metrics instance may be shared by parsers on several threads.
+ * </p>
+ */
+public class InstrumentedParser extends Parser {
+
+    private final ParserMetrics metrics;
+
+    public InstrumentedParser(ProtocolVersion version, ParserMetrics metrics) {
+        this(Dictionary.getInstance(version), ByteScanner.getDefault(), ValidationLevel.STRUCTURAL, metrics);
+    }
+
+    /**
+     * Creates an instrumented parser with a specific dictionary, scanning backend and validation level.
+     *
+     * @param dictionary The dictionary used for validation and section lookup.
+     * @param scanner The backend used for delimiter search and checksum summation.
+     * @param validationLevel The checks performed on every message.
+     * @param metrics The metrics to record into.
+     */
+    public InstrumentedParser(Dictionary dictionary, ByteScanner scanner, ValidationLevel validationLevel,
+                              ParserMetrics metrics) {
+        super(dictionary, scanner, validationLevel);
+        this.metrics = metrics;
+    }
+
+    public ParserMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public boolean parse(byte[] msg, int offset, int length, MessageView view, ParseResult result) {
+        long start = System.nanoTime();
+        boolean valid = super.parse(msg, offset, length, view, result);
+        metrics.record(view, length, result, System.nanoTime() - start);
+        return valid;
+    }
+
+    @Override
+    public boolean parse(ByteBuffer msg, MessageView view, ParseResult result) {
+        if (msg.hasArray()) {
+            return super.parse(msg, view, result);
+        }
+        long start = System.nanoTime();
+        boolean valid = super.parse(msg, view, result);
+        metrics.record(view, msg.remaining(), result, System.nanoTime() - start);
+        return valid;
+    }
+}
@@ -0,0 +1,40 @@
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Registers the library's MBeans with the platform MBean server, under names of the form
+ * {@code fixparser:type=<type>,name=<name>}.
+ */
+final class MBeans {
+
+    private static final String DOMAIN = "fixparser";
+
+    private MBeans() {
+    }
+
+    /**
+     * Registers an MBean with the platform MBean server.
+     *
+     * @param mbean The MBean, an instance of a class implementing its {@code MXBean} interface.
+     * @param type The value of the {@code type} key, the simple name of the MBean's class.
+     * @param name The value of the {@code name} key, e.g. the feed or session the MBean serves; it is quoted.
+     * @return The name the MBean was registered under.
+     * @throws JMException If the name is invalid or already registered.
+     */
+    static ObjectName register(Object mbean, String type, String name) throws JMException {
+        ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, objectName);
+        return objectName;
+    }
+
+    /**
+     * Removes an MBean registered by {@link #register}.
+     *
+     * @param objectName The name returned by {@link #register}.
+     * @throws JMException If no MBean is registered under the name.
+     */
+    static void unregister(ObjectName objectName) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    }
+}
@@ -1,16 +1,87 @@
-import java.util.LinkedHashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
+/**
+ * A parsed FIX message, with its fields split into header, body and trailer.
+ * <p>
+ * Each section is an insertion-ordered primitive map from tag number to value, whose value bytes are copied
+ * from the parsed buffer. The typed accessors decode straight from those bytes, so reading a field as a
+ * number or character creates no {@link String}. The {@link Map} views returned by {@link #getHeader()},
+ * {@link #getBody()} and {@link #getTrailer()} are adapters over the same storage that create value strings
+ * on first access. Example usage:
+ * <pre>
+ * {@code
+ * Message message = parser.parse(rawFixBytes);
+ * int seqNum = message.getInt(34);
+ * long price = message.getDecimal(44, 4);
+ * long sendingTime = message.getUtcTimestamp(52); // epoch nanos
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * A message filled by a {@link Parser} also knows its dictionary, so {@link #getNumeric(int, int)} can pick the
+ * decoder from the dictionary type of each field.
+ * </p>
+ * <p>
+ * Top-level repeating groups are kept in an array in the order they were added. The {@link Group} instances a
+ * parser fills are owned by the message and refilled in place when it is parsed into again.
+ * </p>
+ */
 public class Message {
 
-    private final Map<Integer, String> header;
-    private final Map<Integer, String> body;
-    private final Map<Integer, String> trailer;
+    private static final int DEFAULT_GROUP_CAPACITY = 4;
+
+    private final FieldMap header;
+    private final FieldMap body;
+    private final FieldMap trailer;
+    private Group[] groups;
+    private int groupCount;
+    private Group[] parsedGroups;
+    private int parsedGroupCount;
+    private Map<Integer, Group> groupsView;
+    private Dictionary dictionary;
 
     public Message() {
-        this.header = new LinkedHashMap<>();
-        this.body = new LinkedHashMap<>();
-        this.trailer = new LinkedHashMap<>();
+        this.header = new FieldMap();
+        this.body = new FieldMap();
+        this.trailer = new FieldMap();
+        this.groups = new Group[DEFAULT_GROUP_CAPACITY];
+        this.parsedGroups = new Group[DEFAULT_GROUP_CAPACITY];
+    }
+
+    /**
+     * Removes all fields and groups so the message can be reused. The section storage and the groups filled by
+     * a parser keep their capacity.
+     */
+    public void clear() {
+        header.clear();
+        body.clear();
+        trailer.clear();
+        Arrays.fill(groups, 0, groupCount, null);
+        groupCount = 0;
+        parsedGroupCount = 0;
+    }
+
+    /**
+     * Sets the dictionary used by {@link #getNumeric(int, int)}; called by the parser that fills the message.
+     */
+    void setDictionary(Dictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Sets the cache that field values are interned through when read as strings, or null for none; called by
+     * the parser that fills the message.
+     */
+    void setValueCache(ValueCache valueCache) {
+        header.setValueCache(valueCache);
+        body.setValueCache(valueCache);
+        trailer.setValueCache(valueCache);
     }
 
     public void addHeaderField(int tag, String value) {
@@ -25,15 +96,285 @@ public class Message {
         trailer.put(tag, value);
     }
 
-    public Map<Integer, String> getHeader() {
+    void addHeaderField(int tag, byte[] buffer, int offset, int length) {
+        header.put(tag, buffer, offset, length);
+    }
+
+    void addBodyField(int tag, byte[] buffer, int offset, int length) {
+        body.put(tag, buffer, offset, length);
+    }
+
+    void addTrailerField(int tag, byte[] buffer, int offset, int length) {
+        trailer.put(tag, buffer, offset, length);
+    }
+
+    FieldMap headerFields() {
         return header;
     }
 
-    public Map<Integer, String> getBody() {
+    FieldMap bodyFields() {
         return body;
     }
 
-    public Map<Integer, String> getTrailer() {
+    FieldMap trailerFields() {
         return trailer;
     }
+
+    /**
+     * Adds a top-level repeating group, replacing a group with the same NumInGroup tag.
+     */
+    public void addGroup(Group group) {
+        for (int i = 0; i < groupCount; i++) {
+            if (groups[i].getCountTag() == group.getCountTag()) {
+                groups[i] = group;
+                return;
+            }
+        }
+        if (groupCount == groups.length) {
+            groups = Arrays.copyOf(groups, groupCount << 1);
+        }
+        groups[groupCount++] = group;
+    }
+
+    /**
+     * Adds a top-level repeating group of a parsed view, refilling a group owned by this message.
+     */
+    void addGroup(MessageView view, int group) {
+        if (parsedGroupCount == parsedGroups.length) {
+            parsedGroups = Arrays.copyOf(parsedGroups, parsedGroupCount << 1);
+        }
+        Group parsed = parsedGroups[parsedGroupCount];
+        if (parsed == null) {
+            parsed = new Group();
+            parsedGroups[parsedGroupCount] = parsed;
+        }
+        parsedGroupCount++;
+        parsed.fill(view, group);
+        addGroup(parsed);
+    }
+
+    /**
+     * Returns a live, insertion-ordered {@link Map} view of the header. Fields can be added through the view
+     * but not removed.
+     */
+    public Map<Integer, String> getHeader() {
+        return header.asMap();
+    }
+
+    /**
+     * Returns a live, insertion-ordered {@link Map} view of the body. Fields can be added through the view but
+     * not removed.
+     */
+    public Map<Integer, String> getBody() {
+        return body.asMap();
+    }
+
+    /**
+     * Returns a live, insertion-ordered {@link Map} view of the trailer. Fields can be added through the view
+     * but not removed.
+     */
+    public Map<Integer, String> getTrailer() {
+        return trailer.asMap();
+    }
+
+    /**
+     * Returns a top-level repeating group. The group's NumInGroup field itself is stored in the section map.
+     *
+     * @param countTag The NumInGroup tag number.
+     * @return The group, or null if the message does not contain it.
+     */
+    public Group getGroup(int countTag) {
+        for (int i = 0; i < groupCount; i++) {
+            if (groups[i].getCountTag() == countTag) {
+                return groups[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a live, read-only {@link Map} view of the top-level groups by NumInGroup tag, in the order they
+     * were added.
+     */
+    public Map<Integer, Group> getGroups() {
+        if (groupsView == null) {
+            groupsView = new GroupsView();
+        }
+        return groupsView;
+    }
+
+    public boolean hasField(int tag) {
+        return header.indexOf(tag) != -1 || body.indexOf(tag) != -1 || trailer.indexOf(tag) != -1;
+    }
+
+    public int getInt(int tag) {
+        FieldMap section = requireSection(tag);
+        int index = section.indexOf(tag);
+        return ValueDecoder.decodeInt(section.getData(), section.getValueOffsetAt(index), section.getValueLengthAt(index));
+    }
+
+    public long getLong(int tag) {
+        FieldMap section = requireSection(tag);
+        int index = section.indexOf(tag);
+        return ValueDecoder.decodeLong(section.getData(), section.getValueOffsetAt(index), section.getValueLengthAt(index));
+    }
+
+    public char getChar(int tag) {
+        FieldMap section = requireSection(tag);
+        int index = section.indexOf(tag);
+        return ValueDecoder.decodeChar(section.getData(), section.getValueOffsetAt(index), section.getValueLengthAt(index));
+    }
+
+    /**
+     * Decodes a decimal field as a fixed-point long with the given number of implied decimal places.
+     *
+     * @param tag The tag number of the field.
+     * @param scale The number of implied decimal places, e.g. 4 turns {@code "1.5"} into {@code 15000}.
+     * @return The fixed-point value.
+     */
+    public long getDecimal(int tag, int scale) {
+        FieldMap section = requireSection(tag);
+        int index = section.indexOf(tag);
+        return ValueDecoder.decodeDecimal(section.getData(), section.getValueOffsetAt(index),
+                section.getValueLengthAt(index), scale);
+    }
+
+    public boolean getBoolean(int tag) {
+        FieldMap section = requireSection(tag);
+        int index = section.indexOf(tag);
+        return ValueDecoder.decodeBoolean(section.getData(), section.getValueOffsetAt(index), section.getValueLengthAt(index));
+    }
+
+    /**
+     * Decodes a UTCTimestamp field, such as SendingTime (52), without creating a string.
+     *
+     * @param tag The tag number of the field.
+     * @return The timestamp in nanoseconds since the Unix epoch.
+     */
+    public long getUtcTimestamp(int tag) {
+        FieldMap section = requireSection(tag);
+        int index = section.indexOf(tag);
+        return ValueDecoder.decodeUtcTimestamp(section.getData(), section.getValueOffsetAt(index), section.getValueLengthAt(index));
+    }
+
+    /**
+     * Decodes a LocalMktDate or UTCDateOnly field, such as TradeDate (75).
+     *
+     * @param tag The tag number of the field.
+     * @return The date in days since the Unix epoch.
+     */
+    public int getDate(int tag) {
+        FieldMap section = requireSection(tag);
+        int index = section.indexOf(tag);
+        return ValueDecoder.decodeDate(section.getData(), section.getValueOffsetAt(index), section.getValueLengthAt(index));
+    }
+
+    /**
+     * Decodes a field into a long with the decoder selected by its dictionary type, see {@link ValueType}:
+     * integers as is, decimals as fixed-point, UTCTimestamps as epoch nanoseconds, dates as epoch days,
+     * booleans as 1 or 0 and characters as their code.
+     *
+     * @param tag The tag number of the field.
+     * @param scale The number of implied decimal places used if the field is a decimal.
+     * @return The decoded value.
+     * @throws IllegalStateException If the message was not filled by a {@link Parser}.
+     * @throws IllegalArgumentException If the dictionary type of the field is not numeric.
+     */
+    public long getNumeric(int tag, int scale) {
+        if (dictionary == null) {
+            throw new IllegalStateException("Message has no dictionary; it was not filled by a Parser");
+        }
+        TagInfo tagInfo = dictionary.getTagInfo(tag);
+        ValueType type = tagInfo == null ? ValueType.STRING : tagInfo.getValueType();
+        FieldMap section = requireSection(tag);
+        int index = section.indexOf(tag);
+        byte[] data = section.getData();
+        int offset = section.getValueOffsetAt(index);
+        int length = section.getValueLengthAt(index);
+        return switch (type) {
+            case INT -> ValueDecoder.decodeLong(data, offset, length);
+            case DECIMAL -> ValueDecoder.decodeDecimal(data, offset, length, scale);
+            case CHAR -> ValueDecoder.decodeChar(data, offset, length);
+            case BOOLEAN -> ValueDecoder.decodeBoolean(data, offset, length) ? 1 : 0;
+            case UTC_TIMESTAMP -> ValueDecoder.decodeUtcTimestamp(data, offset, length);
+            case DATE -> ValueDecoder.decodeDate(data, offset, length);
+            case STRING -> throw new IllegalArgumentException("Field " + tag + " is not numeric");
+        };
+    }
+
+    /**
+     * Returns a field value as a string. The string is created on the first call and cached until the message
+     * is cleared.
+     */
+    public String getString(int tag) {
+        FieldMap section = requireSection(tag);
+        return section.getStringAt(section.indexOf(tag));
+    }
+
+    /**
+     * Returns the section holding a tag, searching header, body and trailer in that order.
+     */
+    private FieldMap requireSection(int tag) {
+        if (header.indexOf(tag) != -1) {
+            return header;
+        }
+        if (body.indexOf(tag) != -1) {
+            return body;
+        }
+        if (trailer.indexOf(tag) != -1) {
+            return trailer;
+        }
+        throw new ParserException("Invalid data: Missing field " + tag);
+    }
+
+    private final class GroupsView extends AbstractMap<Integer, Group> {
+
+        private final Set<Entry<Integer, Group>> entrySet = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, Group>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < groupCount;
+                    }
+
+                    @Override
+                    public Entry<Integer, Group> next() {
+                        if (next >= groupCount) {
+                            throw new NoSuchElementException();
+                        }
+                        Group group = groups[next++];
+                        return new SimpleImmutableEntry<>(group.getCountTag(), group);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return groupCount;
+            }
+        };
+
+        @Override
+        public Set<Entry<Integer, Group>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public int size() {
+            return groupCount;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer tag && getGroup(tag) != null;
+        }
+
+        @Override
+        public Group get(Object key) {
+            return key instanceof Integer tag ? getGroup(tag) : null;
+        }
+    }
 }
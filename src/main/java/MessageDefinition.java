@@ -0,0 +1,22 @@
+/**
+ * The body layout of a message type, as defined in the {@code <messages>} section of the FIX dictionary.
+ */
+public final class MessageDefinition extends FieldLayout {
+
+    private final String msgType;
+    private final String name;
+
+    MessageDefinition(String msgType, String name, int[] fieldTags, boolean[] required, GroupDefinition[] groups) {
+        super(fieldTags, required, groups);
+        this.msgType = msgType;
+        this.name = name;
+    }
+
+    public String getMsgType() {
+        return msgType;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -1,13 +1,37 @@
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Renders messages in human-readable form with the field names and value descriptions of a {@link Dictionary}.
+ * <p>
+ * Messages are rendered by a {@link DisplayFormat} straight from their value bytes into a {@link DisplayBuffer},
+ * using the ASCII names and descriptions cached by each {@link TagInfo}, so rendering into a reused buffer
+ * creates no strings. Tags and values missing from the dictionary are rendered without a name or description.
+ * Example usage:
+ * <pre>
+ * {@code
+ * MessageDisplayer displayer = MessageDisplayer.getInstance(ProtocolVersion.FIX44);
+ * DisplayBuffer buffer = new DisplayBuffer();
+ * for (...) {
+ *     parser.parse(msg, view);
+ *     displayer.render(view, StandardDisplayFormat.JSON_LINES, buffer);
+ *     if (buffer.length() > 64 * 1024) {
+ *         buffer.writeTo(out);
+ *         buffer.clear();
+ *     }
+ * }
+ * }
+ * </pre>
+ * </p>
+ */
 public class MessageDisplayer {
 
     private static final Map<ProtocolVersion, MessageDisplayer> instances = new ConcurrentHashMap<>();
 
     private final Dictionary dictionary;
+    private final ThreadLocal<DisplayBuffer> buffers = ThreadLocal.withInitial(DisplayBuffer::new);
 
     private MessageDisplayer(ProtocolVersion version) {
         this.dictionary = Dictionary.getInstance(version);
@@ -17,26 +41,111 @@ public class MessageDisplayer {
         return instances.computeIfAbsent(version, MessageDisplayer::new);
     }
 
+    /**
+     * Prints a message to standard output in {@link StandardDisplayFormat#TEXT} format, with a single write.
+     */
     public void displayMessage(Message message) {
-        List<Record> results = new ArrayList<>();
+        DisplayBuffer buffer = buffers.get();
+        buffer.clear();
+        render(message, StandardDisplayFormat.TEXT, buffer);
+        System.out.write(buffer.array(), 0, buffer.length());
+        System.out.flush();
+    }
+
+    /**
+     * Writes a message to a stream, rendered in a buffer owned by the calling thread.
+     */
+    public void display(Message message, DisplayFormat format, OutputStream out) throws IOException {
+        DisplayBuffer buffer = buffers.get();
+        buffer.clear();
+        render(message, format, buffer);
+        buffer.writeTo(out);
+    }
+
+    /**
+     * Appends a message to a character sink, rendered in a buffer owned by the calling thread.
+     */
+    public void display(Message message, DisplayFormat format, Appendable out) throws IOException {
+        DisplayBuffer buffer = buffers.get();
+        buffer.clear();
+        render(message, format, buffer);
+        buffer.appendTo(out);
+    }
+
+    /**
+     * Appends the header, body and trailer fields of a message to a buffer. The entries of each repeating group,
+     * including nested groups, follow its NumInGroup field in wire order.
+     *
+     * @param message The message to render.
+     * @param format The output format.
+     * @param out The buffer to append to; it is not cleared first.
+     */
+    public void render(Message message, DisplayFormat format, DisplayBuffer out) {
+        format.beginMessage(out);
+        int index = renderSection(message, message.headerFields(), format, out, 0);
+        index = renderSection(message, message.bodyFields(), format, out, index);
+        renderSection(message, message.trailerFields(), format, out, index);
+        format.endMessage(out);
+    }
+
+    /**
+     * Appends all fields of a parsed view, including those in repeating groups, to a buffer in wire order.
+     *
+     * @param view The view to render.
+     * @param format The output format.
+     * @param out The buffer to append to; it is not cleared first.
+     */
+    public void render(MessageView view, DisplayFormat format, DisplayBuffer out) {
+        format.beginMessage(out);
+        for (int i = 0; i < view.getFieldCount(); i++) {
+            renderField(format, out, i, view.getTagAt(i), view.valueBytes(i), view.valueStart(i), view.getValueLengthAt(i));
+        }
+        format.endMessage(out);
+    }
 
-        processSection(message.getHeader(), results);
-        processSection(message.getBody(), results);
-        processSection(message.getTrailer(), results);
+    private int renderSection(Message message, FieldMap section, DisplayFormat format, DisplayBuffer out, int index) {
+        byte[] data = section.getData();
+        for (int i = 0; i < section.size(); i++) {
+            int tag = section.getTagAt(i);
+            renderField(format, out, index++, tag, data, section.getValueOffsetAt(i), section.getValueLengthAt(i));
+            Group group = message.getGroup(tag);
+            if (group != null) {
+                index = renderGroup(group, format, out, index);
+            }
+        }
+        return index;
+    }
 
-        results.forEach(System.out::println);
+    private int renderGroup(Group group, DisplayFormat format, DisplayBuffer out, int index) {
+        byte[] data = group.getData();
+        for (int entry = 0; entry < group.size(); entry++) {
+            for (int i = 0; i < group.getFieldCount(entry); i++) {
+                int tag = group.getTag(entry, i);
+                renderField(format, out, index++, tag, data, group.getValueOffset(entry, i), group.getValueLength(entry, i));
+                Group nested = group.getGroup(entry, tag);
+                if (nested != null) {
+                    index = renderGroup(nested, format, out, index);
+                }
+            }
+        }
+        return index;
     }
 
-    private void processSection(Map<Integer, String> section, List<Record> results) {
-        section.forEach((number, value) -> {
-            TagInfo tagInfo = dictionary.getTagInfo(number);
+    private void renderField(DisplayFormat format, DisplayBuffer out, int index, int tag, byte[] buffer, int offset,
+                             int length) {
+        TagInfo tagInfo = dictionary.getTagInfo(tag);
+        byte[] name = null;
+        byte[] description = null;
+        if (tagInfo != null) {
+            name = tagInfo.getNameBytes();
             if (tagInfo.hasValues()) {
-                String description = tagInfo.getValue(value).description();
-                results.add(new Record(number, tagInfo.getName(), value, description));
-            } else {
-                results.add(new Record(number, tagInfo.getName(), value));
+                description = tagInfo.getDescriptionBytes(buffer, offset, length);
+                if (description != null && description.length == 0) {
+                    description = null;
+                }
             }
-        });
+        }
+        format.field(out, index, tag, name, buffer, offset, length, description);
     }
 
     public static class Record {
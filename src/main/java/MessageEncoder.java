@@ -0,0 +1,423 @@
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes FIX messages directly into a caller-supplied buffer, without allocating.
+ * <p>
+ * {@link #begin} writes BeginString, a placeholder for BodyLength and MsgType; every {@code add} method then
+ * appends one field, converting the value to ASCII in place. Fields are placed in their section according to
+ * the {@link Dictionary}: a header field added after body fields is moved in front of them, and trailer
+ * fields always end up after the body. {@link #finish} back-fills BodyLength and appends the CheckSum, which
+ * is summed while the bytes are written. Example usage:
+ * <pre>
+ * {@code
+ * MessageEncoder encoder = new MessageEncoder(ProtocolVersion.FIX44);
+ * int length = encoder.wrap(buffer, 0, buffer.length)
+ *         .begin("D")
+ *         .addString(49, "BANZAI").addString(56, "EXEC").addInt(34, seqNum).addUtcTimestamp(52, now)
+ *         .addString(11, clOrdId).addChar(54, '1').addLong(38, quantity).addDecimal(44, price, 2)
+ *         .finish();
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Instances are reusable but not thread-safe.
+ * </p>
+ */
+public class MessageEncoder {
+
+    private static final byte SOH = 1;
+    private static final byte EQUALS = '=';
+    private static final int BEGIN_STRING_FIELD = 8;
+    private static final int BODY_LENGTH_FIELD = 9;
+    private static final int CHECKSUM_FIELD = 10;
+    private static final int MSG_TYPE_FIELD = 35;
+    private static final int CHECKSUM_FIELD_LENGTH = 7;
+
+    private final Dictionary dictionary;
+    private final byte[] beginString;
+
+    private byte[] buffer;
+    private int start;
+    private int limit;
+    private ByteBuffer target;
+    private byte[] directScratch = new byte[0];
+    private byte[] fieldScratch = new byte[64];
+
+    private int lengthStart;
+    private int lengthDigits;
+    private int headerEnd;
+    private int bodyEnd;
+    private int position;
+    private int checksum;
+    private boolean started;
+
+    public MessageEncoder(ProtocolVersion version) {
+        this.dictionary = Dictionary.getInstance(version);
+        this.beginString = version.getBeginString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Directs the next message into a region of a byte array.
+     *
+     * @param buffer The array to write to.
+     * @param offset The index at which the message starts.
+     * @param capacity The number of bytes available from {@code offset}.
+     */
+    public MessageEncoder wrap(byte[] buffer, int offset, int capacity) {
+        if (offset < 0 || capacity < 0 || offset + capacity > buffer.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", capacity " + capacity + ", length " + buffer.length);
+        }
+        this.buffer = buffer;
+        this.start = offset;
+        this.limit = offset + capacity;
+        this.target = null;
+        this.started = false;
+        return this;
+    }
+
+    /**
+     * Directs the next message into the remaining space of a buffer. Heap buffers are written in place; for
+     * direct buffers the message is encoded into a reusable internal array and copied by {@link #finish}.
+     * The buffer's position is advanced past the message when it is finished.
+     */
+    public MessageEncoder wrap(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            wrap(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            if (directScratch.length < buffer.remaining()) {
+                directScratch = new byte[buffer.remaining()];
+            }
+            wrap(directScratch, 0, buffer.remaining());
+        }
+        this.target = buffer;
+        return this;
+    }
+
+    /**
+     * Starts a message by writing BeginString, a BodyLength placeholder and MsgType.
+     *
+     * @param msgType The MsgType (35) value.
+     */
+    public MessageEncoder begin(CharSequence msgType) {
+        if (buffer == null) {
+            throw new IllegalStateException("No buffer wrapped");
+        }
+        position = start;
+        checksum = 0;
+
+        ensureCapacity(2 + beginString.length + 1);
+        writeTag(BEGIN_STRING_FIELD);
+        writeBytes(beginString, 0, beginString.length);
+        writeByte(SOH);
+
+        lengthDigits = digits(limit - start);
+        ensureCapacity(2 + lengthDigits + 1);
+        writeTag(BODY_LENGTH_FIELD);
+        lengthStart = position;
+        position += lengthDigits;
+        writeByte(SOH);
+
+        ensureCapacity(3 + msgType.length() + 1);
+        writeTag(MSG_TYPE_FIELD);
+        writeChars(msgType);
+        writeByte(SOH);
+
+        headerEnd = position;
+        bodyEnd = position;
+        started = true;
+        return this;
+    }
+
+    public MessageEncoder addInt(int tag, int value) {
+        return addLong(tag, value);
+    }
+
+    public MessageEncoder addLong(int tag, long value) {
+        int fieldStart = startField(tag, longLength(value));
+        writeLong(value);
+        return endField(tag, fieldStart);
+    }
+
+    public MessageEncoder addChar(int tag, char value) {
+        int fieldStart = startField(tag, 1);
+        writeByte((byte) value);
+        return endField(tag, fieldStart);
+    }
+
+    /**
+     * Appends a fixed-point decimal, written with exactly {@code scale} fractional digits.
+     *
+     * @param tag The tag number.
+     * @param unscaled The value multiplied by 10^scale, as returned by {@link ValueDecoder#decodeDecimal}.
+     * @param scale The number of fractional digits.
+     */
+    public MessageEncoder addDecimal(int tag, long unscaled, int scale) {
+        if (scale < 0 || scale > 18) {
+            throw new IllegalArgumentException("Scale out of range: " + scale);
+        }
+        long negative = unscaled < 0 ? unscaled : -unscaled;
+        int digitCount = Math.max(negativeDigits(negative), scale + 1);
+        int length = (unscaled < 0 ? 1 : 0) + digitCount + (scale > 0 ? 1 : 0);
+        int fieldStart = startField(tag, length);
+        if (unscaled < 0) {
+            writeByte((byte) '-');
+        }
+        int end = position + digitCount + (scale > 0 ? 1 : 0);
+        int dot = scale > 0 ? end - 1 - scale : -1;
+        for (int i = end - 1; i >= position; i--) {
+            if (i == dot) {
+                buffer[i] = '.';
+                checksum += '.';
+                continue;
+            }
+            byte digit = (byte) ('0' - negative % 10);
+            buffer[i] = digit;
+            checksum += digit;
+            negative /= 10;
+        }
+        position = end;
+        return endField(tag, fieldStart);
+    }
+
+    /**
+     * Appends a UTCTimestamp with millisecond precision, formatted as {@code yyyyMMdd-HH:mm:ss.SSS}.
+     *
+     * @param tag The tag number.
+     * @param epochMillis Milliseconds since the Unix epoch.
+     */
+    public MessageEncoder addUtcTimestamp(int tag, long epochMillis) {
+        long epochDay = Math.floorDiv(epochMillis, 86_400_000L);
+        int millisOfDay = (int) Math.floorMod(epochMillis, 86_400_000L);
+
+        // Civil-from-days conversion on the proleptic Gregorian calendar, see java.time.LocalDate.ofEpochDay
+        long zeroDay = epochDay + 719_468;
+        long era = Math.floorDiv(zeroDay, 146_097);
+        long dayOfEra = zeroDay - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        if (year < 0 || year > 9999) {
+            throw new IllegalArgumentException("Timestamp out of range: " + epochMillis);
+        }
+
+        int fieldStart = startField(tag, 21);
+        writeFixed(year, 4);
+        writeFixed(month, 2);
+        writeFixed(day, 2);
+        writeByte((byte) '-');
+        writeFixed(millisOfDay / 3_600_000, 2);
+        writeByte((byte) ':');
+        writeFixed(millisOfDay / 60_000 % 60, 2);
+        writeByte((byte) ':');
+        writeFixed(millisOfDay / 1000 % 60, 2);
+        writeByte((byte) '.');
+        writeFixed(millisOfDay % 1000, 3);
+        return endField(tag, fieldStart);
+    }
+
+    /**
+     * Appends a value copied from a byte range, e.g. a field of a received {@link MessageView}.
+     */
+    public MessageEncoder addBytes(int tag, byte[] value, int offset, int length) {
+        int fieldStart = startField(tag, length);
+        writeBytes(value, offset, length);
+        return endField(tag, fieldStart);
+    }
+
+    /**
+     * Appends an ASCII value. No {@link String} is created; any {@link CharSequence}, such as a reused
+     * {@link StringBuilder}, can be passed.
+     */
+    public MessageEncoder addString(int tag, CharSequence value) {
+        int fieldStart = startField(tag, value.length());
+        writeChars(value);
+        return endField(tag, fieldStart);
+    }
+
+    /**
+     * Completes the message: back-fills BodyLength and appends the CheckSum field.
+     *
+     * @return The total length of the encoded message in bytes.
+     */
+    public int finish() {
+        checkStarted();
+        ensureCapacity(CHECKSUM_FIELD_LENGTH);
+
+        int bodyStart = lengthStart + lengthDigits + 1;
+        int bodyLength = position - bodyStart;
+        int actualDigits = digits(bodyLength);
+        int gap = lengthDigits - actualDigits;
+        if (gap > 0) {
+            System.arraycopy(buffer, lengthStart + lengthDigits, buffer, lengthStart + actualDigits,
+                    position - lengthStart - lengthDigits);
+            position -= gap;
+        }
+        int end = position;
+        position = lengthStart;
+        writeFixed(bodyLength, actualDigits);
+        position = end;
+
+        int value = checksum & 0xFF;
+        writeTag(CHECKSUM_FIELD);
+        writeFixed(value, 3);
+        writeByte(SOH);
+
+        started = false;
+        int length = position - start;
+        if (target != null) {
+            if (target.hasArray()) {
+                target.position(target.position() + length);
+            } else {
+                target.put(buffer, start, length);
+            }
+            target = null;
+        }
+        return length;
+    }
+
+    /**
+     * Writes the {@code tag=} prefix at the end of the message after checking that the complete field fits.
+     *
+     * @return The index at which the field starts.
+     */
+    private int startField(int tag, int valueLength) {
+        checkStarted();
+        checkTag(tag);
+        ensureCapacity(digits(tag) + 1 + valueLength + 1);
+        int fieldStart = position;
+        writeTag(tag);
+        return fieldStart;
+    }
+
+    /**
+     * Terminates the field just written at the end of the message and moves it into its section.
+     */
+    private MessageEncoder endField(int tag, int fieldStart) {
+        byte section = dictionary.getSection(tag);
+        writeByte(SOH);
+        int fieldLength = position - fieldStart;
+        if (section == Dictionary.SECTION_HEADER) {
+            moveField(fieldStart, fieldLength, headerEnd);
+            headerEnd += fieldLength;
+            bodyEnd += fieldLength;
+        } else if (section != Dictionary.SECTION_TRAILER) {
+            moveField(fieldStart, fieldLength, bodyEnd);
+            bodyEnd += fieldLength;
+        }
+        return this;
+    }
+
+    /**
+     * Rotates a field from the end of the message to an earlier insertion point. Checksum and BodyLength
+     * do not depend on field order, so nothing else needs to be updated.
+     */
+    private void moveField(int fieldStart, int fieldLength, int insertAt) {
+        if (insertAt == fieldStart) {
+            return;
+        }
+        if (fieldScratch.length < fieldLength) {
+            fieldScratch = new byte[Math.max(fieldLength, fieldScratch.length * 2)];
+        }
+        System.arraycopy(buffer, fieldStart, fieldScratch, 0, fieldLength);
+        System.arraycopy(buffer, insertAt, buffer, insertAt + fieldLength, fieldStart - insertAt);
+        System.arraycopy(fieldScratch, 0, buffer, insertAt, fieldLength);
+    }
+
+    private void checkStarted() {
+        if (!started) {
+            throw new IllegalStateException("No message started");
+        }
+    }
+
+    private static void checkTag(int tag) {
+        if (tag <= 0) {
+            throw new IllegalArgumentException("Tag numbers must be positive: " + tag);
+        }
+        if (tag == BEGIN_STRING_FIELD || tag == BODY_LENGTH_FIELD || tag == CHECKSUM_FIELD || tag == MSG_TYPE_FIELD) {
+            throw new IllegalArgumentException("Field " + tag + " is written by the encoder");
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (length > limit - position) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    private void writeByte(byte b) {
+        buffer[position++] = b;
+        checksum += b;
+    }
+
+    private void writeBytes(byte[] source, int offset, int length) {
+        System.arraycopy(source, offset, buffer, position, length);
+        for (int i = offset; i < offset + length; i++) {
+            checksum += source[i];
+        }
+        position += length;
+    }
+
+    private void writeChars(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            writeByte((byte) value.charAt(i));
+        }
+    }
+
+    private void writeTag(int tag) {
+        writeFixed(tag, digits(tag));
+        writeByte(EQUALS);
+    }
+
+    private void writeLong(long value) {
+        if (value < 0) {
+            writeByte((byte) '-');
+        }
+        long negative = value < 0 ? value : -value;
+        int end = position + negativeDigits(negative);
+        for (int i = end - 1; i >= position; i--) {
+            byte digit = (byte) ('0' - negative % 10);
+            buffer[i] = digit;
+            checksum += digit;
+            negative /= 10;
+        }
+        position = end;
+    }
+
+    /**
+     * Writes a non-negative value as exactly {@code width} digits, padded with leading zeros.
+     */
+    private void writeFixed(int value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            byte digit = (byte) ('0' + value % 10);
+            buffer[i] = digit;
+            checksum += digit;
+            value /= 10;
+        }
+        position += width;
+    }
+
+    private static int longLength(long value) {
+        return (value < 0 ? 1 : 0) + negativeDigits(value < 0 ? value : -value);
+    }
+
+    private static int digits(int value) {
+        return negativeDigits(-(long) value);
+    }
+
+    /**
+     * Counts the decimal digits of a non-positive value, which also covers {@link Long#MIN_VALUE}.
+     */
+    private static int negativeDigits(long negative) {
+        int count = 1;
+        while (negative <= -10) {
+            negative /= 10;
+            count++;
+        }
+        return count;
+    }
+}
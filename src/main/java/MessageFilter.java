@@ -0,0 +1,406 @@
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A filter expression compiled into byte-level matchers that decide whether a raw FIX message is wanted before it
+ * is parsed.
+ * <p>
+ * The expression is compiled once against a {@link Dictionary}: fields may be written as tag numbers or names,
+ * and the values of enumerated fields are checked against the dictionary, so a filter that can never match is
+ * rejected up front. Example usage:
+ * <pre>
+ * {@code
+ * MessageFilter filter = MessageFilter.compile("35 in (8, 9) and Symbol = \"AAPL\" and 1 startsWith \"ACC\"",
+ *         Dictionary.getInstance(ProtocolVersion.FIX44));
+ * if (filter.matches(frame, offset, length)) {
+ *     parser.parse(frame, offset, length, view);
+ * }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Matching steps from field to field with the {@link ByteScanner} delimiter search, like {@link SelectiveParser}.
+ * Only fields whose tag appears in the expression are compared, byte by byte against the literals, and the
+ * expression is re-evaluated in three-valued logic each time one of its predicates is decided. The scan stops as
+ * soon as the outcome is known, so a drop-copy filter on MsgType usually rejects a message after its third field.
+ * Nothing is allocated while matching; an instance keeps per-message state and must not be shared between
+ * threads. The filter does not validate the message: malformed fields are skipped and left to the parser.
+ * </p>
+ * <p>
+ * Grammar, with case-insensitive keywords:
+ * <pre>
+ * expression := term ("or" term)*
+ * term       := factor ("and" factor)*
+ * factor     := "not" factor | "(" expression ")" | predicate
+ * predicate  := field ("=" | "!=") value | field "in" "(" value ("," value)* ")" | field "startsWith" value
+ * field      := tag number | field name
+ * value      := "quoted string" | bare word
+ * </pre>
+ * A predicate is decided by the first occurrence of its field. If the field is absent, {@code =}, {@code in} and
+ * {@code startsWith} are false and {@code !=} is true.
+ * </p>
+ */
+public final class MessageFilter {
+
+    private static final byte SOH = 1;
+    private static final byte EQUALS = '=';
+
+    private static final byte FALSE = 0;
+    private static final byte TRUE = 1;
+    private static final byte UNKNOWN = 2;
+
+    // Program instructions: a predicate index, or one of the negative operators below.
+    private static final int AND = -1;
+    private static final int OR = -2;
+    private static final int NOT = -3;
+
+    private final String expression;
+    private final ByteScanner scanner;
+    private final int[] program;
+    private final byte[][][] values;
+    private final boolean[] prefix;
+    private final TagSet tags;
+    private final int[][] predicatesByTag;
+    private final byte[] states;
+    private final byte[] stack;
+
+    private MessageFilter(String expression, ByteScanner scanner, int[] program, List<Predicate> predicates) {
+        this.expression = expression;
+        this.scanner = scanner;
+        this.program = program;
+        this.values = new byte[predicates.size()][][];
+        this.prefix = new boolean[predicates.size()];
+        for (int i = 0; i < predicates.size(); i++) {
+            Predicate predicate = predicates.get(i);
+            values[i] = predicate.values();
+            prefix[i] = predicate.prefix();
+        }
+        this.tags = new TagSet(predicates.stream().mapToInt(Predicate::tag).toArray());
+        this.predicatesByTag = new int[tags.size()][];
+        for (int slot = 0; slot < tags.size(); slot++) {
+            int tag = tags.getTag(slot);
+            predicatesByTag[slot] = IntStream.range(0, predicates.size())
+                    .filter(i -> predicates.get(i).tag() == tag)
+                    .toArray();
+        }
+        this.states = new byte[predicates.size()];
+        this.stack = new byte[program.length];
+    }
+
+    private record Predicate(int tag, byte[][] values, boolean prefix) {}
+
+    /**
+     * Compiles a filter expression that uses the platform's default scanning backend.
+     *
+     * @param expression The filter expression, see the class documentation for the grammar.
+     * @param dictionary The dictionary that resolves field names and defines the valid values of enumerated fields.
+     * @return The compiled filter.
+     * @throws IllegalArgumentException If the expression is malformed, names an unknown field or compares an
+     *                                  enumerated field with a value the dictionary does not define.
+     */
+    public static MessageFilter compile(String expression, Dictionary dictionary) {
+        return compile(expression, dictionary, ByteScanner.getDefault());
+    }
+
+    /**
+     * Compiles a filter expression that uses a specific scanning backend.
+     *
+     * @param expression The filter expression, see the class documentation for the grammar.
+     * @param dictionary The dictionary that resolves field names and defines the valid values of enumerated fields.
+     * @param scanner The backend used for delimiter search.
+     * @return The compiled filter.
+     * @throws IllegalArgumentException If the expression is invalid.
+     */
+    public static MessageFilter compile(String expression, Dictionary dictionary, ByteScanner scanner) {
+        Compiler compiler = new Compiler(expression, dictionary);
+        compiler.expression();
+        if (compiler.peek() != null) {
+            throw compiler.error("Unexpected '" + compiler.peek() + "'");
+        }
+        int[] program = compiler.program.stream().mapToInt(Integer::intValue).toArray();
+        return new MessageFilter(expression, scanner, program, compiler.predicates);
+    }
+
+    /**
+     * Returns true if a complete FIX message satisfies the filter, scanning only as far as needed to decide.
+     *
+     * @param msg The byte array containing the FIX message.
+     * @param offset The starting index (inclusive) of the message.
+     * @param length The number of bytes in the message.
+     * @return True if the message matches.
+     */
+    public boolean matches(byte[] msg, int offset, int length) {
+        Arrays.fill(states, UNKNOWN);
+        tags.clearSeen();
+        int limit = offset + length;
+        int start = offset;
+        while (start < limit) {
+            int end = scanner.indexOf(msg, SOH, start, limit);
+            if (end == -1) {
+                end = limit;
+            }
+            int tag = 0;
+            int eqPos = start;
+            for (; eqPos < end && msg[eqPos] != EQUALS; eqPos++) {
+                tag = tag * 10 + (msg[eqPos] - '0');
+            }
+
+            int slot = eqPos == end ? -1 : tags.slotOf(tag);
+            if (slot >= 0 && tags.markSeen(slot)) {
+                int valueOffset = eqPos + 1;
+                int valueLength = end - valueOffset;
+                for (int predicate : predicatesByTag[slot]) {
+                    states[predicate] = test(predicate, msg, valueOffset, valueLength) ? TRUE : FALSE;
+                }
+                byte outcome = evaluate();
+                if (outcome != UNKNOWN) {
+                    return outcome == TRUE;
+                }
+            }
+            start = end + 1;
+        }
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] == UNKNOWN) {
+                states[i] = FALSE;
+            }
+        }
+        return evaluate() == TRUE;
+    }
+
+    /**
+     * Returns true if a complete FIX message satisfies the filter.
+     *
+     * @param msg The byte array containing exactly one FIX message.
+     * @return True if the message matches.
+     */
+    public boolean matches(byte[] msg) {
+        return matches(msg, 0, msg.length);
+    }
+
+    /**
+     * Returns the tags referenced by the expression, in ascending order.
+     */
+    public int[] getTags() {
+        return tags.toArray();
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private boolean test(int predicate, byte[] msg, int valueOffset, int valueLength) {
+        for (byte[] value : values[predicate]) {
+            if (prefix[predicate] ? valueLength >= value.length : valueLength == value.length) {
+                if (Arrays.equals(msg, valueOffset, valueOffset + value.length, value, 0, value.length)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evaluates the program in Kleene's three-valued logic, in which an undecided predicate is {@code UNKNOWN}.
+     */
+    private byte evaluate() {
+        int top = 0;
+        for (int instruction : program) {
+            switch (instruction) {
+                case AND -> {
+                    byte right = stack[--top];
+                    byte left = stack[top - 1];
+                    stack[top - 1] = left == FALSE || right == FALSE ? FALSE : left == TRUE && right == TRUE ? TRUE : UNKNOWN;
+                }
+                case OR -> {
+                    byte right = stack[--top];
+                    byte left = stack[top - 1];
+                    stack[top - 1] = left == TRUE || right == TRUE ? TRUE : left == FALSE && right == FALSE ? FALSE : UNKNOWN;
+                }
+                case NOT -> {
+                    byte operand = stack[top - 1];
+                    stack[top - 1] = operand == UNKNOWN ? UNKNOWN : (byte) (TRUE - operand);
+                }
+                default -> stack[top++] = states[instruction];
+            }
+        }
+        return stack[0];
+    }
+
+    /**
+     * A recursive-descent compiler from the expression text to a postfix program.
+     */
+    private static final class Compiler {
+
+        private final String text;
+        private final Dictionary dictionary;
+        private final List<Integer> program = new ArrayList<>();
+        private final List<Predicate> predicates = new ArrayList<>();
+        private int position;
+        private int tokenStart;
+
+        Compiler(String text, Dictionary dictionary) {
+            this.text = text;
+            this.dictionary = dictionary;
+        }
+
+        void expression() {
+            term();
+            while (acceptKeyword("or")) {
+                term();
+                program.add(OR);
+            }
+        }
+
+        private void term() {
+            factor();
+            while (acceptKeyword("and")) {
+                factor();
+                program.add(AND);
+            }
+        }
+
+        private void factor() {
+            if (acceptKeyword("not")) {
+                factor();
+                program.add(NOT);
+            } else if (accept("(")) {
+                expression();
+                expect(")");
+            } else {
+                predicate();
+            }
+        }
+
+        private void predicate() {
+            TagInfo tagInfo = field();
+            if (accept("=")) {
+                addPredicate(tagInfo, List.of(value(tagInfo, true)), false);
+            } else if (accept("!=")) {
+                addPredicate(tagInfo, List.of(value(tagInfo, true)), false);
+                program.add(NOT);
+            } else if (acceptKeyword("in")) {
+                expect("(");
+                List<byte[]> values = new ArrayList<>();
+                do {
+                    values.add(value(tagInfo, true));
+                } while (accept(","));
+                expect(")");
+                addPredicate(tagInfo, values, false);
+            } else if (acceptKeyword("startsWith")) {
+                addPredicate(tagInfo, List.of(value(tagInfo, false)), true);
+            } else {
+                throw error("Expected '=', '!=', 'in' or 'startsWith'");
+            }
+        }
+
+        private void addPredicate(TagInfo tagInfo, List<byte[]> values, boolean prefix) {
+            program.add(predicates.size());
+            predicates.add(new Predicate(tagInfo.getNumber(), values.toArray(new byte[0][]), prefix));
+        }
+
+        private TagInfo field() {
+            String token = next();
+            if (token == null || isQuoted(token)) {
+                throw error("Expected a field");
+            }
+            if (token.chars().allMatch(Character::isDigit)) {
+                TagInfo tagInfo = dictionary.getTagInfo(Integer.parseInt(token));
+                if (tagInfo == null) {
+                    throw error("Unknown field number " + token);
+                }
+                return tagInfo;
+            }
+            for (TagInfo tagInfo : dictionary.getTagInfos()) {
+                if (tagInfo.getName().equals(token)) {
+                    return tagInfo;
+                }
+            }
+            throw error("Unknown field name " + token);
+        }
+
+        private byte[] value(TagInfo tagInfo, boolean exact) {
+            String token = next();
+            if (token == null || token.length() == 1 && "(),=".contains(token) || token.equals("!=")) {
+                throw error("Expected a value");
+            }
+            String value = isQuoted(token) ? token.substring(1, token.length() - 1) : token;
+            if (exact && tagInfo.hasValues() && !tagInfo.hasValue(value)) {
+                throw error("Value '" + value + "' is not defined for field " + tagInfo.getNumber() + " (" + tagInfo.getName() + ")");
+            }
+            return value.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            String token = peek();
+            if (token != null && token.equalsIgnoreCase(keyword)) {
+                next();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean accept(String symbol) {
+            if (symbol.equals(peek())) {
+                next();
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String symbol) {
+            if (!accept(symbol)) {
+                throw error("Expected '" + symbol + "'");
+            }
+        }
+
+        String peek() {
+            int saved = position;
+            String token = next();
+            position = saved;
+            return token;
+        }
+
+        private String next() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            tokenStart = position;
+            if (position == text.length()) {
+                return null;
+            }
+            char c = text.charAt(position);
+            if (c == '"') {
+                int close = text.indexOf('"', position + 1);
+                if (close == -1) {
+                    throw error("Unterminated string");
+                }
+                position = close + 1;
+            } else if (c == '!' && position + 1 < text.length() && text.charAt(position + 1) == '=') {
+                position += 2;
+            } else if ("(),=".indexOf(c) != -1) {
+                position++;
+            } else {
+                while (position < text.length() && !Character.isWhitespace(text.charAt(position))
+                        && "(),=!\"".indexOf(text.charAt(position)) == -1) {
+                    position++;
+                }
+                if (position == tokenStart) {
+                    throw error("Unexpected '" + c + "'");
+                }
+            }
+            return text.substring(tokenStart, position);
+        }
+
+        private static boolean isQuoted(String token) {
+            return token.length() >= 2 && token.charAt(0) == '"';
+        }
+
+        IllegalArgumentException error(String problem) {
+            return new IllegalArgumentException(problem + " at position " + tokenStart + " in filter: " + text);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * A fixed ring of pre-allocated {@link Message} slots that one thread parses into.
+ * <p>
+ * Each call to {@link #parse(byte[], int, int)} claims the next slot in ring order, clears it and fills it, so a
+ * thread can parse any number of messages while the heap held by the pool stays bounded by its capacity and the
+ * largest messages seen. A returned message stays valid until {@code capacity} further messages have been
+ * parsed, which lets downstream stages of a ring-buffer pipeline hold on to recent messages without copying
+ * them as long as they fall no more than {@code capacity} messages behind. Example usage:
+ * <pre>
+ * {@code
+ * MessagePool pool = new MessagePool(new Parser(ProtocolVersion.FIX44), 1024);
+ * Message message = pool.parse(frame, 0, frameLength);
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * A pool is confined to the thread that parses into it; use one pool per parsing thread. The {@link Parser}
+ * may be shared between pools.
+ * </p>
+ */
+public final class MessagePool {
+
+    private final Parser parser;
+    private final MessageView view;
+    private final Message[] slots;
+    private final int mask;
+    private long sequence;
+
+    /**
+     * Creates a pool and allocates all of its slots up front.
+     *
+     * @param parser The parser used to fill the slots.
+     * @param capacity The number of slots, a power of two.
+     */
+    public MessagePool(Parser parser, int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        this.parser = parser;
+        this.view = new MessageView();
+        this.slots = new Message[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Message();
+        }
+        this.mask = capacity - 1;
+    }
+
+    public Message parse(byte[] msg) {
+        return parse(msg, 0, msg.length);
+    }
+
+    /**
+     * Parses a message into the next slot.
+     * <p>
+     * If the message is invalid, the {@link ParserException} propagates, the claimed slot (the oldest message)
+     * is left empty and the sequence does not advance, so the next message is parsed into the same slot.
+     * </p>
+     *
+     * @param msg The byte array containing the FIX message.
+     * @param offset The starting index (inclusive) of the message.
+     * @param length The number of bytes in the message.
+     * @return The parsed message, owned by the pool.
+     */
+    public Message parse(byte[] msg, int offset, int length) {
+        Message message = slots[(int) (sequence & mask)];
+        parser.parse(msg, offset, length, view, message);
+        sequence++;
+        return message;
+    }
+
+    /**
+     * Returns a message parsed earlier.
+     *
+     * @param sequence The sequence number of the message, counting successfully parsed messages from 0.
+     * @return The message, or null if it has not been parsed yet or its slot has since been reused.
+     */
+    public Message get(long sequence) {
+        if (sequence < 0 || sequence >= this.sequence || sequence < this.sequence - slots.length) {
+            return null;
+        }
+        return slots[(int) (sequence & mask)];
+    }
+
+    /**
+     * Returns the number of messages parsed successfully so far, which is also the sequence number of the next.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,677 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A reusable, caller-owned flyweight over a parsed FIX message.
+ * <p>
+ * Instead of materializing a {@link String} per field, the view records each field's tag number and the
+ * offset/length of its value within the original buffer in primitive arrays. Values are only decoded when
+ * requested through the typed accessors. Once the arrays have grown to fit the largest message seen,
+ * parsing into the same view allocates nothing. Example usage:
+ * <pre>
+ * {@code
+ * MessageView view = new MessageView();
+ * parser.parse(rawFixBytes, view);
+ * int seqNum = view.getInt(34);
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Repeating groups are indexed as the message is parsed. Each group instance records the field that holds its
+ * NumInGroup count and a contiguous block of entries, so entry {@code n} of a group is found in constant time
+ * and its fields are a range of field indexes:
+ * <pre>
+ * {@code
+ * int group = view.findGroup(268);
+ * for (int n = 0; n < view.getGroupEntryCount(group); n++) {
+ *     int entry = view.getGroupEntry(group, n);
+ *     long price = view.getDecimalAt(view.indexOfInEntry(entry, 270), 4);
+ * }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * The view references the parsed buffer directly, so its contents are only meaningful until the buffer is
+ * modified or the view is reused for another message.
+ * </p>
+ * <p>
+ * A view filled from a {@link ByteBuffer} without an accessible array, such as a direct buffer, references that
+ * buffer instead: {@link #getBuffer()} returns null, {@link #getByteBuffer()} the buffer, and offsets are
+ * absolute indexes into it. The typed
+ * accessors then copy the bytes of the one value they decode into a scratch array owned by the view, which
+ * grows to fit the longest value and is reused, so reading values stays free of allocations.
+ * </p>
+ */
+public class MessageView {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int DEFAULT_GROUP_CAPACITY = 8;
+
+    private byte[] buffer;
+    private ByteBuffer byteBuffer;
+    private final ByteSource.ArraySource arraySource = new ByteSource.ArraySource();
+    private final ByteSource.BufferSource bufferSource = new ByteSource.BufferSource();
+    private ByteSource source = arraySource;
+    private byte[] scratch;
+    private int[] tags;
+    private int[] fieldOffsets;
+    private int[] offsets;
+    private int[] lengths;
+    private int count;
+
+    private GroupDefinition[] groupDefinitions;
+    private int[] groupCountFields;
+    private int[] groupParentEntries;
+    private int[] groupFirstEntries;
+    private int[] groupDeclaredCounts;
+    private int[] groupEntryCounts;
+    private int groupCount;
+
+    private int[] entryStarts;
+    private int[] entryEnds;
+    private int entryCount;
+
+    private int[] openGroups;
+    private int openGroupDepth;
+
+    private final ParseResult errorResult = new ParseResult();
+    private ValueCache valueCache;
+
+    public MessageView() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MessageView(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        this.tags = new int[initialCapacity];
+        this.fieldOffsets = new int[initialCapacity];
+        this.offsets = new int[initialCapacity];
+        this.lengths = new int[initialCapacity];
+        this.groupDefinitions = new GroupDefinition[DEFAULT_GROUP_CAPACITY];
+        this.groupCountFields = new int[DEFAULT_GROUP_CAPACITY];
+        this.groupParentEntries = new int[DEFAULT_GROUP_CAPACITY];
+        this.groupFirstEntries = new int[DEFAULT_GROUP_CAPACITY];
+        this.groupDeclaredCounts = new int[DEFAULT_GROUP_CAPACITY];
+        this.groupEntryCounts = new int[DEFAULT_GROUP_CAPACITY];
+        this.entryStarts = new int[initialCapacity];
+        this.entryEnds = new int[initialCapacity];
+        this.openGroups = new int[DEFAULT_GROUP_CAPACITY];
+    }
+
+    void reset(byte[] buffer) {
+        this.buffer = buffer;
+        this.byteBuffer = null;
+        arraySource.bind(buffer);
+        this.source = arraySource;
+        this.count = 0;
+        this.groupCount = 0;
+        this.entryCount = 0;
+        this.openGroupDepth = 0;
+        this.valueCache = null;
+    }
+
+    void reset(ByteBuffer buffer) {
+        this.buffer = null;
+        this.byteBuffer = buffer;
+        bufferSource.bind(buffer);
+        this.source = bufferSource;
+        this.count = 0;
+        this.groupCount = 0;
+        this.entryCount = 0;
+        this.openGroupDepth = 0;
+        this.valueCache = null;
+    }
+
+    /**
+     * Returns the message bytes the view was last reset to, for the parser's loop.
+     */
+    ByteSource getSource() {
+        return source;
+    }
+
+    /**
+     * Sets the cache that {@link #getStringAt(int)} interns values through until the next reset; called by a
+     * {@link Parser} created with a {@link ValueCache}.
+     */
+    void setValueCache(ValueCache valueCache) {
+        this.valueCache = valueCache;
+    }
+
+    ValueCache getValueCache() {
+        return valueCache;
+    }
+
+    /**
+     * Returns the result used to report failures of throwing parse calls into this view, so that rejecting a
+     * message allocates nothing but the exception itself.
+     */
+    ParseResult errorResult() {
+        return errorResult;
+    }
+
+    int addField(int tag, int fieldOffset, int offset, int length) {
+        if (count == tags.length) {
+            grow();
+        }
+        tags[count] = tag;
+        fieldOffsets[count] = fieldOffset;
+        offsets[count] = offset;
+        lengths[count] = length;
+        return count++;
+    }
+
+    /**
+     * Updates the repeating group index with a field that was just added.
+     * <p>
+     * Open groups whose entries cannot contain the tag are closed first, checking that the number of entries
+     * matches the declared NumInGroup count. The tag then either starts a new entry (it is the delimiter of the
+     * innermost open group), continues the current entry, or is outside any group. Finally, if the tag is a NumInGroup field of the enclosing layout, a new group is opened.
+     * </p>
+     *
+     * @param fieldIndex The index of the field just added.
+     * @param sectionLayout The layout of the current section, used when no group is open; may be null.
+     * @param maxEntries An upper bound on the number of entries the rest of the message can hold.
+     * @param result Receives the error if the field contradicts a NumInGroup count.
+     * @return True if the field is consistent with the open groups.
+     */
+    boolean trackGroups(int fieldIndex, FieldLayout sectionLayout, int maxEntries, ParseResult result) {
+        int tag = tags[fieldIndex];
+        while (openGroupDepth > 0) {
+            int group = openGroups[openGroupDepth - 1];
+            GroupDefinition definition = groupDefinitions[group];
+            if (tag == definition.getDelimiterTag()) {
+                if (groupEntryCounts[group] == groupDeclaredCounts[group]) {
+                    return result.fail(ParseError.GROUP_COUNT_MISMATCH, definition.getCountTag(),
+                            getFieldOffsetAt(groupCountFields[group]), groupDeclaredCounts[group], groupEntryCounts[group] + 1);
+                }
+                startEntry(group, fieldIndex);
+                break;
+            }
+            if (groupEntryCounts[group] > 0 && definition.containsTag(tag)) {
+                break;
+            }
+            if (!closeGroup(fieldIndex, result)) {
+                return false;
+            }
+        }
+
+        FieldLayout layout = openGroupDepth > 0 ? groupDefinitions[openGroups[openGroupDepth - 1]] : sectionLayout;
+        if (layout == null) {
+            return true;
+        }
+        GroupDefinition definition = layout.getGroup(tag);
+        if (definition != null) {
+            int declared = parseCount(offsets[fieldIndex], lengths[fieldIndex]);
+            if (declared < 0 || declared > maxEntries) {
+                return result.fail(ParseError.INVALID_GROUP_COUNT, tag, getFieldOffsetAt(fieldIndex));
+            }
+            openGroup(definition, fieldIndex, declared);
+        }
+        return true;
+    }
+
+    /**
+     * Closes all groups still open at the end of the message.
+     *
+     * @param result Receives the error if a group has fewer entries than declared.
+     * @return True if every group matched its NumInGroup count.
+     */
+    boolean closeGroups(ParseResult result) {
+        while (openGroupDepth > 0) {
+            if (!closeGroup(count, result)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes a NumInGroup value without throwing, returning -1 if it is not a non-negative number.
+     */
+    private int parseCount(int offset, int length) {
+        if (length == 0 || length > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = byteAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private void openGroup(GroupDefinition definition, int countField, int declared) {
+        if (groupCount == groupDefinitions.length) {
+            growGroups();
+        }
+        if (entryCount + declared > entryStarts.length) {
+            growEntries(entryCount + declared);
+        }
+        if (openGroupDepth == openGroups.length) {
+            openGroups = Arrays.copyOf(openGroups, openGroups.length << 1);
+        }
+
+        int group = groupCount++;
+        groupDefinitions[group] = definition;
+        groupCountFields[group] = countField;
+        groupParentEntries[group] = openGroupDepth > 0 ? currentEntry(openGroups[openGroupDepth - 1]) : -1;
+        groupFirstEntries[group] = entryCount;
+        groupDeclaredCounts[group] = declared;
+        groupEntryCounts[group] = 0;
+        entryCount += declared;
+        openGroups[openGroupDepth++] = group;
+    }
+
+    private void startEntry(int group, int fieldIndex) {
+        if (groupEntryCounts[group] > 0) {
+            entryEnds[currentEntry(group)] = fieldIndex;
+        }
+        int entry = groupFirstEntries[group] + groupEntryCounts[group]++;
+        entryStarts[entry] = fieldIndex;
+        entryEnds[entry] = fieldIndex + 1;
+    }
+
+    private boolean closeGroup(int fieldIndex, ParseResult result) {
+        int group = openGroups[--openGroupDepth];
+        if (groupEntryCounts[group] != groupDeclaredCounts[group]) {
+            return result.fail(ParseError.GROUP_COUNT_MISMATCH, groupDefinitions[group].getCountTag(),
+                    getFieldOffsetAt(groupCountFields[group]), groupDeclaredCounts[group], groupEntryCounts[group]);
+        }
+        if (groupEntryCounts[group] > 0) {
+            entryEnds[currentEntry(group)] = fieldIndex;
+        }
+        return true;
+    }
+
+    private int currentEntry(int group) {
+        return groupFirstEntries[group] + groupEntryCounts[group] - 1;
+    }
+
+    /**
+     * Returns the parsed array, or null if the view was filled from a {@link ByteBuffer} without one.
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns the parsed buffer if it has no accessible array, such as a direct buffer, or null otherwise.
+     */
+    public ByteBuffer getByteBuffer() {
+        return byteBuffer;
+    }
+
+    /**
+     * Copies the bytes of a field value into an array.
+     *
+     * @param index The field index.
+     * @param dst The array to copy to.
+     * @param dstOffset The index in {@code dst} at which the value is written.
+     * @return The number of bytes copied.
+     */
+    public int copyValueAt(int index, byte[] dst, int dstOffset) {
+        checkIndex(index);
+        if (buffer != null) {
+            System.arraycopy(buffer, offsets[index], dst, dstOffset, lengths[index]);
+        } else {
+            byteBuffer.get(offsets[index], dst, dstOffset, lengths[index]);
+        }
+        return lengths[index];
+    }
+
+    /**
+     * Returns the byte at an absolute position of the parsed message.
+     */
+    byte byteAt(int position) {
+        return buffer != null ? buffer[position] : byteBuffer.get(position);
+    }
+
+    /**
+     * Returns an array holding the value of a field, starting at {@link #valueStart(int)}: the parsed array
+     * itself, or the scratch array filled with a copy of the value when the view is over a direct buffer.
+     */
+    byte[] valueBytes(int index) {
+        if (buffer != null) {
+            return buffer;
+        }
+        int length = lengths[index];
+        if (scratch == null || scratch.length < length) {
+            scratch = new byte[Math.max(length, DEFAULT_CAPACITY)];
+        }
+        byteBuffer.get(offsets[index], scratch, 0, length);
+        return scratch;
+    }
+
+    int valueStart(int index) {
+        return buffer != null ? offsets[index] : 0;
+    }
+
+    public int getFieldCount() {
+        return count;
+    }
+
+    public int getTagAt(int index) {
+        checkIndex(index);
+        return tags[index];
+    }
+
+    public int getValueOffsetAt(int index) {
+        checkIndex(index);
+        return offsets[index];
+    }
+
+    /**
+     * Returns the position of the first byte of a field's tag, i.e. where the field starts in the buffer.
+     */
+    int getFieldOffsetAt(int index) {
+        return fieldOffsets[index];
+    }
+
+    public int getValueLengthAt(int index) {
+        checkIndex(index);
+        return lengths[index];
+    }
+
+    /**
+     * Returns a field value as a string. If the view was filled by a parser with a {@link ValueCache} that
+     * interns the field, the string is shared with earlier values of the same bytes.
+     */
+    public String getStringAt(int index) {
+        checkIndex(index);
+        if (valueCache != null) {
+            return valueCache.getString(tags[index], valueBytes(index), valueStart(index), lengths[index]);
+        }
+        return new String(valueBytes(index), valueStart(index), lengths[index], StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Finds the position of the first occurrence of a tag in the view.
+     *
+     * @param tag The tag number to find.
+     * @return The field index of the tag, or -1 if the tag is not present.
+     */
+    public int indexOf(int tag) {
+        for (int i = 0; i < count; i++) {
+            if (tags[i] == tag) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the position of the first occurrence of a tag within a range of fields.
+     *
+     * @param tag The tag number to find.
+     * @param fromIndex The first field index to examine (inclusive).
+     * @param toIndex The last field index to examine (exclusive).
+     * @return The field index of the tag, or -1 if the tag is not present in the range.
+     */
+    public int indexOf(int tag, int fromIndex, int toIndex) {
+        for (int i = Math.max(fromIndex, 0); i < Math.min(toIndex, count); i++) {
+            if (tags[i] == tag) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean hasField(int tag) {
+        return indexOf(tag) != -1;
+    }
+
+    /**
+     * Returns the number of repeating group instances in the message, including nested ones.
+     */
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Finds the first top-level repeating group introduced by the given NumInGroup tag.
+     *
+     * @param countTag The NumInGroup tag number.
+     * @return The group index, or -1 if the message has no such group.
+     */
+    public int findGroup(int countTag) {
+        return findGroup(countTag, -1);
+    }
+
+    /**
+     * Finds a repeating group nested inside an entry of another group.
+     *
+     * @param countTag The NumInGroup tag number.
+     * @param parentEntry The entry containing the group, or -1 for a top-level group.
+     * @return The group index, or -1 if there is no such group.
+     */
+    public int findGroup(int countTag, int parentEntry) {
+        for (int g = 0; g < groupCount; g++) {
+            if (groupParentEntries[g] == parentEntry && groupDefinitions[g].getCountTag() == countTag) {
+                return g;
+            }
+        }
+        return -1;
+    }
+
+    public GroupDefinition getGroupDefinition(int group) {
+        checkGroup(group);
+        return groupDefinitions[group];
+    }
+
+    /**
+     * Returns the index of the field holding the group's NumInGroup count.
+     */
+    public int getGroupCountField(int group) {
+        checkGroup(group);
+        return groupCountFields[group];
+    }
+
+    /**
+     * Returns the entry that contains the group, or -1 for a top-level group.
+     */
+    public int getGroupParentEntry(int group) {
+        checkGroup(group);
+        return groupParentEntries[group];
+    }
+
+    /**
+     * Returns the index one past the last field of a group, i.e. the first field following it.
+     */
+    public int getGroupEnd(int group) {
+        checkGroup(group);
+        int entries = groupEntryCounts[group];
+        return entries == 0 ? groupCountFields[group] + 1 : entryEnds[groupFirstEntries[group] + entries - 1];
+    }
+
+    public int getGroupEntryCount(int group) {
+        checkGroup(group);
+        return groupEntryCounts[group];
+    }
+
+    /**
+     * Returns the entry handle for entry {@code n} of a group in constant time.
+     *
+     * @param group The group index.
+     * @param n The zero-based position of the entry within the group.
+     * @return The entry handle, usable with {@link #getEntryStart(int)}, {@link #getEntryEnd(int)} and
+     *         {@link #indexOfInEntry(int, int)}.
+     */
+    public int getGroupEntry(int group, int n) {
+        checkGroup(group);
+        if (n < 0 || n >= groupEntryCounts[group]) {
+            throw new IndexOutOfBoundsException(n);
+        }
+        return groupFirstEntries[group] + n;
+    }
+
+    /**
+     * Returns the index of the first field (the delimiter) of an entry.
+     */
+    public int getEntryStart(int entry) {
+        return entryStarts[entry];
+    }
+
+    /**
+     * Returns the index one past the last field of an entry, including the fields of nested groups.
+     */
+    public int getEntryEnd(int entry) {
+        return entryEnds[entry];
+    }
+
+    public int indexOfInEntry(int entry, int tag) {
+        return indexOf(tag, entryStarts[entry], entryEnds[entry]);
+    }
+
+    public int getInt(int tag) {
+        int index = requireIndex(tag);
+        return ValueDecoder.decodeInt(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    public long getLong(int tag) {
+        int index = requireIndex(tag);
+        return ValueDecoder.decodeLong(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    public char getChar(int tag) {
+        int index = requireIndex(tag);
+        return ValueDecoder.decodeChar(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    /**
+     * Decodes a decimal field as a fixed-point long with the given number of implied decimal places.
+     *
+     * @param tag The tag number of the field.
+     * @param scale The number of implied decimal places, e.g. 4 turns {@code "1.5"} into {@code 15000}.
+     * @return The fixed-point value.
+     */
+    public long getDecimal(int tag, int scale) {
+        int index = requireIndex(tag);
+        return ValueDecoder.decodeDecimal(valueBytes(index), valueStart(index), lengths[index], scale);
+    }
+
+    public boolean getBoolean(int tag) {
+        int index = requireIndex(tag);
+        return ValueDecoder.decodeBoolean(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    /**
+     * Decodes a UTCTimestamp field into nanoseconds since the Unix epoch.
+     */
+    public long getUtcTimestamp(int tag) {
+        int index = requireIndex(tag);
+        return ValueDecoder.decodeUtcTimestamp(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    /**
+     * Decodes a LocalMktDate or UTCDateOnly field into days since the Unix epoch.
+     */
+    public int getDate(int tag) {
+        int index = requireIndex(tag);
+        return ValueDecoder.decodeDate(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    public int getIntAt(int index) {
+        checkIndex(index);
+        return ValueDecoder.decodeInt(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    public long getLongAt(int index) {
+        checkIndex(index);
+        return ValueDecoder.decodeLong(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    public char getCharAt(int index) {
+        checkIndex(index);
+        return ValueDecoder.decodeChar(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    public long getDecimalAt(int index, int scale) {
+        checkIndex(index);
+        return ValueDecoder.decodeDecimal(valueBytes(index), valueStart(index), lengths[index], scale);
+    }
+
+    public boolean getBooleanAt(int index) {
+        checkIndex(index);
+        return ValueDecoder.decodeBoolean(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    public long getUtcTimestampAt(int index) {
+        checkIndex(index);
+        return ValueDecoder.decodeUtcTimestamp(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    public int getDateAt(int index) {
+        checkIndex(index);
+        return ValueDecoder.decodeDate(valueBytes(index), valueStart(index), lengths[index]);
+    }
+
+    public CharSequence getCharSequence(int tag) {
+        return getCharSequenceAt(requireIndex(tag));
+    }
+
+    /**
+     * Returns a field value as a {@link CharSequence} over the parsed array, or as a string if the view is over
+     * a direct buffer.
+     */
+    public CharSequence getCharSequenceAt(int index) {
+        checkIndex(index);
+        if (buffer == null) {
+            return getStringAt(index);
+        }
+        return new AsciiSequence(buffer, offsets[index], lengths[index]);
+    }
+
+    public String getString(int tag) {
+        return getStringAt(requireIndex(tag));
+    }
+
+    private int requireIndex(int tag) {
+        int index = indexOf(tag);
+        if (index == -1) {
+            throw new ParserException("Invalid data: Missing field " + tag);
+        }
+        return index;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private void checkGroup(int group) {
+        if (group < 0 || group >= groupCount) {
+            throw new IndexOutOfBoundsException(group);
+        }
+    }
+
+    private void growGroups() {
+        int newCapacity = groupDefinitions.length << 1;
+        groupDefinitions = Arrays.copyOf(groupDefinitions, newCapacity);
+        groupCountFields = Arrays.copyOf(groupCountFields, newCapacity);
+        groupParentEntries = Arrays.copyOf(groupParentEntries, newCapacity);
+        groupFirstEntries = Arrays.copyOf(groupFirstEntries, newCapacity);
+        groupDeclaredCounts = Arrays.copyOf(groupDeclaredCounts, newCapacity);
+        groupEntryCounts = Arrays.copyOf(groupEntryCounts, newCapacity);
+    }
+
+    private void growEntries(int minCapacity) {
+        int newCapacity = Math.max(entryStarts.length << 1, minCapacity);
+        entryStarts = Arrays.copyOf(entryStarts, newCapacity);
+        entryEnds = Arrays.copyOf(entryEnds, newCapacity);
+    }
+
+    private void grow() {
+        int newCapacity = tags.length << 1;
+        tags = Arrays.copyOf(tags, newCapacity);
+        fieldOffsets = Arrays.copyOf(fieldOffsets, newCapacity);
+        offsets = Arrays.copyOf(offsets, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+    }
+}
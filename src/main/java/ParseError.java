@@ -0,0 +1,85 @@
+/**
+ * The reason a message failed to parse, as reported by {@link ParseResult} and {@link ParserException}.
+ */
+public enum ParseError {
+
+    /**
+     * The message is valid.
+     */
+    NONE,
+
+    /**
+     * The message could not be framed or a value could not be decoded; details are in the exception message.
+     */
+    MALFORMED_MESSAGE,
+
+    /**
+     * A field has no {@code =} between its tag and the next SOH.
+     */
+    MISSING_EQUALS,
+
+    /**
+     * The tag is not defined in the dictionary.
+     */
+    UNKNOWN_TAG,
+
+    /**
+     * The value of an enumerated field is not one of its allowed values.
+     */
+    INVALID_VALUE,
+
+    /**
+     * A numeric value needed for framing or group indexing (CheckSum, BodyLength, NumInGroup) is not a number.
+     */
+    MALFORMED_VALUE,
+
+    /**
+     * The CheckSum field does not match the sum of the message bytes.
+     */
+    CHECKSUM_MISMATCH,
+
+    /**
+     * The message does not start with BeginString, BodyLength and MsgType.
+     */
+    MISSING_STANDARD_HEADER,
+
+    /**
+     * The message does not end with the CheckSum field.
+     */
+    MISSING_CHECKSUM,
+
+    /**
+     * The BodyLength field does not match the number of bytes between it and the CheckSum field.
+     */
+    BODY_LENGTH_MISMATCH,
+
+    /**
+     * A header field follows a body field, or a body field follows a trailer field.
+     */
+    FIELD_OUT_OF_ORDER,
+
+    /**
+     * The MsgType has no message definition in the dictionary.
+     */
+    UNKNOWN_MSG_TYPE,
+
+    /**
+     * A body field is not part of the definition of the message type.
+     */
+    FIELD_NOT_DEFINED,
+
+    /**
+     * A field required by the header, the message type or a repeating group entry is missing.
+     */
+    MISSING_REQUIRED_FIELD,
+
+    /**
+     * A NumInGroup value is negative or larger than the rest of the message can hold.
+     */
+    INVALID_GROUP_COUNT,
+
+    /**
+     * A repeating group contains a different number of entries than its NumInGroup field declares.
+     */
+    GROUP_COUNT_MISMATCH
+}
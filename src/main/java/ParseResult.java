@@ -0,0 +1,127 @@
+/**
+ * The outcome of a non-throwing parse, see {@link Parser#parse(byte[], int, int, MessageView, ParseResult)}.
+ * <p>
+ * A result is meant to be allocated once and reused for every message. Recording a failure only stores an
+ * error code, the offending tag and the byte offset of the offending field; no exception, stack trace or
+ * message string is created unless {@link #getMessage()} or {@link #toException()} is called. This keeps the
+ * error path as cheap as the success path when a counterparty sends bursts of malformed messages.
+ * </p>
+ */
+public final class ParseResult {
+
+    public static final int NO_OFFSET = -1;
+
+    private ParseError error = ParseError.NONE;
+    private int tag;
+    private int offset = NO_OFFSET;
+    private long expected;
+    private long actual;
+
+    public boolean isSuccess() {
+        return error == ParseError.NONE;
+    }
+
+    public ParseError getError() {
+        return error;
+    }
+
+    /**
+     * Returns the tag of the offending field, or 0 if the error is not tied to a field.
+     */
+    public int getTag() {
+        return tag;
+    }
+
+    /**
+     * Returns the position of the offending field in the parsed buffer, or {@link #NO_OFFSET} if the error is
+     * not tied to a position, e.g. for a missing required field.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the value the message declared, for mismatches: the provided CheckSum, the provided BodyLength or
+     * the declared number of group entries.
+     */
+    public long getExpected() {
+        return expected;
+    }
+
+    /**
+     * Returns the value actually found, for mismatches: the calculated CheckSum, the actual body length or the
+     * number of group entries present.
+     */
+    public long getActual() {
+        return actual;
+    }
+
+    /**
+     * Clears the result before it is reused.
+     */
+    public void reset() {
+        error = ParseError.NONE;
+        tag = 0;
+        offset = NO_OFFSET;
+        expected = 0;
+        actual = 0;
+    }
+
+    /**
+     * Records a failure.
+     *
+     * @return Always false, so parsing code can {@code return result.fail(...)}.
+     */
+    boolean fail(ParseError error, int tag, int offset) {
+        return fail(error, tag, offset, 0, 0);
+    }
+
+    boolean fail(ParseError error, int tag, int offset, long expected, long actual) {
+        this.error = error;
+        this.tag = tag;
+        this.offset = offset;
+        this.expected = expected;
+        this.actual = actual;
+        return false;
+    }
+
+    /**
+     * Describes the failure in the same words as the corresponding {@link ParserException}.
+     */
+    public String getMessage() {
+        String description = switch (error) {
+            case NONE -> "No error";
+            case MALFORMED_MESSAGE -> "Malformed message";
+            case MISSING_EQUALS -> "No '=' found in field";
+            case UNKNOWN_TAG -> "Unknown field number " + tag;
+            case INVALID_VALUE -> "Invalid value for field " + tag;
+            case MALFORMED_VALUE -> "Malformed numeric value for field " + tag;
+            case CHECKSUM_MISMATCH -> "Checksum mismatch. Calculated: " + actual + ", Provided: " + expected;
+            case MISSING_STANDARD_HEADER -> "Message must start with BeginString, BodyLength and MsgType";
+            case MISSING_CHECKSUM -> "Message must end with CheckSum";
+            case BODY_LENGTH_MISMATCH -> "BodyLength mismatch. Calculated: " + actual + ", Provided: " + expected;
+            case FIELD_OUT_OF_ORDER -> "Field " + tag + " is out of order";
+            case UNKNOWN_MSG_TYPE -> "Unknown MsgType";
+            case FIELD_NOT_DEFINED -> "Field " + tag + " is not defined for the MsgType";
+            case MISSING_REQUIRED_FIELD -> "Required field " + tag + " is missing";
+            case INVALID_GROUP_COUNT -> "Invalid NumInGroup value for field " + tag;
+            case GROUP_COUNT_MISMATCH -> expected < actual
+                    ? "Group " + tag + " contains more than " + expected + " entries"
+                    : "Group " + tag + " declares " + expected + " entries but contains " + actual;
+        };
+        return "Invalid data: " + description;
+    }
+
+    /**
+     * Converts a failure into an exception for callers that prefer exceptions. The exception does not capture
+     * a stack trace.
+     */
+    public ParserException toException() {
+        return new ParserException(this);
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "ParseResult[OK]" : "ParseResult[" + error + ", tag=" + tag + ", offset=" + offset + "]";
+    }
+}
@@ -1,10 +1,11 @@
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 
 /**
  * Parses FIX protocol messages into a structured {@link Message} object using a version-specific dictionary.
  * <p>
  * This class handles tag/value validation, checksum verification, and categorizes fields into header, body,
- * and trailer sections based on the FIX specification. Example usage:
+ * and trailer sections based on the FIX specification. The checks performed are selected per instance with a
+ * {@link ValidationLevel}, {@link ValidationLevel#STRUCTURAL} by default. Example usage:
  * <pre>
  * {@code
  * ProtocolVersion version = ProtocolVersion.FIX44;
@@ -13,159 +14,512 @@ import java.nio.charset.StandardCharsets;
  * }
  * </pre>
  * </p>
+ * <p>
+ * Messages held in a {@link ByteBuffer}, including direct buffers filled by a network stack or mapped from
+ * shared memory, are parsed in place with {@link #parse(ByteBuffer, MessageView, ParseResult)}. Array-backed
+ * buffers take the {@code byte[]} path; other buffers are scanned, summed and validated through absolute
+ * {@link ByteBuffer} reads. Both run the same loop over a {@link ByteSource}. A foreign memory segment can be
+ * parsed through its {@code asByteBuffer()} view.
+ * </p>
  */
 public class Parser {
     private final Dictionary dictionary;
+    private final ByteScanner scanner;
+    private final ValidationLevel validationLevel;
+    private final boolean verifyChecksum;
+    private final boolean validateFields;
+    private final boolean validateFraming;
+    private final boolean validateMessage;
+    private final ValueCache valueCache;
 
     private static final byte SOH = 1;
     private static final byte EQUALS = '=';
+    private static final int BEGIN_STRING_FIELD = 8;
+    private static final int BODY_LENGTH_FIELD = 9;
     private static final byte CHECKSUM_FIELD = 10;
+    private static final int CHECKSUM_TAG_LENGTH = 3;
+    private static final int MSG_TYPE_FIELD = 35;
+    private static final int MIN_FIELD_LENGTH = 3;
 
     public Parser(ProtocolVersion version) {
-        this.dictionary = Dictionary.getInstance(version);
+        this(version, ByteScanner.getDefault());
+    }
+
+    /**
+     * Creates a parser that uses a specific scanning backend instead of the platform default.
+     *
+     * @param version The FIX protocol version whose dictionary is used for validation.
+     * @param scanner The backend used for delimiter search and checksum summation.
+     */
+    public Parser(ProtocolVersion version, ByteScanner scanner) {
+        this(version, scanner, ValidationLevel.STRUCTURAL);
+    }
+
+    /**
+     * Creates a parser with a specific validation level.
+     *
+     * @param version The FIX protocol version whose dictionary is used for validation.
+     * @param validationLevel The checks performed on every message.
+     */
+    public Parser(ProtocolVersion version, ValidationLevel validationLevel) {
+        this(version, ByteScanner.getDefault(), validationLevel);
+    }
+
+    /**
+     * Creates a parser with a specific scanning backend and validation level.
+     *
+     * @param version The FIX protocol version whose dictionary is used for validation.
+     * @param scanner The backend used for delimiter search and checksum summation.
+     * @param validationLevel The checks performed on every message.
+     */
+    public Parser(ProtocolVersion version, ByteScanner scanner, ValidationLevel validationLevel) {
+        this(Dictionary.getInstance(version), scanner, validationLevel);
+    }
+
+    /**
+     * Creates a parser for a custom or extended dictionary, see {@link Dictionary#getInstance(ProtocolVersion, java.nio.file.Path)}.
+     *
+     * @param dictionary The dictionary used for validation and section lookup.
+     */
+    public Parser(Dictionary dictionary) {
+        this(dictionary, ByteScanner.getDefault(), ValidationLevel.STRUCTURAL);
+    }
+
+    /**
+     * Creates a parser for a custom or extended dictionary with a specific scanning backend and validation level.
+     *
+     * @param dictionary The dictionary used for validation and section lookup.
+     * @param scanner The backend used for delimiter search and checksum summation.
+     * @param validationLevel The checks performed on every message.
+     */
+    public Parser(Dictionary dictionary, ByteScanner scanner, ValidationLevel validationLevel) {
+        this(dictionary, scanner, validationLevel, null);
+    }
+
+    /**
+     * Creates a parser that interns the values of high-repetition fields through a shared cache. Strings read
+     * from the messages and views it fills are taken from the cache for the tags the cache interns.
+     *
+     * @param dictionary The dictionary used for validation and section lookup.
+     * @param scanner The backend used for delimiter search and checksum summation.
+     * @param validationLevel The checks performed on every message.
+     * @param valueCache The cache, created for the same dictionary, or null for none.
+     * @throws IllegalArgumentException If the cache was created for another dictionary.
+     */
+    public Parser(Dictionary dictionary, ByteScanner scanner, ValidationLevel validationLevel, ValueCache valueCache) {
+        if (valueCache != null && valueCache.getDictionary() != dictionary) {
+            throw new IllegalArgumentException("ValueCache was created for a different dictionary");
+        }
+        this.valueCache = valueCache;
+        this.dictionary = dictionary;
+        this.scanner = scanner;
+        this.validationLevel = validationLevel;
+        this.verifyChecksum = validationLevel.compareTo(ValidationLevel.CHECKSUM_ONLY) >= 0;
+        this.validateFields = validationLevel.compareTo(ValidationLevel.STRUCTURAL) >= 0;
+        this.validateFraming = validationLevel.compareTo(ValidationLevel.FRAMING) >= 0;
+        this.validateMessage = validationLevel == ValidationLevel.FULL_DICTIONARY;
+    }
+
+    public ValidationLevel getValidationLevel() {
+        return validationLevel;
     }
 
     public Message parse(byte[] msg) {
-        Message fixMessage = new Message();
-        int start = 0;
+        Message message = new Message();
+        parse(msg, 0, msg.length, new MessageView(), message);
+        return message;
+    }
+
+    /**
+     * Parses a FIX message into a caller-owned {@link Message}, reusing its storage.
+     * <p>
+     * The message is cleared first and keeps the capacity it grew to on earlier messages, so a thread that
+     * reuses the same view and message, or draws them from a {@link MessagePool}, parses with a bounded heap
+     * footprint. Validation is identical to {@link #parse(byte[])}; if the message is invalid, it is left empty.
+     * </p>
+     *
+     * @param msg The byte array containing the FIX message.
+     * @param offset The starting index (inclusive) of the message.
+     * @param length The number of bytes in the message.
+     * @param view The view used to index the fields; any previous contents are discarded.
+     * @param message The message to fill; any previous contents are discarded.
+     */
+    public void parse(byte[] msg, int offset, int length, MessageView view, Message message) {
+        message.clear();
+        message.setDictionary(dictionary);
+        message.setValueCache(valueCache);
+        parse(msg, offset, length, view);
+
+        int nextGroup = 0;
+        int i = 0;
+        while (i < view.getFieldCount()) {
+            int tag = view.getTagAt(i);
+            addFieldToMessage(message, dictionary.getSection(tag), tag, msg, view.getValueOffsetAt(i), view.getValueLengthAt(i));
+            if (nextGroup < view.getGroupCount() && view.getGroupCountField(nextGroup) == i) {
+                message.addGroup(view, nextGroup);
+                i = view.getGroupEnd(nextGroup);
+                while (nextGroup < view.getGroupCount() && view.getGroupCountField(nextGroup) < i) {
+                    nextGroup++;
+                }
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Parses a FIX message into a caller-owned {@link MessageView} without materializing field values.
+     * <p>
+     * The view is reset and then filled with the tag number and value position of every field. Validation
+     * is identical to {@link #parse(byte[])}. Reusing the same view across calls keeps steady-state parsing
+     * free of allocations.
+     * </p>
+     *
+     * @param msg The byte array containing exactly one FIX message.
+     * @param view The view to fill; any previous contents are discarded.
+     */
+    public void parse(byte[] msg, MessageView view) {
+        parse(msg, 0, msg.length, view);
+    }
+
+    /**
+     * Parses a FIX message held in a range of a larger buffer, such as a frame emitted by {@link StreamFramer}.
+     * <p>
+     * Value offsets recorded in the view are absolute positions within {@code msg}. Invalid messages are
+     * reported with a {@link ParserException} that carries the error code, tag and offset of the failure but no
+     * stack trace; use {@link #parse(byte[], int, int, MessageView, ParseResult)} to avoid the exception as well.
+     * </p>
+     *
+     * @param msg The byte array containing the FIX message.
+     * @param offset The starting index (inclusive) of the message.
+     * @param length The number of bytes in the message.
+     * @param view The view to fill; any previous contents are discarded.
+     */
+    public void parse(byte[] msg, int offset, int length, MessageView view) {
+        ParseResult result = view.errorResult();
+        if (!parse(msg, offset, length, view, result)) {
+            throw result.toException();
+        }
+    }
+
+    /**
+     * Parses a FIX message without throwing on invalid data.
+     * <p>
+     * On failure the result records the error code, the tag and the byte offset of the first problem found,
+     * and the view holds the fields indexed up to that point. Neither an exception nor a message string is
+     * created, so with a reused view and result, rejecting a message allocates nothing, just like accepting one.
+     * </p>
+     *
+     * @param msg The byte array containing the FIX message.
+     * @param offset The starting index (inclusive) of the message.
+     * @param length The number of bytes in the message.
+     * @param view The view to fill; any previous contents are discarded.
+     * @param result The result to fill; any previous contents are discarded.
+     * @return True if the message is valid, false if the result describes why it is not.
+     */
+    public boolean parse(byte[] msg, int offset, int length, MessageView view, ParseResult result) {
+        view.reset(msg);
+        return parse(view.getSource(), offset, length, view, result);
+    }
+
+    /**
+     * Parses a FIX message held between the position and the limit of a buffer, without copying it.
+     * <p>
+     * The buffer's position is not changed. If the buffer is backed by an accessible array, the array is
+     * parsed and the view's offsets index into it, as for {@link #parse(byte[], int, int, MessageView)}.
+     * Otherwise the view references the buffer, see {@link MessageView#getByteBuffer()}, and offsets in the
+     * view and in the result are absolute indexes into the buffer.
+     * </p>
+     *
+     * @param msg The buffer containing the FIX message.
+     * @param view The view to fill; any previous contents are discarded.
+     * @param result The result to fill; any previous contents are discarded.
+     * @return True if the message is valid, false if the result describes why it is not.
+     */
+    public boolean parse(ByteBuffer msg, MessageView view, ParseResult result) {
+        if (msg.hasArray()) {
+            return parse(msg.array(), msg.arrayOffset() + msg.position(), msg.remaining(), view, result);
+        }
+        view.reset(msg);
+        return parse(view.getSource(), msg.position(), msg.remaining(), view, result);
+    }
+
+    /**
+     * Parses a FIX message held between the position and the limit of a buffer, without copying it.
+     *
+     * @param msg The buffer containing the FIX message; its position is not changed.
+     * @param view The view to fill; any previous contents are discarded.
+     * @throws ParserException If the message is invalid.
+     * @see #parse(ByteBuffer, MessageView, ParseResult)
+     */
+    public void parse(ByteBuffer msg, MessageView view) {
+        ParseResult result = view.errorResult();
+        if (!parse(msg, view, result)) {
+            throw result.toException();
+        }
+    }
+
+    /**
+     * The parsing loop shared by {@code byte[]} and {@link ByteBuffer} input; the view has already been reset to
+     * the source.
+     */
+    private boolean parse(ByteSource msg, int offset, int length, MessageView view, ParseResult result) {
+        result.reset();
+        view.setValueCache(valueCache);
+        int limit = offset + length;
+        int start = offset;
         int end;
         int calculatedChecksum = 0;
+        int checksumFrom = offset;
         int providedChecksum = -1;
+        int checksumOffset = ParseResult.NO_OFFSET;
+        MessageDefinition bodyLayout = null;
+        int msgTypeOffset = ParseResult.NO_OFFSET;
+        byte lastSection = Dictionary.SECTION_HEADER;
 
-        while (start < msg.length) {
-            end = indexOf(msg, SOH, start);
+        while (start < limit) {
+            end = msg.indexOf(scanner, SOH, start, limit);
             if (end == -1) {
-                end = msg.length;
+                end = limit;
             }
 
-            int eqPos = indexOf(msg, EQUALS, start, end);
+            int eqPos = msg.indexOf(scanner, EQUALS, start, end);
             if (eqPos == -1) {
-                throw new ParserException("Invalid data: No '=' found in field");
+                return result.fail(ParseError.MISSING_EQUALS, 0, start);
             }
 
             int tag = parseTag(msg, start, eqPos);
+            int valueOffset = eqPos + 1;
+            int valueLength = end - valueOffset;
 
-            String value = new String(msg, eqPos + 1, end - (eqPos + 1), StandardCharsets.US_ASCII);
+            if (validateFields) {
+                TagInfo tagInfo = dictionary.getTagInfo(tag);
+                if (tagInfo == null) {
+                    return result.fail(ParseError.UNKNOWN_TAG, tag, start);
+                }
+                if (tagInfo.hasValues() && !msg.hasValue(tagInfo, valueOffset, valueLength)) {
+                    return result.fail(ParseError.INVALID_VALUE, tag, start);
+                }
+            }
 
-            TagInfo tagInfo = dictionary.getTagInfo(tag);
-            if (tagInfo == null) {
-                throw new ParserException("Invalid data: Unknown field number " + tag);
+            if (tag == CHECKSUM_FIELD && verifyChecksum) {
+                calculatedChecksum += msg.sum(scanner, checksumFrom, start);
+                checksumFrom = end + 1;
+                providedChecksum = parseNumber(msg, valueOffset, valueLength);
+                if (providedChecksum == -1) {
+                    return result.fail(ParseError.MALFORMED_VALUE, tag, start);
+                }
+                checksumOffset = start;
             }
-            if (tagInfo.hasValues() && !tagInfo.hasValue(value)) {
-                throw new ParserException("Invalid data: Invalid value for field " + tag);
+
+            if (tag == MSG_TYPE_FIELD) {
+                bodyLayout = msg.getMessageDefinition(dictionary, valueOffset, valueLength);
+                msgTypeOffset = start;
             }
 
-            if (tag != CHECKSUM_FIELD) {
-                calculatedChecksum = updateChecksum(calculatedChecksum, msg, start, end);
-            } else {
-                providedChecksum = Integer.parseInt(value);
+            byte section = dictionary.getSection(tag);
+            if (validateMessage) {
+                byte order = section == Dictionary.SECTION_UNKNOWN ? Dictionary.SECTION_BODY : section;
+                if (order < lastSection) {
+                    return result.fail(ParseError.FIELD_OUT_OF_ORDER, tag, start);
+                }
+                lastSection = order;
             }
 
-            addFieldToMessage(fixMessage, tagInfo, tag, value);
+            int fieldIndex = view.addField(tag, start, valueOffset, valueLength);
+            FieldLayout sectionLayout = section == Dictionary.SECTION_HEADER ? dictionary.getHeaderLayout() : bodyLayout;
+            if (!view.trackGroups(fieldIndex, sectionLayout, (limit - end) / MIN_FIELD_LENGTH + 1, result)) {
+                return false;
+            }
 
             start = end + 1;
         }
+        if (!view.closeGroups(result)) {
+            return false;
+        }
+
+        if (verifyChecksum) {
+            calculatedChecksum = finishChecksum(calculatedChecksum, msg, checksumFrom, limit);
+            if (providedChecksum != -1 && calculatedChecksum != providedChecksum) {
+                return result.fail(ParseError.CHECKSUM_MISMATCH, CHECKSUM_FIELD, checksumOffset, providedChecksum, calculatedChecksum);
+            }
+        }
+        if (validateFraming && !validateFraming(view, offset, result)) {
+            return false;
+        }
+        if (validateMessage) {
+            if (bodyLayout == null) {
+                return result.fail(ParseError.UNKNOWN_MSG_TYPE, MSG_TYPE_FIELD, msgTypeOffset);
+            }
+            return validateMessageDefinition(view, bodyLayout, result);
+        }
+        return true;
+    }
+
+    /**
+     * Checks that the message starts with BeginString, BodyLength and MsgType, ends with CheckSum, and that
+     * BodyLength counts exactly the bytes between the BodyLength and CheckSum fields.
+     */
+    private boolean validateFraming(MessageView view, int offset, ParseResult result) {
+        int count = view.getFieldCount();
+        if (count < 4 || view.getTagAt(0) != BEGIN_STRING_FIELD || view.getTagAt(1) != BODY_LENGTH_FIELD
+                || view.getTagAt(2) != MSG_TYPE_FIELD) {
+            return result.fail(ParseError.MISSING_STANDARD_HEADER, 0, offset);
+        }
+        if (view.getTagAt(count - 1) != CHECKSUM_FIELD) {
+            return result.fail(ParseError.MISSING_CHECKSUM, 0, view.getFieldOffsetAt(count - 1));
+        }
+        int bodyStart = view.getValueOffsetAt(1) + view.getValueLengthAt(1) + 1;
+        int checksumStart = view.getValueOffsetAt(count - 1) - CHECKSUM_TAG_LENGTH;
+        int providedBodyLength = parseNumber(view.getSource(), view.getValueOffsetAt(1), view.getValueLengthAt(1));
+        if (providedBodyLength == -1) {
+            return result.fail(ParseError.MALFORMED_VALUE, BODY_LENGTH_FIELD, view.getFieldOffsetAt(1));
+        }
+        if (providedBodyLength != checksumStart - bodyStart) {
+            return result.fail(ParseError.BODY_LENGTH_MISMATCH, BODY_LENGTH_FIELD, view.getFieldOffsetAt(1),
+                    providedBodyLength, checksumStart - bodyStart);
+        }
+        return true;
+    }
 
-        calculatedChecksum %= 256;
+    /**
+     * Checks the message against the dictionary definition of its MsgType: every top-level body field must be
+     * defined for the message type, and all required fields of the header, the body and each repeating group
+     * entry must be present. Fields within group entries were already checked against their group definitions
+     * while the groups were indexed.
+     */
+    private boolean validateMessageDefinition(MessageView view, MessageDefinition definition, ParseResult result) {
+        int count = view.getFieldCount();
+        int nextGroup = 0;
+        int i = 0;
+        while (i < count) {
+            int tag = view.getTagAt(i);
+            byte section = dictionary.getSection(tag);
+            if ((section == Dictionary.SECTION_BODY || section == Dictionary.SECTION_UNKNOWN) && !definition.containsTag(tag)) {
+                return result.fail(ParseError.FIELD_NOT_DEFINED, tag, view.getFieldOffsetAt(i));
+            }
+            if (nextGroup < view.getGroupCount() && view.getGroupCountField(nextGroup) == i) {
+                i = view.getGroupEnd(nextGroup);
+                while (nextGroup < view.getGroupCount() && view.getGroupCountField(nextGroup) < i) {
+                    nextGroup++;
+                }
+            } else {
+                i++;
+            }
+        }
+
+        if (!requireFields(view, dictionary.getHeaderLayout(), 0, count, result)
+                || !requireFields(view, definition, 0, count, result)) {
+            return false;
+        }
+        for (int group = 0; group < view.getGroupCount(); group++) {
+            GroupDefinition groupDefinition = view.getGroupDefinition(group);
+            for (int n = 0; n < view.getGroupEntryCount(group); n++) {
+                int entry = view.getGroupEntry(group, n);
+                if (!requireFields(view, groupDefinition, view.getEntryStart(entry), view.getEntryEnd(entry), result)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 
-        if (providedChecksum != -1 && calculatedChecksum != providedChecksum) {
-            throw new ParserException("Invalid data: Checksum mismatch. Calculated: " + calculatedChecksum + ", Provided: " + providedChecksum);
+    private boolean requireFields(MessageView view, FieldLayout layout, int from, int to, ParseResult result) {
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            if (layout.isRequired(i) && view.indexOf(layout.getFieldTag(i), from, to) == -1) {
+                return result.fail(ParseError.MISSING_REQUIRED_FIELD, layout.getFieldTag(i), ParseResult.NO_OFFSET);
+            }
         }
+        return true;
+    }
 
-        return fixMessage;
+    /**
+     * Decodes a non-negative integer framing value without throwing.
+     *
+     * @return The value, or -1 if the bytes are empty, contain a non-digit or overflow.
+     */
+    private static int parseNumber(ByteSource msg, int offset, int length) {
+        if (length == 0 || length > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = msg.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
     }
 
     /**
-     * Parses a tag number from a byte array.
+     * Parses a tag number from the message bytes.
      * <p>
-     * This method extracts the tag number from the byte array by converting the ASCII digits
-     * between the start index and the position of the '=' character into an integer.
+     * This method extracts the tag number by converting the ASCII digits between the start index and the
+     * position of the '=' character into an integer.
      * </p>
      *
-     * @param msg The byte array containing the FIX message.
-     * @param start The starting index (inclusive) of the tag in the byte array.
-     * @param eqPos The index of the '=' character in the byte array.
+     * @param msg The bytes of the FIX message.
+     * @param start The starting index (inclusive) of the tag.
+     * @param eqPos The index of the '=' character.
      * @return The parsed tag number as an integer.
      */
-    private int parseTag(byte[] msg, int start, int eqPos) {
+    private int parseTag(ByteSource msg, int start, int eqPos) {
         int tag = 0;
         for (int i = start; i < eqPos; i++) {
-            tag = (tag * 10 + (msg[i] - '0'));
+            tag = (tag * 10 + (msg.get(i) - '0'));
         }
         return tag;
     }
 
     /**
-     * Updates the checksum for the FIX message.
+     * Completes the checksum for the FIX message.
      * <p>
-     * This method calculates the checksum by summing the byte values of the message between the start
-     * and end indices, including the SOH (Start of Header) delimiter. The checksum is used to verify
-     * the integrity of the FIX message.
+     * The checksum covers every byte of the message except the CheckSum field itself, including the SOH
+     * (Start of Header) delimiter after each field. Bytes before the CheckSum field are summed when that field
+     * is reached, so the whole message is summed in a few long runs that the scanner can process in wide
+     * strides. This method adds the bytes following the last CheckSum field, if any, and reduces the sum
+     * modulo 256. A missing SOH after the final field is counted as if it were present.
      * </p>
      *
-     * @param checksum The current checksum value.
-     * @param msg The byte array containing the FIX message.
-     * @param start The starting index (inclusive) of the field in the byte array.
-     * @param end The ending index (exclusive) of the field in the byte array.
-     * @return The updated checksum value.
+     * @param checksum The sum of all bytes before the last CheckSum field.
+     * @param msg The bytes of the FIX message.
+     * @param from The index of the first byte not yet summed.
+     * @param limit The end index (exclusive) of the message.
+     * @return The calculated checksum.
      */
-    private int updateChecksum(int checksum, byte[] msg, int start, int end) {
-        for (int i = start; i < end; i++) {
-            checksum += msg[i] & 0xFF;
+    private int finishChecksum(int checksum, ByteSource msg, int from, int limit) {
+        if (from < limit) {
+            checksum += msg.sum(scanner, from, limit);
+            if (msg.get(limit - 1) != SOH) {
+                checksum += SOH;
+            }
         }
-        checksum += SOH;
-        return checksum;
+        return checksum % 256;
     }
 
     /**
      * Adds a parsed field to the appropriate section (header, body, or trailer) of the FIX message.
      * <p>
-     * This method categorizes the field based on the tag's metadata from the FIX dictionary and adds it
-     * to the corresponding section of the {@link Message} object.
+     * This method categorizes the field using the section precomputed for the tag by the FIX dictionary and
+     * copies its value bytes into the corresponding section of the {@link Message} object.
      * </p>
      *
      * @param fixMessage The {@link Message} object to which the field will be added.
-     * @param tagInfo The {@link TagInfo} object containing metadata about the tag.
+     * @param section The section of the tag as returned by {@link Dictionary#getSection(int)}.
      * @param tag The tag number of the field.
-     * @param value The value associated with the tag.
+     * @param msg The byte array containing the FIX message.
+     * @param valueOffset The starting index (inclusive) of the value.
+     * @param valueLength The number of bytes in the value.
      */
-    private void addFieldToMessage(Message fixMessage, TagInfo tagInfo, int tag, String value) {
-        if (dictionary.isHeaderTag(tagInfo.getName())) {
-            fixMessage.addHeaderField(tag, value);
-        } else if (dictionary.isTrailerTag(tagInfo.getName())) {
-            fixMessage.addTrailerField(tag, value);
+    private void addFieldToMessage(Message fixMessage, byte section, int tag, byte[] msg, int valueOffset, int valueLength) {
+        if (section == Dictionary.SECTION_HEADER) {
+            fixMessage.addHeaderField(tag, msg, valueOffset, valueLength);
+        } else if (section == Dictionary.SECTION_TRAILER) {
+            fixMessage.addTrailerField(tag, msg, valueOffset, valueLength);
         } else {
-            fixMessage.addBodyField(tag, value);
-        }
-    }
-
-    /**
-     * Finds the index of a specific byte in the byte array within a given range.
-     *
-     * @param array The byte array to search.
-     * @param target The byte to find.
-     * @param start The starting index (inclusive).
-     * @param end The ending index (exclusive).
-     * @return The index of the target byte, or -1 if not found.
-     */
-    private int indexOf(byte[] array, byte target, int start, int end) {
-        for (int i = start; i < end; i++) {
-            if (array[i] == target) {
-                return i;
-            }
+            fixMessage.addBodyField(tag, msg, valueOffset, valueLength);
         }
-        return -1;
-    }
-
-    /**
-     * Finds the index of a specific byte in the byte array.
-     *
-     * @param array The byte array to search.
-     * @param target The byte to find.
-     * @param start The starting index (inclusive).
-     * @return The index of the target byte, or -1 if not found.
-     */
-    private int indexOf(byte[] array, byte target, int start) {
-        return indexOf(array, target, start, array.length);
     }
 }
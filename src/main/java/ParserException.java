@@ -1,5 +1,39 @@
 public class ParserException extends RuntimeException {
+
+    private final ParseError error;
+    private final int tag;
+    private final int offset;
+
     public ParserException(String message) {
         super(message);
+        this.error = ParseError.MALFORMED_MESSAGE;
+        this.tag = 0;
+        this.offset = ParseResult.NO_OFFSET;
+    }
+
+    /**
+     * Creates an exception from a failed {@link ParseResult}.
+     * <p>
+     * Stack trace filling and suppression are disabled: the result already pinpoints the offending field, and
+     * skipping the stack walk keeps throwing cheap when many invalid messages arrive in a burst.
+     * </p>
+     */
+    public ParserException(ParseResult result) {
+        super(result.getMessage(), null, false, false);
+        this.error = result.getError();
+        this.tag = result.getTag();
+        this.offset = result.getOffset();
+    }
+
+    public ParseError getError() {
+        return error;
+    }
+
+    public int getTag() {
+        return tag;
+    }
+
+    public int getOffset() {
+        return offset;
     }
 }
@@ -0,0 +1,238 @@
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counters and a latency histogram filled by an {@link InstrumentedParser}.
+ * <p>
+ * Metrics are opt-in: a plain {@link Parser} records nothing and pays nothing. Counters are striped
+ * {@link LongAdder}s, so parser threads sharing one instance do not contend on a single cache line. Message
+ * counts are broken down by MsgType (35) in an open-addressed table keyed by the packed MsgType bytes, which is
+ * filled lock-free with compare-and-set; after a MsgType has been seen once, recording a message allocates
+ * nothing. MsgTypes longer than four characters, and any beyond the table capacity, are counted together under
+ * {@code "other"}. Failures are counted per {@link ParseError}. Example usage:
+ * <pre>
+ * {@code
+ * ParserMetrics metrics = new ParserMetrics();
+ * metrics.register("orders");
+ * Parser parser = new InstrumentedParser(ProtocolVersion.FIX44, metrics);
+ * }
+ * </pre>
+ * </p>
+ */
+public final class ParserMetrics implements ParserMetricsMXBean {
+
+    public static final String OTHER_MSG_TYPE = "other";
+
+    private static final int MSG_TYPE_FIELD = 35;
+    private static final int MSG_TYPE_SLOTS = 512;
+    private static final ParseError[] ERRORS = ParseError.values();
+
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder[] failures = new LongAdder[ERRORS.length];
+    private final AtomicReferenceArray<MsgTypeCounter> msgTypes = new AtomicReferenceArray<>(MSG_TYPE_SLOTS);
+    private final LongAdder otherMsgTypes = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private volatile long startNanos = System.nanoTime();
+
+    private static final class MsgTypeCounter {
+        private final int key;
+        private final String msgType;
+        private final LongAdder count = new LongAdder();
+
+        private MsgTypeCounter(int key, String msgType) {
+            this.key = key;
+            this.msgType = msgType;
+        }
+    }
+
+    public ParserMetrics() {
+        for (int i = 0; i < failures.length; i++) {
+            failures[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one parse attempt.
+     *
+     * @param view The view the message was parsed into; holds at least the fields before a failure.
+     * @param length The number of bytes in the message.
+     * @param result The outcome of the parse.
+     * @param nanos The time the parse took.
+     */
+    void record(MessageView view, int length, ParseResult result, long nanos) {
+        messages.increment();
+        bytes.add(length);
+        latency.record(nanos);
+        if (!result.isSuccess()) {
+            failures[result.getError().ordinal()].increment();
+        }
+        int index = view.indexOf(MSG_TYPE_FIELD);
+        if (index != -1) {
+            countMsgType(view, index);
+        }
+    }
+
+    private void countMsgType(MessageView view, int index) {
+        int length = view.getValueLengthAt(index);
+        if (length == 0 || length > Integer.BYTES) {
+            otherMsgTypes.increment();
+            return;
+        }
+        int offset = view.getValueOffsetAt(index);
+        int key = 0;
+        for (int i = offset; i < offset + length; i++) {
+            key = (key << 8) | (view.byteAt(i) & 0xFF);
+        }
+        int mask = MSG_TYPE_SLOTS - 1;
+        int start = (key * 0x9E3779B9 >>> 16) & mask;
+        int slot = start;
+        do {
+            MsgTypeCounter counter = msgTypes.get(slot);
+            if (counter == null) {
+                MsgTypeCounter created = new MsgTypeCounter(key, view.getStringAt(index));
+                counter = msgTypes.compareAndSet(slot, null, created) ? created : msgTypes.get(slot);
+            }
+            if (counter.key == key) {
+                counter.count.increment();
+                return;
+            }
+            slot = (slot + 1) & mask;
+        } while (slot != start);
+        otherMsgTypes.increment();
+    }
+
+    @Override
+    public long getMessageCount() {
+        return messages.sum();
+    }
+
+    @Override
+    public long getByteCount() {
+        return bytes.sum();
+    }
+
+    @Override
+    public long getFailureCount() {
+        long total = 0;
+        for (LongAdder failure : failures) {
+            total += failure.sum();
+        }
+        return total;
+    }
+
+    public long getFailureCount(ParseError error) {
+        return failures[error.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of messages with a MsgType, or 0 if it has not been seen.
+     */
+    public long getMessageCount(String msgType) {
+        for (int i = 0; i < MSG_TYPE_SLOTS; i++) {
+            MsgTypeCounter counter = msgTypes.get(i);
+            if (counter != null && counter.msgType.equals(msgType)) {
+                return counter.count.sum();
+            }
+        }
+        return OTHER_MSG_TYPE.equals(msgType) ? otherMsgTypes.sum() : 0;
+    }
+
+    @Override
+    public double getBytesPerSecond() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed <= 0 ? 0 : bytes.sum() * 1e9 / elapsed;
+    }
+
+    @Override
+    public Map<String, Long> getMessageCountsByMsgType() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (int i = 0; i < MSG_TYPE_SLOTS; i++) {
+            MsgTypeCounter counter = msgTypes.get(i);
+            if (counter != null) {
+                counts.put(counter.msgType, counter.count.sum());
+            }
+        }
+        long other = otherMsgTypes.sum();
+        if (other != 0) {
+            counts.put(OTHER_MSG_TYPE, other);
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getFailureCountsByReason() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (ParseError error : ERRORS) {
+            long count = failures[error.ordinal()].sum();
+            if (count != 0) {
+                counts.put(error.name(), count);
+            }
+        }
+        return counts;
+    }
+
+    public LatencyHistogram getLatencyHistogram() {
+        return latency;
+    }
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return latency.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return latency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getLatencyP999Nanos() {
+        return latency.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public long getLatencyMaxNanos() {
+        return latency.getMaxValue();
+    }
+
+    /**
+     * Clears all counters. MsgTypes seen so far stay in the table with a count of 0.
+     */
+    @Override
+    public void reset() {
+        messages.reset();
+        bytes.reset();
+        for (LongAdder failure : failures) {
+            failure.reset();
+        }
+        for (int i = 0; i < MSG_TYPE_SLOTS; i++) {
+            MsgTypeCounter counter = msgTypes.get(i);
+            if (counter != null) {
+                counter.count.reset();
+            }
+        }
+        otherMsgTypes.reset();
+        latency.reset();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server.
+     *
+     * @param name The value of the {@code name} key, e.g. the feed or session the parser serves.
+     * @return The name the metrics were registered under, {@code fixparser:type=ParserMetrics,name=<name>}.
+     * @throws JMException If the name is invalid or already registered.
+     */
+    public ObjectName register(String name) throws JMException {
+        return MBeans.register(this, "ParserMetrics", name);
+    }
+
+    public void unregister(ObjectName objectName) throws JMException {
+        MBeans.unregister(objectName);
+    }
+}
@@ -0,0 +1,38 @@
+import java.util.Map;
+
+/**
+ * The JMX management interface of {@link ParserMetrics}.
+ */
+public interface ParserMetricsMXBean {
+
+    long getMessageCount();
+
+    long getByteCount();
+
+    long getFailureCount();
+
+    /**
+     * Returns the parse rate since the metrics were created or last reset.
+     */
+    double getBytesPerSecond();
+
+    /**
+     * Returns the number of messages parsed per MsgType (35), including failed ones whose MsgType was read.
+     */
+    Map<String, Long> getMessageCountsByMsgType();
+
+    /**
+     * Returns the number of failed parses per {@link ParseError}, omitting reasons that never occurred.
+     */
+    Map<String, Long> getFailureCountsByReason();
+
+    long getLatencyP50Nanos();
+
+    long getLatencyP99Nanos();
+
+    long getLatencyP999Nanos();
+
+    long getLatencyMaxNanos();
+
+    void reset();
+}
@@ -1,14 +1,32 @@
 public enum ProtocolVersion {
-    FIX42("FIX42.xml"),
-    FIX44("FIX44.xml");
+    FIX42("FIX42.xml", "FIX42.dict", "FIX.4.2"),
+    FIX44("FIX44.xml", "FIX44.dict", "FIX.4.4");
 
     private final String resourceName;
+    private final String snapshotResourceName;
+    private final String beginString;
 
-    ProtocolVersion(String resourceName) {
+    ProtocolVersion(String resourceName, String snapshotResourceName, String beginString) {
         this.resourceName = resourceName;
+        this.snapshotResourceName = snapshotResourceName;
+        this.beginString = beginString;
     }
 
     public String getResourceName() {
         return resourceName;
     }
+
+    /**
+     * Returns the value of the BeginString (8) field for this version.
+     */
+    public String getBeginString() {
+        return beginString;
+    }
+
+    /**
+     * Returns the name of the precompiled binary dictionary produced at build time by {@link DictionarySnapshot}.
+     */
+    public String getSnapshotResourceName() {
+        return snapshotResourceName;
+    }
 }
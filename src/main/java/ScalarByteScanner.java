@@ -0,0 +1,24 @@
+/**
+ * A {@link ByteScanner} that processes one byte per iteration.
+ */
+final class ScalarByteScanner implements ByteScanner {
+
+    @Override
+    public int indexOf(byte[] array, byte target, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int sum(byte[] array, int start, int end) {
+        int sum = 0;
+        for (int i = start; i < end; i++) {
+            sum += array[i] & 0xFF;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,128 @@
+import java.util.Arrays;
+
+/**
+ * Parses only the fields a consumer has subscribed to, skipping all others at scan speed.
+ * <p>
+ * The parser is configured with a set of interesting tags. Every other field is stepped over with a single
+ * delimiter search: it is neither validated against the dictionary nor recorded. The first occurrence of each
+ * interesting tag is validated and recorded in the {@link MessageView}, and the scan stops as soon as all of
+ * them have been found, so fields near the end of a long message are never touched. Example usage:
+ * <pre>
+ * {@code
+ * SelectiveParser parser = new SelectiveParser(ProtocolVersion.FIX44, new int[]{35, 11, 54, 38, 44}, true);
+ * MessageView view = new MessageView();
+ * if (parser.parse(frame, offset, length, view)) {
+ *     long price = view.getDecimal(44, 4);
+ * }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Framing is always checked: the BodyLength field must lead exactly to a {@code 10=} trailer at the end of the
+ * message. CheckSum verification reads every byte of the message, in one wide pass of the {@link ByteScanner},
+ * and can be switched off where the transport already guarantees integrity. Repeating groups are not tracked;
+ * for a tag that occurs in several entries only the first occurrence is recorded.
+ * </p>
+ */
+public class SelectiveParser {
+
+    private static final byte SOH = 1;
+    private static final byte EQUALS = '=';
+    private static final int CHECKSUM_FIELD_LENGTH = 7;
+
+    private final Dictionary dictionary;
+    private final ByteScanner scanner;
+    private final boolean verifyChecksum;
+    private final TagSet tags;
+
+    /**
+     * Creates a selective parser that uses the platform's default scanning backend.
+     *
+     * @param version The FIX protocol version whose dictionary is used to validate interesting fields.
+     * @param tags The tags to extract.
+     * @param verifyChecksum Whether the CheckSum of every message is verified.
+     */
+    public SelectiveParser(ProtocolVersion version, int[] tags, boolean verifyChecksum) {
+        this(version, ByteScanner.getDefault(), tags, verifyChecksum);
+    }
+
+    /**
+     * Creates a selective parser that uses a specific scanning backend.
+     *
+     * @param version The FIX protocol version whose dictionary is used to validate interesting fields.
+     * @param scanner The backend used for delimiter search and checksum summation.
+     * @param tags The tags to extract.
+     * @param verifyChecksum Whether the CheckSum of every message is verified.
+     */
+    public SelectiveParser(ProtocolVersion version, ByteScanner scanner, int[] tags, boolean verifyChecksum) {
+        this.dictionary = Dictionary.getInstance(version);
+        this.scanner = scanner;
+        this.verifyChecksum = verifyChecksum;
+        if (tags.length == 0 || Arrays.stream(tags).anyMatch(tag -> tag <= 0)) {
+            throw new IllegalArgumentException("Tags must be positive and at least one tag is required");
+        }
+        for (int tag : tags) {
+            if (dictionary.getTagInfo(tag) == null) {
+                throw new IllegalArgumentException("Unknown field number " + tag);
+            }
+        }
+        this.tags = new TagSet(tags);
+    }
+
+    /**
+     * Extracts the interesting fields of a complete FIX message.
+     *
+     * @param msg The byte array containing the FIX message.
+     * @param offset The starting index (inclusive) of the message.
+     * @param length The number of bytes in the message.
+     * @param view The view to fill with the interesting fields; any previous contents are discarded.
+     * @return True if every interesting tag was found, false if some are absent from the message.
+     */
+    public boolean parse(byte[] msg, int offset, int length, MessageView view) {
+        view.reset(msg);
+        int frameLength = StreamFramer.frameLength(msg, offset, length);
+        if (frameLength != length) {
+            throw new ParserException("Invalid data: BodyLength does not match message length");
+        }
+        int limit = offset + length;
+        if (verifyChecksum) {
+            int trailer = limit - CHECKSUM_FIELD_LENGTH;
+            int calculatedChecksum = scanner.sum(msg, offset, trailer) % 256;
+            int providedChecksum = ValueDecoder.decodeInt(msg, trailer + 3, 3);
+            if (calculatedChecksum != providedChecksum) {
+                throw new ParserException("Invalid data: Checksum mismatch. Calculated: " + calculatedChecksum + ", Provided: " + providedChecksum);
+            }
+        }
+
+        tags.clearSeen();
+        int remaining = tags.size();
+        int start = offset;
+        while (start < limit) {
+            int end = scanner.indexOf(msg, SOH, start, limit);
+            int tag = 0;
+            int eqPos = start;
+            for (; eqPos < end && msg[eqPos] != EQUALS; eqPos++) {
+                tag = tag * 10 + (msg[eqPos] - '0');
+            }
+            if (eqPos == end) {
+                throw new ParserException("Invalid data: No '=' found in field");
+            }
+
+            int slot = tags.slotOf(tag);
+            if (slot >= 0 && tags.markSeen(slot)) {
+                int valueOffset = eqPos + 1;
+                int valueLength = end - valueOffset;
+                TagInfo tagInfo = dictionary.getTagInfo(tag);
+                if (tagInfo.hasValues() && !tagInfo.hasValue(msg, valueOffset, valueLength)) {
+                    throw new ParserException("Invalid data: Invalid value for field " + tag);
+                }
+                view.addField(tag, start, valueOffset, valueLength);
+                if (--remaining == 0) {
+                    return true;
+                }
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,369 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Tracks MsgSeqNum (34) per FIX session as a pipeline stage after {@link Parser}, and reports gaps, duplicates
+ * and PossDupFlag (43) resends.
+ * <p>
+ * A session is identified by the SenderCompID (49) and TargetCompID (56) of the messages it sends. The tracker
+ * reads those fields, MsgSeqNum, MsgType (35) and PossDupFlag straight from a parsed {@link MessageView}, hashes
+ * the CompID bytes and finds the session in an open-addressed table with linear probing. Session state is kept
+ * in parallel primitive arrays indexed by a dense session number, so once a session has been seen, tracking a
+ * message allocates nothing, and thousands of sessions cost a few array slots each. Example usage:
+ * <pre>
+ * {@code
+ * SessionTracker tracker = new SessionTracker(new SessionTracker.Listener() {
+ *     public void onGap(int session, long expected, long received) {
+ *         resendQueue.add(session, expected, received - 1);
+ *     }
+ * });
+ * parser.parse(frame, 0, frameLength, view);
+ * tracker.track(view);
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * The first message of a session sets its baseline, as do a Logon (35=A) with ResetSeqNumFlag (141=Y) and a
+ * SequenceReset (35=4). A gap advances the expected sequence number past the received one, so the resent
+ * messages that fill it arrive below the expected number and are reported as resends when they carry
+ * PossDupFlag=Y, or as duplicates otherwise.
+ * </p>
+ * <p>
+ * Instances are not thread-safe; use one tracker per pipeline thread and route each session to one thread.
+ * </p>
+ */
+public class SessionTracker {
+
+    private static final int SENDER_COMP_ID_FIELD = 49;
+    private static final int TARGET_COMP_ID_FIELD = 56;
+    private static final int MSG_SEQ_NUM_FIELD = 34;
+    private static final int MSG_TYPE_FIELD = 35;
+    private static final int POSS_DUP_FLAG_FIELD = 43;
+    private static final int NEW_SEQ_NO_FIELD = 36;
+    private static final int GAP_FILL_FLAG_FIELD = 123;
+    private static final int RESET_SEQ_NUM_FLAG_FIELD = 141;
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int EMPTY_SLOT = 0;
+
+    /**
+     * The outcome of tracking one message.
+     */
+    public enum Status {
+        /** The message carries the expected sequence number, or sets the baseline of a new session. */
+        IN_SEQUENCE,
+        /** The sequence number is higher than expected; the messages in between are missing. */
+        GAP,
+        /** The sequence number is lower than expected and the message is not flagged as a possible duplicate. */
+        DUPLICATE,
+        /** The sequence number is lower than expected and PossDupFlag is set, as for a resent message. */
+        POSS_DUP_RESEND,
+        /** A SequenceReset or a Logon with ResetSeqNumFlag moved the expected sequence number. */
+        SEQUENCE_RESET,
+        /** The message lacks SenderCompID, TargetCompID or MsgSeqNum and was not tracked. */
+        UNTRACKED
+    }
+
+    /**
+     * Receives sequence events. All methods are called on the tracking thread, before {@link #track} returns.
+     */
+    public interface Listener {
+
+        default void onNewSession(int session, long seqNum) {
+        }
+
+        /**
+         * Called when messages {@code expected} to {@code received - 1} are missing.
+         */
+        default void onGap(int session, long expected, long received) {
+        }
+
+        default void onDuplicate(int session, long expected, long received) {
+        }
+
+        default void onPossDupResend(int session, long expected, long received) {
+        }
+
+        /**
+         * Called when the next expected sequence number is set to {@code newSeqNum}.
+         */
+        default void onSequenceReset(int session, long newSeqNum) {
+        }
+    }
+
+    private final Listener listener;
+
+    private int[] slots;
+    private long[] hashes;
+    private byte[][] compIds;
+    private int[] senderLengths;
+    private long[] nextSeqNums;
+    private long[] gapCounts;
+    private long[] duplicateCounts;
+    private long[] resendCounts;
+    private String[] senderCompIds;
+    private String[] targetCompIds;
+    private int sessionCount;
+    private byte[] compIdScratch = new byte[64];
+
+    public SessionTracker() {
+        this(new Listener() {
+        });
+    }
+
+    public SessionTracker(Listener listener) {
+        this.listener = listener;
+        this.slots = new int[DEFAULT_CAPACITY * 2];
+        this.hashes = new long[DEFAULT_CAPACITY];
+        this.compIds = new byte[DEFAULT_CAPACITY][];
+        this.senderLengths = new int[DEFAULT_CAPACITY];
+        this.nextSeqNums = new long[DEFAULT_CAPACITY];
+        this.gapCounts = new long[DEFAULT_CAPACITY];
+        this.duplicateCounts = new long[DEFAULT_CAPACITY];
+        this.resendCounts = new long[DEFAULT_CAPACITY];
+        this.senderCompIds = new String[DEFAULT_CAPACITY];
+        this.targetCompIds = new String[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Checks the sequence number of a parsed message against its session and updates the session.
+     *
+     * @param view A successfully parsed message.
+     * @return The outcome; the listener has already been notified of any event.
+     */
+    public Status track(MessageView view) {
+        int senderIndex = view.indexOf(SENDER_COMP_ID_FIELD);
+        int targetIndex = view.indexOf(TARGET_COMP_ID_FIELD);
+        int seqNumIndex = view.indexOf(MSG_SEQ_NUM_FIELD);
+        if (senderIndex == -1 || targetIndex == -1 || seqNumIndex == -1) {
+            return Status.UNTRACKED;
+        }
+        long seqNum = view.getLongAt(seqNumIndex);
+
+        byte[] buffer = view.getBuffer();
+        int senderOffset = view.getValueOffsetAt(senderIndex);
+        int senderLength = view.getValueLengthAt(senderIndex);
+        int targetOffset = view.getValueOffsetAt(targetIndex);
+        int targetLength = view.getValueLengthAt(targetIndex);
+        if (buffer == null) {
+            // The view is over a direct buffer: key the session by a copy of the two CompIDs.
+            if (compIdScratch.length < senderLength + targetLength) {
+                compIdScratch = new byte[(senderLength + targetLength) * 2];
+            }
+            buffer = compIdScratch;
+            senderOffset = 0;
+            targetOffset = view.copyValueAt(senderIndex, buffer, 0);
+            view.copyValueAt(targetIndex, buffer, targetOffset);
+        }
+        long hash = hash(buffer, senderOffset, senderLength, targetOffset, targetLength);
+        int session = find(hash, buffer, senderOffset, senderLength, targetOffset, targetLength);
+        if (session == -1) {
+            session = addSession(hash, buffer, senderOffset, senderLength, targetOffset, targetLength);
+            nextSeqNums[session] = seqNum + 1;
+            listener.onNewSession(session, seqNum);
+            return applyReset(view, session, seqNum) ? Status.SEQUENCE_RESET : Status.IN_SEQUENCE;
+        }
+        if (applyReset(view, session, seqNum)) {
+            return Status.SEQUENCE_RESET;
+        }
+
+        long expected = nextSeqNums[session];
+        if (seqNum == expected) {
+            nextSeqNums[session] = seqNum + 1;
+            return Status.IN_SEQUENCE;
+        }
+        if (seqNum > expected) {
+            nextSeqNums[session] = seqNum + 1;
+            gapCounts[session]++;
+            listener.onGap(session, expected, seqNum);
+            return Status.GAP;
+        }
+        if (isFlagSet(view, POSS_DUP_FLAG_FIELD)) {
+            resendCounts[session]++;
+            listener.onPossDupResend(session, expected, seqNum);
+            return Status.POSS_DUP_RESEND;
+        }
+        duplicateCounts[session]++;
+        listener.onDuplicate(session, expected, seqNum);
+        return Status.DUPLICATE;
+    }
+
+    /**
+     * Applies a SequenceReset (35=4) or a Logon (35=A) with ResetSeqNumFlag (141=Y).
+     * <p>
+     * A SequenceReset in Reset mode sets the expected number to NewSeqNo regardless of its own MsgSeqNum. In
+     * GapFill mode (123=Y) it only does so when it is not a stale resend below the expected number.
+     * </p>
+     *
+     * @return True if the message reset the session.
+     */
+    private boolean applyReset(MessageView view, int session, long seqNum) {
+        int msgTypeIndex = view.indexOf(MSG_TYPE_FIELD);
+        if (msgTypeIndex == -1 || view.getValueLengthAt(msgTypeIndex) != 1) {
+            return false;
+        }
+        byte msgType = view.byteAt(view.getValueOffsetAt(msgTypeIndex));
+        long newSeqNum;
+        if (msgType == '4') {
+            int newSeqNoIndex = view.indexOf(NEW_SEQ_NO_FIELD);
+            if (newSeqNoIndex == -1) {
+                return false;
+            }
+            if (isFlagSet(view, GAP_FILL_FLAG_FIELD) && seqNum < nextSeqNums[session]) {
+                return false;
+            }
+            newSeqNum = view.getLongAt(newSeqNoIndex);
+        } else if (msgType == 'A' && isFlagSet(view, RESET_SEQ_NUM_FLAG_FIELD)) {
+            newSeqNum = seqNum + 1;
+        } else {
+            return false;
+        }
+        nextSeqNums[session] = newSeqNum;
+        listener.onSequenceReset(session, newSeqNum);
+        return true;
+    }
+
+    private static boolean isFlagSet(MessageView view, int tag) {
+        int index = view.indexOf(tag);
+        return index != -1 && view.getValueLengthAt(index) == 1 && view.byteAt(view.getValueOffsetAt(index)) == 'Y';
+    }
+
+    /**
+     * Returns the number of sessions seen so far. Sessions are numbered from 0 in the order they were first seen.
+     */
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Finds a session by its CompIDs.
+     *
+     * @return The session number, or -1 if no message of the session has been tracked.
+     */
+    public int findSession(String senderCompId, String targetCompId) {
+        byte[] sender = senderCompId.getBytes(StandardCharsets.US_ASCII);
+        byte[] target = targetCompId.getBytes(StandardCharsets.US_ASCII);
+        byte[] key = Arrays.copyOf(sender, sender.length + target.length);
+        System.arraycopy(target, 0, key, sender.length, target.length);
+        long hash = hash(key, 0, sender.length, sender.length, target.length);
+        return find(hash, key, 0, sender.length, sender.length, target.length);
+    }
+
+    public String getSenderCompId(int session) {
+        checkSession(session);
+        return senderCompIds[session];
+    }
+
+    public String getTargetCompId(int session) {
+        checkSession(session);
+        return targetCompIds[session];
+    }
+
+    /**
+     * Returns the MsgSeqNum the session is expected to send next.
+     */
+    public long getNextSeqNum(int session) {
+        checkSession(session);
+        return nextSeqNums[session];
+    }
+
+    public long getGapCount(int session) {
+        checkSession(session);
+        return gapCounts[session];
+    }
+
+    public long getDuplicateCount(int session) {
+        checkSession(session);
+        return duplicateCounts[session];
+    }
+
+    public long getPossDupResendCount(int session) {
+        checkSession(session);
+        return resendCounts[session];
+    }
+
+    private int find(long hash, byte[] buffer, int senderOffset, int senderLength, int targetOffset, int targetLength) {
+        int mask = slots.length - 1;
+        for (int slot = (int) hash & mask; slots[slot] != EMPTY_SLOT; slot = (slot + 1) & mask) {
+            int session = slots[slot] - 1;
+            if (hashes[session] == hash && matches(session, buffer, senderOffset, senderLength, targetOffset, targetLength)) {
+                return session;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(int session, byte[] buffer, int senderOffset, int senderLength, int targetOffset,
+                            int targetLength) {
+        byte[] key = compIds[session];
+        int keySenderLength = senderLengths[session];
+        return keySenderLength == senderLength && key.length - keySenderLength == targetLength
+                && Arrays.equals(key, 0, senderLength, buffer, senderOffset, senderOffset + senderLength)
+                && Arrays.equals(key, senderLength, key.length, buffer, targetOffset, targetOffset + targetLength);
+    }
+
+    private int addSession(long hash, byte[] buffer, int senderOffset, int senderLength, int targetOffset,
+                           int targetLength) {
+        if (sessionCount == hashes.length) {
+            grow();
+        }
+        int session = sessionCount++;
+        byte[] key = new byte[senderLength + targetLength];
+        System.arraycopy(buffer, senderOffset, key, 0, senderLength);
+        System.arraycopy(buffer, targetOffset, key, senderLength, targetLength);
+        hashes[session] = hash;
+        compIds[session] = key;
+        senderLengths[session] = senderLength;
+        senderCompIds[session] = new String(key, 0, senderLength, StandardCharsets.US_ASCII);
+        targetCompIds[session] = new String(key, senderLength, targetLength, StandardCharsets.US_ASCII);
+        insertSlot(hash, session);
+        return session;
+    }
+
+    private void insertSlot(long hash, int session) {
+        int mask = slots.length - 1;
+        int slot = (int) hash & mask;
+        while (slots[slot] != EMPTY_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = session + 1;
+    }
+
+    /**
+     * Hashes both CompIDs with 64-bit FNV-1a, separated by a SOH so that moving bytes between them changes the hash.
+     */
+    private static long hash(byte[] buffer, int senderOffset, int senderLength, int targetOffset, int targetLength) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = senderOffset; i < senderOffset + senderLength; i++) {
+            hash = (hash ^ (buffer[i] & 0xFF)) * 0x100000001b3L;
+        }
+        hash = (hash ^ 1) * 0x100000001b3L;
+        for (int i = targetOffset; i < targetOffset + targetLength; i++) {
+            hash = (hash ^ (buffer[i] & 0xFF)) * 0x100000001b3L;
+        }
+        return hash ^ (hash >>> 32);
+    }
+
+    private void grow() {
+        int newCapacity = hashes.length << 1;
+        hashes = Arrays.copyOf(hashes, newCapacity);
+        compIds = Arrays.copyOf(compIds, newCapacity);
+        senderLengths = Arrays.copyOf(senderLengths, newCapacity);
+        nextSeqNums = Arrays.copyOf(nextSeqNums, newCapacity);
+        gapCounts = Arrays.copyOf(gapCounts, newCapacity);
+        duplicateCounts = Arrays.copyOf(duplicateCounts, newCapacity);
+        resendCounts = Arrays.copyOf(resendCounts, newCapacity);
+        senderCompIds = Arrays.copyOf(senderCompIds, newCapacity);
+        targetCompIds = Arrays.copyOf(targetCompIds, newCapacity);
+        slots = new int[newCapacity * 2];
+        for (int session = 0; session < sessionCount; session++) {
+            insertSlot(hashes[session], session);
+        }
+    }
+
+    private void checkSession(int session) {
+        if (session < 0 || session >= sessionCount) {
+            throw new IndexOutOfBoundsException(session);
+        }
+    }
+}
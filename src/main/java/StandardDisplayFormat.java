@@ -0,0 +1,149 @@
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The built-in {@link DisplayFormat}s.
+ */
+public enum StandardDisplayFormat implements DisplayFormat {
+
+    /**
+     * One line per field, {@code 35:MsgType = A (LOGON)}; tags missing from the dictionary are written as
+     * {@code 5001 = X}.
+     */
+    TEXT {
+        @Override
+        public void field(DisplayBuffer out, int index, int tag, byte[] name, byte[] buffer, int offset, int length,
+                          byte[] description) {
+            out.append(tag);
+            if (name != null) {
+                out.append((byte) ':').append(name);
+            }
+            out.append(EQUALS).append(buffer, offset, length);
+            if (description != null) {
+                out.append((byte) ' ').append((byte) '(').append(description).append((byte) ')');
+            }
+            out.append((byte) '\n');
+        }
+    },
+
+    /**
+     * One JSON array per message and line, with an object per field:
+     * {@code [{"tag":35,"name":"MsgType","value":"A","description":"LOGON"},...]}. {@code name} and
+     * {@code description} are left out when the dictionary has none.
+     */
+    JSON_LINES {
+        @Override
+        public void beginMessage(DisplayBuffer out) {
+            out.append((byte) '[');
+        }
+
+        @Override
+        public void field(DisplayBuffer out, int index, int tag, byte[] name, byte[] buffer, int offset, int length,
+                          byte[] description) {
+            if (index != 0) {
+                out.append((byte) ',');
+            }
+            out.append(JSON_TAG).append(tag);
+            if (name != null) {
+                out.append(JSON_NAME);
+                appendJson(out, name, 0, name.length);
+                out.append((byte) '"');
+            }
+            out.append(JSON_VALUE);
+            appendJson(out, buffer, offset, length);
+            out.append((byte) '"');
+            if (description != null) {
+                out.append(JSON_DESCRIPTION);
+                appendJson(out, description, 0, description.length);
+                out.append((byte) '"');
+            }
+            out.append((byte) '}');
+        }
+
+        @Override
+        public void endMessage(DisplayBuffer out) {
+            out.append((byte) ']').append((byte) '\n');
+        }
+    },
+
+    /**
+     * One row per field with the columns {@code tag,name,value,description}, quoted as in RFC 4180 where needed.
+     * Empty columns stand for a missing name or description.
+     */
+    CSV {
+        @Override
+        public void field(DisplayBuffer out, int index, int tag, byte[] name, byte[] buffer, int offset, int length,
+                          byte[] description) {
+            out.append(tag).append((byte) ',');
+            if (name != null) {
+                appendCsv(out, name, 0, name.length);
+            }
+            out.append((byte) ',');
+            appendCsv(out, buffer, offset, length);
+            out.append((byte) ',');
+            if (description != null) {
+                appendCsv(out, description, 0, description.length);
+            }
+            out.append((byte) '\n');
+        }
+    };
+
+    private static final byte[] EQUALS = {' ', '=', ' '};
+    private static final byte[] JSON_TAG = ascii("{\"tag\":");
+    private static final byte[] JSON_NAME = ascii(",\"name\":\"");
+    private static final byte[] JSON_VALUE = ascii(",\"value\":\"");
+    private static final byte[] JSON_DESCRIPTION = ascii(",\"description\":\"");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    /**
+     * Appends bytes inside a JSON string. Quotes, backslashes, control characters and bytes above 0x7F, which
+     * are read as ISO-8859-1 like {@link AsciiSequence} does, are escaped.
+     */
+    private static void appendJson(DisplayBuffer out, byte[] buffer, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            int b = buffer[i] & 0xFF;
+            if (b >= 0x20 && b < 0x7F && b != '"' && b != '\\') {
+                continue;
+            }
+            out.append(buffer, start, i - start);
+            start = i + 1;
+            if (b == '"' || b == '\\') {
+                out.append((byte) '\\').append((byte) b);
+            } else {
+                out.append((byte) '\\').append((byte) 'u').append((byte) '0').append((byte) '0')
+                        .append(HEX[b >>> 4]).append(HEX[b & 0xF]);
+            }
+        }
+        out.append(buffer, start, end - start);
+    }
+
+    /**
+     * Appends a CSV column, quoted and with doubled quotes if it contains a comma, quote or line break.
+     */
+    private static void appendCsv(DisplayBuffer out, byte[] buffer, int offset, int length) {
+        int end = offset + length;
+        boolean quote = false;
+        for (int i = offset; i < end && !quote; i++) {
+            byte b = buffer[i];
+            quote = b == ',' || b == '"' || b == '\n' || b == '\r';
+        }
+        if (!quote) {
+            out.append(buffer, offset, length);
+            return;
+        }
+        out.append((byte) '"');
+        int start = offset;
+        for (int i = offset; i < end; i++) {
+            if (buffer[i] == '"') {
+                out.append(buffer, start, i + 1 - start).append((byte) '"');
+                start = i + 1;
+            }
+        }
+        out.append(buffer, start, end - start).append((byte) '"');
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
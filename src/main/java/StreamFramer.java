@@ -0,0 +1,198 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Splits a stream of FIX bytes, delivered in arbitrary chunks, into complete message frames.
+ * <p>
+ * Frame boundaries are located from the {@code 8=BeginString} and {@code 9=BodyLength} prefix, and every
+ * frame is checked to end with a {@code 10=CheckSum} trailer. Frames that lie entirely within a heap
+ * {@link ByteBuffer} chunk are handed to the {@link FrameHandler} straight from the chunk's backing array,
+ * without copying. Only a partial tail at the end of a chunk (and data from direct buffers) is copied into
+ * a bounded internal buffer, where it is reassembled with the bytes of the following chunks. Example usage:
+ * <pre>
+ * {@code
+ * StreamFramer framer = new StreamFramer(64 * 1024);
+ * MessageView view = new MessageView();
+ * while (channel.read(readBuffer) != -1) {
+ *     readBuffer.flip();
+ *     framer.onData(readBuffer, (buffer, offset, length) -> parser.parse(buffer, offset, length, view));
+ *     readBuffer.clear();
+ * }
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Frames passed to the handler are only valid for the duration of the callback. Instances are not thread-safe.
+ * </p>
+ */
+public class StreamFramer {
+
+    private static final byte SOH = 1;
+    private static final byte EQUALS = '=';
+    private static final int CHECKSUM_FIELD_LENGTH = 7;
+
+    private final byte[] pending;
+    private int pendingLength;
+
+    @FunctionalInterface
+    public interface FrameHandler {
+        void onFrame(byte[] buffer, int offset, int length);
+    }
+
+    /**
+     * Creates a framer whose reassembly buffer can hold a single frame of up to {@code capacity} bytes.
+     *
+     * @param capacity The maximum size of a frame that spans chunk boundaries.
+     */
+    public StreamFramer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.pending = new byte[capacity];
+    }
+
+    /**
+     * Consumes all remaining bytes of a chunk and emits every frame that is completed by it.
+     *
+     * @param chunk The bytes read from the stream; its position is advanced to its limit.
+     * @param handler The callback receiving each complete frame.
+     */
+    public void onData(ByteBuffer chunk, FrameHandler handler) {
+        while (chunk.hasRemaining()) {
+            if (pendingLength == 0 && chunk.hasArray()) {
+                int start = chunk.arrayOffset() + chunk.position();
+                int consumed = emitFrames(chunk.array(), start, chunk.remaining(), handler);
+                chunk.position(chunk.position() + consumed);
+                append(chunk, chunk.remaining());
+            } else {
+                int frameLength = frameLength(pending, 0, pendingLength);
+                int wanted = frameLength > 0 ? frameLength - pendingLength : chunk.remaining();
+                append(chunk, wanted);
+                int consumed = emitFrames(pending, 0, pendingLength, handler);
+                compact(consumed);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of buffered bytes that belong to a frame not yet completed.
+     */
+    public int getPendingLength() {
+        return pendingLength;
+    }
+
+    /**
+     * Discards any partially received frame, e.g. after the underlying connection was reset.
+     */
+    public void reset() {
+        pendingLength = 0;
+    }
+
+    /**
+     * Determines the total length of the frame starting at the given position.
+     * <p>
+     * The length is derived from the BodyLength field, so it is known as soon as the {@code 8=} and {@code 9=}
+     * fields are available, even if the rest of the frame has not been received yet. When the complete frame
+     * is available, its trailer is checked to start with {@code 10=} and end with SOH.
+     * </p>
+     *
+     * @param buffer The byte array containing the stream data.
+     * @param offset The starting index (inclusive) of the frame.
+     * @param available The number of bytes available from {@code offset}.
+     * @return The total frame length in bytes, or -1 if the BodyLength field is not yet complete.
+     */
+    public static int frameLength(byte[] buffer, int offset, int available) {
+        int limit = offset + available;
+        if (available < 2) {
+            return -1;
+        }
+        if (buffer[offset] != '8' || buffer[offset + 1] != EQUALS) {
+            throw new ParserException("Invalid data: Frame does not start with BeginString");
+        }
+
+        int beginStringEnd = indexOf(buffer, SOH, offset + 2, limit);
+        if (beginStringEnd == -1 || beginStringEnd + 3 > limit) {
+            return -1;
+        }
+        if (buffer[beginStringEnd + 1] != '9' || buffer[beginStringEnd + 2] != EQUALS) {
+            throw new ParserException("Invalid data: BodyLength must follow BeginString");
+        }
+
+        int bodyLength = 0;
+        int pos = beginStringEnd + 3;
+        for (; pos < limit && buffer[pos] != SOH; pos++) {
+            int digit = buffer[pos] - '0';
+            if (digit < 0 || digit > 9 || bodyLength > (Integer.MAX_VALUE - digit) / 10) {
+                throw new ParserException("Invalid data: Malformed BodyLength");
+            }
+            bodyLength = bodyLength * 10 + digit;
+        }
+        if (pos == limit) {
+            return -1;
+        }
+
+        int bodyStart = pos + 1;
+        long frameLength = (long) bodyStart - offset + bodyLength + CHECKSUM_FIELD_LENGTH;
+        if (frameLength > Integer.MAX_VALUE) {
+            throw new ParserException("Invalid data: BodyLength out of range");
+        }
+        if (frameLength <= available) {
+            int trailer = bodyStart + bodyLength;
+            if (buffer[trailer] != '1' || buffer[trailer + 1] != '0' || buffer[trailer + 2] != EQUALS
+                    || buffer[trailer + CHECKSUM_FIELD_LENGTH - 1] != SOH) {
+                throw new ParserException("Invalid data: CheckSum not found at position given by BodyLength");
+            }
+        }
+        return (int) frameLength;
+    }
+
+    /**
+     * Emits every complete frame in the given range.
+     *
+     * @return The number of bytes consumed by complete frames.
+     */
+    private int emitFrames(byte[] buffer, int offset, int length, FrameHandler handler) {
+        int pos = offset;
+        int limit = offset + length;
+        while (pos < limit) {
+            int frameLength = frameLength(buffer, pos, limit - pos);
+            if (frameLength == -1 || frameLength > limit - pos) {
+                break;
+            }
+            handler.onFrame(buffer, pos, frameLength);
+            pos += frameLength;
+        }
+        return pos - offset;
+    }
+
+    /**
+     * Copies up to {@code count} bytes from the chunk into the reassembly buffer.
+     */
+    private void append(ByteBuffer chunk, int count) {
+        int free = pending.length - pendingLength;
+        int length = Math.min(Math.min(count, chunk.remaining()), free);
+        if (length == 0 && count > 0 && chunk.hasRemaining()) {
+            throw new ParserException("Invalid data: Frame exceeds framer capacity of " + pending.length + " bytes");
+        }
+        chunk.get(pending, pendingLength, length);
+        pendingLength += length;
+    }
+
+    /**
+     * Moves the unconsumed tail of the reassembly buffer to its start.
+     */
+    private void compact(int consumed) {
+        if (consumed > 0) {
+            pendingLength -= consumed;
+            System.arraycopy(pending, consumed, pending, 0, pendingLength);
+        }
+    }
+
+    private static int indexOf(byte[] array, byte target, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,106 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A {@link ByteScanner} that processes eight bytes per iteration packed into a {@code long}.
+ * <p>
+ * Delimiter search uses the classic "has zero byte" bit trick on the XOR of the word with the broadcast
+ * target byte. Summation adds the even and odd bytes of each word into four 16-bit lanes, which are folded
+ * into the total before they can overflow.
+ * </p>
+ */
+final class SwarByteScanner implements ByteScanner {
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONG_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long EVEN_BYTES = 0x00FF00FF00FF00FFL;
+    private static final long SHORT_LANES = 0x0001000100010001L;
+
+    // Each 16-bit lane gains at most 2 * 255 per word, so 128 words fit before a lane can overflow.
+    private static final int WORDS_PER_FOLD = 128;
+
+    @Override
+    public int indexOf(byte[] array, byte target, int start, int end) {
+        long pattern = (target & 0xFFL) * ONES;
+        int i = start;
+        for (; i + Long.BYTES <= end; i += Long.BYTES) {
+            long word = (long) LONG_VIEW.get(array, i) ^ pattern;
+            long found = (word - ONES) & ~word & HIGH_BITS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < end; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int sum(byte[] array, int start, int end) {
+        int sum = 0;
+        int i = start;
+        while (i + Long.BYTES <= end) {
+            long lanes = 0;
+            int words = Math.min((end - i) / Long.BYTES, WORDS_PER_FOLD);
+            for (int w = 0; w < words; w++, i += Long.BYTES) {
+                long word = (long) LONG_VIEW.get(array, i);
+                lanes += (word & EVEN_BYTES) + ((word >>> 8) & EVEN_BYTES);
+            }
+            sum += foldLanes(lanes);
+        }
+        for (; i < end; i++) {
+            sum += array[i] & 0xFF;
+        }
+        return sum;
+    }
+
+    @Override
+    public int indexOf(ByteBuffer buffer, byte target, int start, int end) {
+        long pattern = (target & 0xFFL) * ONES;
+        int i = start;
+        for (; i + Long.BYTES <= end; i += Long.BYTES) {
+            long word = (long) BUFFER_LONG_VIEW.get(buffer, i) ^ pattern;
+            long found = (word - ONES) & ~word & HIGH_BITS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < end; i++) {
+            if (buffer.get(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int sum(ByteBuffer buffer, int start, int end) {
+        int sum = 0;
+        int i = start;
+        while (i + Long.BYTES <= end) {
+            long lanes = 0;
+            int words = Math.min((end - i) / Long.BYTES, WORDS_PER_FOLD);
+            for (int w = 0; w < words; w++, i += Long.BYTES) {
+                long word = (long) BUFFER_LONG_VIEW.get(buffer, i);
+                lanes += (word & EVEN_BYTES) + ((word >>> 8) & EVEN_BYTES);
+            }
+            sum += foldLanes(lanes);
+        }
+        for (; i < end; i++) {
+            sum += buffer.get(i) & 0xFF;
+        }
+        return sum;
+    }
+
+    private static int foldLanes(long lanes) {
+        return (int) ((lanes & 0xFFFFL) + ((lanes >>> 16) & 0xFFFFL) + ((lanes >>> 32) & 0xFFFFL) + (lanes >>> 48));
+    }
+}
@@ -1,16 +1,25 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 
 public final class TagInfo {
 
     private final int number;
     private final String name;
+    private final byte[] nameBytes;
     private final String type;
+    private final ValueType valueType;
     private final LinkedHashMap<String, Value> values;
+    private volatile ValueMatcher matcher;
 
     public TagInfo(int number, String name, String type) {
         this.number = number;
         this.name = name;
+        this.nameBytes = name.getBytes(StandardCharsets.US_ASCII);
         this.type = type;
+        this.valueType = ValueType.of(type);
         values = new LinkedHashMap<>();
     }
 
@@ -22,12 +31,28 @@ public final class TagInfo {
         return name;
     }
 
+    /**
+     * Returns the name encoded as ASCII, for writers that render into byte buffers. The array must not be
+     * modified.
+     */
+    public byte[] getNameBytes() {
+        return nameBytes;
+    }
+
     public String getType() {
         return type;
     }
 
+    /**
+     * Returns how values of this field are decoded, derived from the dictionary type.
+     */
+    public ValueType getValueType() {
+        return valueType;
+    }
+
     public void addValue(Value value) {
         values.put(value.value(), value);
+        matcher = null;
     }
 
     public boolean hasValues() {
@@ -38,9 +63,54 @@ public final class TagInfo {
         return values.containsKey(value);
     }
 
+    public boolean hasValue(byte[] buffer, int offset, int length) {
+        return matcher().matches(buffer, offset, length);
+    }
+
+    /**
+     * Checks a value held in a buffer, typically a direct one, at absolute indexes.
+     */
+    public boolean hasValue(ByteBuffer buffer, int offset, int length) {
+        return matcher().matches(buffer, offset, length);
+    }
+
+    /**
+     * Returns the allowed values in dictionary order.
+     */
+    public Collection<Value> getValues() {
+        return Collections.unmodifiableCollection(values.values());
+    }
+
     public Value getValue(String value) {
         return values.get(value);
     }
 
+    public Value getValue(byte[] buffer, int offset, int length) {
+        return matcher().lookup(buffer, offset, length);
+    }
+
+    /**
+     * Returns the description of an allowed value encoded as ASCII. The encoded descriptions are cached with
+     * the compiled matcher; the array must not be modified.
+     *
+     * @return The description, or null if the value is not allowed.
+     */
+    public byte[] getDescriptionBytes(byte[] buffer, int offset, int length) {
+        return matcher().lookupDescription(buffer, offset, length);
+    }
+
+    /**
+     * Returns the compiled matcher for the allowed values, building it on first use after a change.
+     * Concurrent first calls may each compile an identical matcher, which is harmless.
+     */
+    private ValueMatcher matcher() {
+        ValueMatcher current = matcher;
+        if (current == null) {
+            current = ValueMatcher.compile(values.values());
+            matcher = current;
+        }
+        return current;
+    }
+
     public record Value(String value, String description) {}
 }
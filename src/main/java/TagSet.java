@@ -0,0 +1,87 @@
+import java.util.Arrays;
+
+/**
+ * A fixed set of tags that a scan is looking for, with a per-scan record of which of them have been seen.
+ * <p>
+ * Each tag is given a slot, its position in ascending tag order. Tags below {@link TagTable#DIRECT_LIMIT} are
+ * resolved to their slot with a single array read; larger tags fall back to a binary search. The seen flags are
+ * a bit set over the slots, so the first occurrence of each tag can be told apart from later ones without
+ * allocating. The seen flags make an instance stateful: like its owner, it is not thread-safe.
+ * </p>
+ */
+final class TagSet {
+
+    private final int[] sortedTags;
+    private final int[] directSlots;
+    private final long[] seen;
+
+    /**
+     * Creates a set of tags; duplicates are ignored.
+     *
+     * @param tags The tags in the set, all positive.
+     */
+    TagSet(int[] tags) {
+        this.sortedTags = Arrays.stream(tags).distinct().sorted().toArray();
+        int directLength = sortedTags.length == 0 ? 0 : Math.min(sortedTags[sortedTags.length - 1] + 1, TagTable.DIRECT_LIMIT);
+        this.directSlots = new int[directLength];
+        Arrays.fill(directSlots, -1);
+        for (int i = 0; i < sortedTags.length && sortedTags[i] < directLength; i++) {
+            directSlots[sortedTags[i]] = i;
+        }
+        this.seen = new long[(sortedTags.length + 63) >>> 6];
+    }
+
+    /**
+     * Returns the number of tags in the set.
+     */
+    int size() {
+        return sortedTags.length;
+    }
+
+    /**
+     * Returns the tag in a slot.
+     */
+    int getTag(int slot) {
+        return sortedTags[slot];
+    }
+
+    /**
+     * Returns the tags in ascending order.
+     */
+    int[] toArray() {
+        return sortedTags.clone();
+    }
+
+    /**
+     * Returns the slot of a tag, or -1 if the tag is not in the set.
+     */
+    int slotOf(int tag) {
+        if (tag >= 0 && tag < directSlots.length) {
+            return directSlots[tag];
+        }
+        if (tag < TagTable.DIRECT_LIMIT) {
+            return -1;
+        }
+        int slot = Arrays.binarySearch(sortedTags, tag);
+        return slot >= 0 ? slot : -1;
+    }
+
+    /**
+     * Marks a slot as seen, returning true if this is the first time since the last {@link #clearSeen()}.
+     */
+    boolean markSeen(int slot) {
+        long bit = 1L << slot;
+        if ((seen[slot >>> 6] & bit) != 0) {
+            return false;
+        }
+        seen[slot >>> 6] |= bit;
+        return true;
+    }
+
+    /**
+     * Forgets which slots have been seen, before a new scan.
+     */
+    void clearSeen() {
+        Arrays.fill(seen, 0);
+    }
+}
@@ -0,0 +1,116 @@
+import java.util.Arrays;
+
+/**
+ * A primitive-keyed lookup table from tag number to {@link TagInfo} and message section.
+ * <p>
+ * Tags below {@link #DIRECT_LIMIT} are stored in plain arrays indexed by tag number, so the standard FIX tag
+ * range is resolved with a single array read. Larger, sparsely used tags (typically user-defined ones) go
+ * into an open-addressed hash table with linear probing. Neither path boxes the tag.
+ * </p>
+ * <p>
+ * The table is filled while the owning {@link Dictionary} is constructed and is read-only afterwards.
+ * </p>
+ */
+final class TagTable {
+
+    static final int DIRECT_LIMIT = 4096;
+
+    private static final int EMPTY_KEY = 0;
+    private static final int INITIAL_SPARSE_CAPACITY = 16;
+
+    private TagInfo[] direct;
+    private byte[] directSections;
+
+    private int[] sparseKeys;
+    private TagInfo[] sparseValues;
+    private byte[] sparseSections;
+    private int sparseSize;
+
+    TagTable(int maxTag) {
+        int directSize = Math.min(Math.max(maxTag, 0) + 1, DIRECT_LIMIT);
+        this.direct = new TagInfo[directSize];
+        this.directSections = new byte[directSize];
+        this.sparseKeys = new int[INITIAL_SPARSE_CAPACITY];
+        this.sparseValues = new TagInfo[INITIAL_SPARSE_CAPACITY];
+        this.sparseSections = new byte[INITIAL_SPARSE_CAPACITY];
+    }
+
+    void put(TagInfo tagInfo, byte section) {
+        int tag = tagInfo.getNumber();
+        if (tag <= 0) {
+            throw new IllegalArgumentException("Tag numbers must be positive: " + tag);
+        }
+        if (tag < DIRECT_LIMIT) {
+            if (tag >= direct.length) {
+                direct = Arrays.copyOf(direct, tag + 1);
+                directSections = Arrays.copyOf(directSections, tag + 1);
+            }
+            direct[tag] = tagInfo;
+            directSections[tag] = section;
+            return;
+        }
+
+        if ((sparseSize + 1) * 2 > sparseKeys.length) {
+            rehash(sparseKeys.length * 2);
+        }
+        int slot = findSlot(sparseKeys, tag);
+        if (sparseKeys[slot] == EMPTY_KEY) {
+            sparseKeys[slot] = tag;
+            sparseSize++;
+        }
+        sparseValues[slot] = tagInfo;
+        sparseSections[slot] = section;
+    }
+
+    TagInfo get(int tag) {
+        if (tag >= 0 && tag < direct.length) {
+            return direct[tag];
+        }
+        if (tag < DIRECT_LIMIT) {
+            return null;
+        }
+        int slot = findSlot(sparseKeys, tag);
+        return sparseValues[slot];
+    }
+
+    byte getSection(int tag) {
+        if (tag >= 0 && tag < direct.length) {
+            return directSections[tag];
+        }
+        if (tag < DIRECT_LIMIT) {
+            return Dictionary.SECTION_UNKNOWN;
+        }
+        int slot = findSlot(sparseKeys, tag);
+        return sparseSections[slot];
+    }
+
+    /**
+     * Finds the slot holding the given key, or the empty slot where it would be inserted.
+     */
+    private static int findSlot(int[] keys, int key) {
+        int mask = keys.length - 1;
+        int slot = (key * 0x9E3779B9 >>> 16) & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = sparseKeys;
+        TagInfo[] oldValues = sparseValues;
+        byte[] oldSections = sparseSections;
+
+        sparseKeys = new int[newCapacity];
+        sparseValues = new TagInfo[newCapacity];
+        sparseSections = new byte[newCapacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = findSlot(sparseKeys, oldKeys[i]);
+                sparseKeys[slot] = oldKeys[i];
+                sparseValues[slot] = oldValues[i];
+                sparseSections[slot] = oldSections[i];
+            }
+        }
+    }
+}
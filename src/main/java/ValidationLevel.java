@@ -0,0 +1,41 @@
+/**
+ * The amount of validation a {@link Parser} performs on each message.
+ * <p>
+ * Each level includes every check of the levels before it. Lower levels trade safety for speed and are meant
+ * for trusted feeds, e.g. messages produced by another component of the same system; venue-facing sessions
+ * should use {@link #FULL_DICTIONARY}.
+ * </p>
+ */
+public enum ValidationLevel {
+
+    /**
+     * No validation of field contents: tags unknown to the dictionary are treated as body fields and values are
+     * not checked. Only errors that prevent indexing are reported: a field without {@code =}, and a NumInGroup
+     * count that contradicts the entries that follow it, since repeating groups are indexed at every level.
+     */
+    NONE,
+
+    /**
+     * Only the CheckSum is verified.
+     */
+    CHECKSUM_ONLY,
+
+    /**
+     * The CheckSum, if present, and every field against its dictionary definition: the tag must be known and
+     * enumerated fields must hold one of their allowed values. This is the default.
+     */
+    STRUCTURAL,
+
+    /**
+     * Additionally checks the framing: the message must start with BeginString, BodyLength and MsgType and end
+     * with CheckSum, and BodyLength must count exactly the bytes between the BodyLength and CheckSum fields.
+     */
+    FRAMING,
+
+    /**
+     * Additionally validates the message against the dictionary definition of its MsgType: the MsgType must be
+     * defined, header, body and trailer fields must appear in that order, body fields must belong to the message
+     * type, and required fields of the header, the body and every repeating group entry must be present.
+     */
+    FULL_DICTIONARY
+}
@@ -0,0 +1,254 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * A bounded interning cache that maps the raw bytes of high-repetition field values to one shared {@link String}.
+ * <p>
+ * Fields such as the CompIDs, Symbol, Currency or Account take a handful of distinct values across millions of
+ * messages. A parser created with a cache, see
+ * {@link Parser#Parser(Dictionary, ByteScanner, ValidationLevel, ValueCache)}, reads the values of the selected
+ * tags through it, in {@link Message} and {@link MessageView} alike, so the heap holds each distinct value once.
+ * Which tags are interned is decided once per {@link TagInfo} when the cache is created; by default these are
+ * the fields selected by {@link #isRepetitive(TagInfo)}. Example usage:
+ * <pre>
+ * {@code
+ * Dictionary dictionary = Dictionary.getInstance(ProtocolVersion.FIX44);
+ * ValueCache cache = new ValueCache(dictionary, 4096);
+ * cache.register("orders");
+ * Parser parser = new Parser(dictionary, ByteScanner.getDefault(), ValidationLevel.STRUCTURAL, cache);
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * A lookup hashes the byte range and compares it against the entries of one set of a 4-way set-associative table,
+ * so a hit allocates nothing. A miss creates the string and replaces an entry of the set chosen by the CLOCK
+ * algorithm: every hit marks its entry as referenced, and the hand of the set skips, and unmarks, referenced
+ * entries before it evicts one. Entries are immutable and the table is read and written without locks, so
+ * parser threads can share one cache; a race can at worst lose an insertion or a reference mark, never return a
+ * wrong value. Values longer than {@link #MAX_VALUE_LENGTH} bytes are never cached.
+ * </p>
+ */
+public final class ValueCache implements ValueCacheMXBean {
+
+    public static final int MAX_VALUE_LENGTH = 64;
+
+    private static final int WAYS = 4;
+    private static final Set<String> REPETITIVE_FIELDS = Set.of("SenderCompID", "TargetCompID", "OnBehalfOfCompID",
+            "DeliverToCompID", "SenderSubID", "TargetSubID", "SenderLocationID", "TargetLocationID", "Symbol",
+            "SecurityID", "Account", "ExDestination");
+    private static final Set<String> REPETITIVE_TYPES = Set.of("CURRENCY", "EXCHANGE", "COUNTRY");
+
+    private final Dictionary dictionary;
+    private final boolean[] internedTags;
+    private final Entry[] entries;
+    private final boolean[] referenced;
+    private final int[] hands;
+    private final int setMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private record Entry(int hash, byte[] key, String value) {}
+
+    /**
+     * Creates a cache for the fields selected by {@link #isRepetitive(TagInfo)}.
+     *
+     * @param dictionary The dictionary of the parser that will use the cache.
+     * @param capacity The maximum number of distinct values, rounded up to a power of two of at least 4.
+     */
+    public ValueCache(Dictionary dictionary, int capacity) {
+        this(dictionary, capacity, ValueCache::isRepetitive);
+    }
+
+    /**
+     * Creates a cache for the fields selected by a predicate.
+     *
+     * @param dictionary The dictionary of the parser that will use the cache.
+     * @param capacity The maximum number of distinct values, rounded up to a power of two of at least 4.
+     * @param interned Selects the fields whose values are interned; evaluated once per field of the dictionary.
+     */
+    public ValueCache(Dictionary dictionary, int capacity, Predicate<TagInfo> interned) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.dictionary = dictionary;
+        int maxTag = 0;
+        for (TagInfo tagInfo : dictionary.getTagInfos()) {
+            maxTag = Math.max(maxTag, tagInfo.getNumber());
+        }
+        this.internedTags = new boolean[maxTag + 1];
+        for (TagInfo tagInfo : dictionary.getTagInfos()) {
+            internedTags[tagInfo.getNumber()] = interned.test(tagInfo);
+        }
+        int slots = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+        this.entries = new Entry[slots];
+        this.referenced = new boolean[slots];
+        this.hands = new int[slots / WAYS];
+        this.setMask = slots / WAYS - 1;
+    }
+
+    /**
+     * The default selection: the CompID, Symbol, SecurityID and Account fields, fields of type CURRENCY, EXCHANGE
+     * or COUNTRY, and enumerated fields, whose values come from a small fixed set by definition.
+     */
+    public static boolean isRepetitive(TagInfo tagInfo) {
+        return REPETITIVE_FIELDS.contains(tagInfo.getName()) || REPETITIVE_TYPES.contains(tagInfo.getType())
+                || tagInfo.hasValues();
+    }
+
+    /**
+     * Returns true if values of a tag are interned by this cache.
+     */
+    public boolean isInterned(int tag) {
+        return tag >= 0 && tag < internedTags.length && internedTags[tag];
+    }
+
+    Dictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Returns a field value as a string, shared with earlier values of the same bytes if the tag is interned.
+     *
+     * @param tag The tag number of the field.
+     * @param buffer The buffer holding the value.
+     * @param offset The index of the first byte of the value.
+     * @param length The number of bytes in the value.
+     * @return The value.
+     */
+    public String getString(int tag, byte[] buffer, int offset, int length) {
+        if (!isInterned(tag)) {
+            return new String(buffer, offset, length, StandardCharsets.US_ASCII);
+        }
+        return intern(buffer, offset, length);
+    }
+
+    /**
+     * Returns the string of a byte range, from the cache if the same bytes were interned before.
+     *
+     * @param buffer The buffer holding the value.
+     * @param offset The index of the first byte of the value.
+     * @param length The number of bytes in the value.
+     * @return The value.
+     */
+    public String intern(byte[] buffer, int offset, int length) {
+        if (length > MAX_VALUE_LENGTH) {
+            return new String(buffer, offset, length, StandardCharsets.US_ASCII);
+        }
+        int hash = hash(buffer, offset, length);
+        int set = hash & setMask;
+        int first = set * WAYS;
+        for (int slot = first; slot < first + WAYS; slot++) {
+            Entry entry = entries[slot];
+            if (entry != null && entry.hash == hash
+                    && Arrays.equals(entry.key, 0, entry.key.length, buffer, offset, offset + length)) {
+                referenced[slot] = true;
+                hits.increment();
+                return entry.value;
+            }
+        }
+
+        misses.increment();
+        String value = new String(buffer, offset, length, StandardCharsets.US_ASCII);
+        int victim = victim(set);
+        if (entries[victim] != null) {
+            evictions.increment();
+        }
+        entries[victim] = new Entry(hash, Arrays.copyOfRange(buffer, offset, offset + length), value);
+        referenced[victim] = false;
+        return value;
+    }
+
+    /**
+     * Picks the slot to fill in a set: an empty one if there is any, otherwise the first unreferenced entry from
+     * the clock hand on, clearing the reference marks it passes.
+     */
+    private int victim(int set) {
+        int first = set * WAYS;
+        for (int slot = first; slot < first + WAYS; slot++) {
+            if (entries[slot] == null) {
+                return slot;
+            }
+        }
+        int hand = hands[set];
+        while (referenced[first + hand]) {
+            referenced[first + hand] = false;
+            hand = (hand + 1) & (WAYS - 1);
+        }
+        hands[set] = (hand + 1) & (WAYS - 1);
+        return first + hand;
+    }
+
+    private static int hash(byte[] buffer, int offset, int length) {
+        int hash = length;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    @Override
+    public int getSize() {
+        int size = 0;
+        for (Entry entry : entries) {
+            if (entry != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    @Override
+    public void resetCounters() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Publishes the cache's counters over JMX as {@code fixparser:type=ValueCache,name=<name>}.
+     *
+     * @param name The feed or session the cache serves.
+     * @return The registered name, to pass to {@link #unregister}.
+     * @throws JMException If the name is invalid or already registered.
+     */
+    public ObjectName register(String name) throws JMException {
+        return MBeans.register(this, "ValueCache", name);
+    }
+
+    public void unregister(ObjectName objectName) throws JMException {
+        MBeans.unregister(objectName);
+    }
+}
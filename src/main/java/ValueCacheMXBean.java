@@ -0,0 +1,28 @@
+/**
+ * The JMX management interface of {@link ValueCache}.
+ */
+public interface ValueCacheMXBean {
+
+    int getCapacity();
+
+    /**
+     * Returns the number of distinct values currently cached.
+     */
+    int getSize();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getEvictionCount();
+
+    /**
+     * Returns hits divided by lookups since the cache was created or last reset, or 0 before the first lookup.
+     */
+    double getHitRate();
+
+    /**
+     * Clears the counters; cached values are kept.
+     */
+    void resetCounters();
+}
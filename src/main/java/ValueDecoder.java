@@ -0,0 +1,264 @@
+/**
+ * Decodes FIX field values directly from the raw message bytes.
+ * <p>
+ * All methods operate on a byte range of the original buffer and never create intermediate
+ * {@link String} objects, which keeps value access allocation-free on the hot path.
+ * </p>
+ */
+public final class ValueDecoder {
+
+    private static final byte MINUS = '-';
+    private static final byte DOT = '.';
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private ValueDecoder() {
+    }
+
+    /**
+     * Decodes a signed ASCII integer.
+     *
+     * @param buffer The byte array containing the value.
+     * @param offset The starting index (inclusive) of the value.
+     * @param length The number of bytes in the value.
+     * @return The decoded integer.
+     */
+    public static int decodeInt(byte[] buffer, int offset, int length) {
+        long value = decodeLong(buffer, offset, length);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new ParserException("Invalid data: Integer value out of range");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Decodes a signed ASCII long.
+     *
+     * @param buffer The byte array containing the value.
+     * @param offset The starting index (inclusive) of the value.
+     * @param length The number of bytes in the value.
+     * @return The decoded long.
+     */
+    public static long decodeLong(byte[] buffer, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && buffer[i] == MINUS) {
+            negative = true;
+            i++;
+        }
+        if (i == end) {
+            throw new ParserException("Invalid data: Empty numeric value");
+        }
+
+        // Accumulated as a negative number, as in Long.parseLong, so that Long.MIN_VALUE is reachable
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new ParserException("Invalid data: Non-numeric character in numeric value");
+            }
+            if (value < (limit + digit) / 10) {
+                throw new ParserException("Invalid data: Numeric value out of range");
+            }
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    /**
+     * Decodes a single-character value.
+     *
+     * @param buffer The byte array containing the value.
+     * @param offset The starting index (inclusive) of the value.
+     * @param length The number of bytes in the value.
+     * @return The decoded character.
+     */
+    public static char decodeChar(byte[] buffer, int offset, int length) {
+        if (length != 1) {
+            throw new ParserException("Invalid data: Expected a single character value");
+        }
+        return (char) (buffer[offset] & 0xFF);
+    }
+
+    /**
+     * Decodes a BOOLEAN value, {@code Y} or {@code N}.
+     *
+     * @param buffer The byte array containing the value.
+     * @param offset The starting index (inclusive) of the value.
+     * @param length The number of bytes in the value.
+     * @return The decoded boolean.
+     */
+    public static boolean decodeBoolean(byte[] buffer, int offset, int length) {
+        if (length == 1) {
+            if (buffer[offset] == 'Y') {
+                return true;
+            }
+            if (buffer[offset] == 'N') {
+                return false;
+            }
+        }
+        throw new ParserException("Invalid data: Expected Y or N");
+    }
+
+    /**
+     * Decodes a decimal value into a fixed-point long.
+     * <p>
+     * The result is the decimal value multiplied by {@code 10^scale}, e.g. {@code "123.45"} decoded with
+     * a scale of 4 yields {@code 1234500}. Values with more fractional digits than the requested scale are
+     * rejected rather than silently truncated.
+     * </p>
+     *
+     * @param buffer The byte array containing the value.
+     * @param offset The starting index (inclusive) of the value.
+     * @param length The number of bytes in the value.
+     * @param scale The number of implied decimal places in the result.
+     * @return The decoded fixed-point value.
+     */
+    public static long decodeDecimal(byte[] buffer, int offset, int length, int scale) {
+        if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Unsupported scale: " + scale);
+        }
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && buffer[i] == MINUS) {
+            negative = true;
+            i++;
+        }
+        if (i == end) {
+            throw new ParserException("Invalid data: Empty numeric value");
+        }
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            byte b = buffer[i];
+            if (b == DOT && fractionDigits == -1) {
+                fractionDigits = 0;
+                continue;
+            }
+            int digit = b - '0';
+            if (digit < 0 || digit > 9) {
+                throw new ParserException("Invalid data: Non-numeric character in decimal value");
+            }
+            if (fractionDigits != -1) {
+                if (fractionDigits == scale) {
+                    if (digit != 0) {
+                        throw new ParserException("Invalid data: Decimal value exceeds scale " + scale);
+                    }
+                    continue;
+                }
+                fractionDigits++;
+            }
+            if (value < (limit + digit) / 10) {
+                throw new ParserException("Invalid data: Decimal value out of range");
+            }
+            value = value * 10 - digit;
+        }
+
+        long factor = POWERS_OF_TEN[scale - Math.max(fractionDigits, 0)];
+        if (value < limit / factor) {
+            throw new ParserException("Invalid data: Decimal value out of range");
+        }
+        value *= factor;
+        return negative ? value : -value;
+    }
+
+    /**
+     * Decodes a UTCTimestamp ({@code yyyyMMdd-HH:mm:ss} with an optional fraction of up to 9 digits) into
+     * nanoseconds since the Unix epoch.
+     *
+     * @param buffer The byte array containing the value.
+     * @param offset The starting index (inclusive) of the value.
+     * @param length The number of bytes in the value.
+     * @return The decoded timestamp in epoch nanoseconds.
+     */
+    public static long decodeUtcTimestamp(byte[] buffer, int offset, int length) {
+        if (length < 17 || buffer[offset + 8] != MINUS || buffer[offset + 11] != ':' || buffer[offset + 14] != ':'
+                || (length > 17 && (buffer[offset + 17] != DOT || length == 18 || length > 27))) {
+            throw new ParserException("Invalid data: Malformed UTCTimestamp");
+        }
+        int year = digits(buffer, offset, 4);
+        int month = digits(buffer, offset + 4, 2);
+        int day = digits(buffer, offset + 6, 2);
+        int hour = digits(buffer, offset + 9, 2);
+        int minute = digits(buffer, offset + 12, 2);
+        int second = digits(buffer, offset + 15, 2);
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) || hour > 23 || minute > 59
+                || second > 60) {
+            throw new ParserException("Invalid data: UTCTimestamp out of range");
+        }
+
+        long nanos = 0;
+        if (length > 17) {
+            int fractionDigits = length - 18;
+            nanos = digits(buffer, offset + 18, fractionDigits) * POWERS_OF_TEN[9 - fractionDigits];
+        }
+        long seconds = epochDay(year, month, day) * 86_400L + hour * 3_600L + minute * 60L + second;
+        return seconds * 1_000_000_000L + nanos;
+    }
+
+    /**
+     * Decodes a date ({@code yyyyMMdd}), such as a LocalMktDate or UTCDateOnly, into days since the Unix epoch.
+     *
+     * @param buffer The byte array containing the value.
+     * @param offset The starting index (inclusive) of the value.
+     * @param length The number of bytes in the value.
+     * @return The decoded date in epoch days.
+     */
+    public static int decodeDate(byte[] buffer, int offset, int length) {
+        if (length != 8) {
+            throw new ParserException("Invalid data: Malformed date");
+        }
+        int year = digits(buffer, offset, 4);
+        int month = digits(buffer, offset + 4, 2);
+        int day = digits(buffer, offset + 6, 2);
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+            throw new ParserException("Invalid data: Date out of range");
+        }
+        return (int) epochDay(year, month, day);
+    }
+
+    /**
+     * Returns the number of days since 1970-01-01 of a date on the proleptic Gregorian calendar.
+     */
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+
+    /**
+     * Returns the number of days in a month of the proleptic Gregorian calendar.
+     */
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+            return leap ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    private static int digits(byte[] buffer, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new ParserException("Invalid data: Non-numeric character in date or time value");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,147 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A compiled matcher for the enumerated values of a {@link TagInfo}, evaluated directly against raw bytes.
+ * <p>
+ * Single-character values, by far the most common kind of FIX enum (Side, OrdType, TimeInForce, ...), are
+ * answered from a 256-bit bitmap. All values, including multi-character ones such as MsgType {@code AE},
+ * are also placed in a collision-free (perfect) hash table, so any lookup needs one hash computation and at
+ * most one byte comparison. No {@link String} is created to validate or resolve a value.
+ * </p>
+ */
+final class ValueMatcher {
+
+    private static final int SEED_ATTEMPTS = 64;
+    private static final int MAX_TABLE_BITS = 20;
+
+    private final long[] singleCharBitmap = new long[4];
+    private final byte[][] keys;
+    private final TagInfo.Value[] values;
+    private final byte[][] descriptions;
+    private final int seed;
+    private final int shift;
+
+    private ValueMatcher(byte[][] keys, TagInfo.Value[] values, int seed, int shift) {
+        this.keys = keys;
+        this.values = values;
+        this.descriptions = new byte[values.length][];
+        this.seed = seed;
+        this.shift = shift;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                descriptions[i] = values[i].description().getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+        for (byte[] key : keys) {
+            if (key != null && key.length == 1) {
+                int b = key[0] & 0xFF;
+                singleCharBitmap[b >>> 6] |= 1L << b;
+            }
+        }
+    }
+
+    static ValueMatcher compile(Collection<TagInfo.Value> allowedValues) {
+        int count = allowedValues.size();
+        byte[][] encoded = new byte[count][];
+        TagInfo.Value[] source = allowedValues.toArray(new TagInfo.Value[0]);
+        for (int i = 0; i < count; i++) {
+            encoded[i] = source[i].value().getBytes(StandardCharsets.US_ASCII);
+        }
+
+        int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(count * 2 - 1, 1)));
+        for (; bits <= MAX_TABLE_BITS; bits++) {
+            int size = 1 << bits;
+            int shift = 32 - bits;
+            for (int seed = 1; seed <= SEED_ATTEMPTS; seed++) {
+                byte[][] keys = new byte[size][];
+                TagInfo.Value[] values = new TagInfo.Value[size];
+                if (place(encoded, source, keys, values, seed, shift)) {
+                    return new ValueMatcher(keys, values, seed, shift);
+                }
+            }
+        }
+        throw new IllegalStateException("Unable to build a perfect hash for " + count + " values");
+    }
+
+    boolean matches(byte[] buffer, int offset, int length) {
+        if (length == 1) {
+            int b = buffer[offset] & 0xFF;
+            return (singleCharBitmap[b >>> 6] & (1L << b)) != 0;
+        }
+        return find(buffer, offset, length) != -1;
+    }
+
+    boolean matches(ByteBuffer buffer, int offset, int length) {
+        if (length == 1) {
+            int b = buffer.get(offset) & 0xFF;
+            return (singleCharBitmap[b >>> 6] & (1L << b)) != 0;
+        }
+        int multiplier = 31 + 2 * seed;
+        int h = seed;
+        for (int i = offset; i < offset + length; i++) {
+            h = h * multiplier + buffer.get(i);
+        }
+        byte[] key = keys[slot(h, shift)];
+        if (key == null || key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != buffer.get(offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    TagInfo.Value lookup(byte[] buffer, int offset, int length) {
+        int slot = find(buffer, offset, length);
+        return slot == -1 ? null : values[slot];
+    }
+
+    byte[] lookupDescription(byte[] buffer, int offset, int length) {
+        int slot = find(buffer, offset, length);
+        return slot == -1 ? null : descriptions[slot];
+    }
+
+    private int find(byte[] buffer, int offset, int length) {
+        int slot = slot(hash(buffer, offset, length, seed), shift);
+        byte[] key = keys[slot];
+        if (key != null && key.length == length && Arrays.equals(key, 0, length, buffer, offset, offset + length)) {
+            return slot;
+        }
+        return -1;
+    }
+
+    private static boolean place(byte[][] encoded, TagInfo.Value[] source, byte[][] keys, TagInfo.Value[] values,
+                                 int seed, int shift) {
+        for (int i = 0; i < encoded.length; i++) {
+            int slot = slot(hash(encoded[i], 0, encoded[i].length, seed), shift);
+            if (keys[slot] != null) {
+                return false;
+            }
+            keys[slot] = encoded[i];
+            values[slot] = source[i];
+        }
+        return true;
+    }
+
+    /**
+     * Hashes a byte range with a seed-dependent odd multiplier, so keys that collide for one seed (such as
+     * {@code "Aa"} and {@code "BB"} under the classic multiplier 31) are separated by another.
+     */
+    private static int hash(byte[] buffer, int offset, int length, int seed) {
+        int multiplier = 31 + 2 * seed;
+        int h = seed;
+        for (int i = offset; i < offset + length; i++) {
+            h = h * multiplier + buffer[i];
+        }
+        return h;
+    }
+
+    private static int slot(int hash, int shift) {
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+}
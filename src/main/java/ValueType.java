@@ -0,0 +1,67 @@
+/**
+ * The decoding of a field value selected by its dictionary type, see {@link TagInfo#getValueType()}.
+ * <p>
+ * FIX defines many data types that share a wire representation, e.g. SEQNUM, LENGTH and NUMINGROUP are all
+ * integers and PRICE, QTY and AMT are all decimals. Each dictionary type is mapped to the {@link ValueDecoder}
+ * method that reads that representation; types without a numeric representation are {@link #STRING}.
+ * </p>
+ */
+public enum ValueType {
+
+    /**
+     * INT, SEQNUM, LENGTH, NUMINGROUP, TAGNUM and DAYOFMONTH, decoded with {@link ValueDecoder#decodeLong}.
+     */
+    INT,
+
+    /**
+     * PRICE, QTY, AMT, FLOAT, PRICEOFFSET and PERCENTAGE, decoded as fixed-point with
+     * {@link ValueDecoder#decodeDecimal}.
+     */
+    DECIMAL,
+
+    /**
+     * CHAR, decoded with {@link ValueDecoder#decodeChar}.
+     */
+    CHAR,
+
+    /**
+     * BOOLEAN, decoded with {@link ValueDecoder#decodeBoolean}.
+     */
+    BOOLEAN,
+
+    /**
+     * UTCTIMESTAMP, decoded into epoch nanoseconds with {@link ValueDecoder#decodeUtcTimestamp}.
+     */
+    UTC_TIMESTAMP,
+
+    /**
+     * LOCALMKTDATE, UTCDATE and UTCDATEONLY, decoded into epoch days with {@link ValueDecoder#decodeDate}.
+     */
+    DATE,
+
+    /**
+     * All other types, such as STRING, CURRENCY, EXCHANGE, MULTIPLEVALUESTRING, MONTHYEAR and DATA.
+     */
+    STRING;
+
+    /**
+     * Maps a type name as written in the dictionary XML.
+     *
+     * @param dictionaryType The type name, e.g. {@code "PRICE"}; may be null.
+     * @return The value type, {@link #STRING} for unknown or missing names.
+     */
+    public static ValueType of(String dictionaryType) {
+        if (dictionaryType == null) {
+            return STRING;
+        }
+        return switch (dictionaryType) {
+            case "INT", "SEQNUM", "LENGTH", "NUMINGROUP", "TAGNUM", "DAYOFMONTH" -> INT;
+            case "PRICE", "QTY", "AMT", "FLOAT", "PRICEOFFSET", "PERCENTAGE" -> DECIMAL;
+            case "CHAR" -> CHAR;
+            case "BOOLEAN" -> BOOLEAN;
+            case "UTCTIMESTAMP" -> UTC_TIMESTAMP;
+            case "LOCALMKTDATE", "UTCDATE", "UTCDATEONLY" -> DATE;
+            default -> STRING;
+        };
+    }
+}
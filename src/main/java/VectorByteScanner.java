@@ -0,0 +1,105 @@
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A {@link ByteScanner} built on the incubating JDK Vector API.
+ * <p>
+ * Bytes are processed in strides of the platform's preferred vector width (16, 32 or 64 bytes). Delimiter
+ * search compares a whole stride against the broadcast target and takes the first set lane of the resulting
+ * mask. Summation reinterprets each stride as 16-bit lanes and accumulates the low and high bytes separately,
+ * folding the accumulator into 32-bit lanes before it can overflow.
+ * </p>
+ * <p>
+ * This class must only be loaded when {@link ByteScanner#isVectorSupported()} returns {@code true}.
+ * </p>
+ */
+final class VectorByteScanner implements ByteScanner {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Short> SHORT_SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    // Each 16-bit lane gains at most 2 * 255 per stride, so 128 strides fit before a lane can overflow.
+    private static final int STRIDES_PER_FOLD = 128;
+
+    @Override
+    public int indexOf(byte[] array, byte target, int start, int end) {
+        int i = start;
+        int bound = end - SPECIES.length();
+        for (; i <= bound; i += SPECIES.length()) {
+            int lane = ByteVector.fromArray(SPECIES, array, i).eq(target).firstTrue();
+            if (lane != SPECIES.length()) {
+                return i + lane;
+            }
+        }
+        for (; i < end; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int sum(byte[] array, int start, int end) {
+        int sum = 0;
+        int i = start;
+        int bound = end - SPECIES.length();
+        while (i <= bound) {
+            ShortVector lanes = ShortVector.zero(SHORT_SPECIES);
+            for (int s = 0; s < STRIDES_PER_FOLD && i <= bound; s++, i += SPECIES.length()) {
+                ShortVector shorts = ByteVector.fromArray(SPECIES, array, i).reinterpretAsShorts();
+                lanes = lanes.add(shorts.and((short) 0xFF)).add(shorts.lanewise(VectorOperators.LSHR, 8));
+            }
+            IntVector ints = lanes.reinterpretAsInts();
+            sum += ints.and(0xFFFF).add(ints.lanewise(VectorOperators.LSHR, 16)).reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < end; i++) {
+            sum += array[i] & 0xFF;
+        }
+        return sum;
+    }
+
+    @Override
+    public int indexOf(ByteBuffer buffer, byte target, int start, int end) {
+        int i = start;
+        int bound = end - SPECIES.length();
+        for (; i <= bound; i += SPECIES.length()) {
+            int lane = ByteVector.fromByteBuffer(SPECIES, buffer, i, ByteOrder.nativeOrder()).eq(target).firstTrue();
+            if (lane != SPECIES.length()) {
+                return i + lane;
+            }
+        }
+        for (; i < end; i++) {
+            if (buffer.get(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int sum(ByteBuffer buffer, int start, int end) {
+        int sum = 0;
+        int i = start;
+        int bound = end - SPECIES.length();
+        while (i <= bound) {
+            ShortVector lanes = ShortVector.zero(SHORT_SPECIES);
+            for (int s = 0; s < STRIDES_PER_FOLD && i <= bound; s++, i += SPECIES.length()) {
+                ShortVector shorts = ByteVector.fromByteBuffer(SPECIES, buffer, i, ByteOrder.nativeOrder()).reinterpretAsShorts();
+                lanes = lanes.add(shorts.and((short) 0xFF)).add(shorts.lanewise(VectorOperators.LSHR, 8));
+            }
+            IntVector ints = lanes.reinterpretAsInts();
+            sum += ints.and(0xFFFF).add(ints.lanewise(VectorOperators.LSHR, 16)).reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < end; i++) {
+            sum += buffer.get(i) & 0xFF;
+        }
+        return sum;
+    }
+}
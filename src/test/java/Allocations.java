@@ -0,0 +1,59 @@
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the heap allocated by the current thread while it repeats an action, for zero-allocation tests.
+ */
+final class Allocations {
+
+    private static final int DEFAULT_ITERATIONS = 100_000;
+
+    private static final int MAX_WARM_UP_BATCHES = 10;
+
+    private Allocations() {
+    }
+
+    /**
+     * Returns the bytes allocated by 100,000 runs of an action, once the action has warmed up.
+     */
+    static long measure(Runnable action) {
+        return measure(action, DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * Returns the bytes allocated by a number of runs of an action, once the action has warmed up.
+     * <p>
+     * The action is warmed up in batches of the same size until a batch allocates nothing, or for at most ten batches,
+     * and then measured over one more batch. Compilation runs in the background, so code that is still interpreted or
+     * compiled without escape analysis can allocate for a varying number of batches before the optimised code is
+     * installed; an action that allocates in steady state still fails on the measured batch. The warm-up and the
+     * measurement go through the same loop, so the measured batch is never switched to compiled code part way. The
+     * cost of reading the counter itself is subtracted.
+     * </p>
+     */
+    static long measure(Runnable action, int iterations) {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threadBean.isThreadAllocatedMemorySupported());
+        long threadId = Thread.currentThread().getId();
+        long overhead = threadBean.getThreadAllocatedBytes(threadId);
+        overhead = threadBean.getThreadAllocatedBytes(threadId) - overhead;
+
+        long warmUp = Long.MAX_VALUE;
+        for (int batch = 0; batch < MAX_WARM_UP_BATCHES && warmUp != 0; batch++) {
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            repeat(action, iterations);
+            warmUp = threadBean.getThreadAllocatedBytes(threadId) - before - overhead;
+        }
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        repeat(action, iterations);
+        return threadBean.getThreadAllocatedBytes(threadId) - before - overhead;
+    }
+
+    private static void repeat(Runnable action, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchParserTest {
+
+    private static final int MESSAGES = 2_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testOrderedDeliveryAcrossChunkBoundaries() throws IOException {
+        Path file = writeLog(MESSAGES, "\n");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BatchParser batchParser = new BatchParser(ProtocolVersion.FIX44, pool, 1000, 4096);
+            List<Integer> seqNums = new ArrayList<>();
+            long count = batchParser.parseOrdered(file, view -> view.getInt(34), seqNums::add);
+
+            assertEquals(MESSAGES, count);
+            for (int i = 0; i < MESSAGES; i++) {
+                assertEquals(i + 1, seqNums.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testUnorderedDeliveryReportsOffsets() throws IOException {
+        Path file = writeLog(MESSAGES, "");
+        byte[] content = Files.readAllBytes(file);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            BatchParser batchParser = new BatchParser(ProtocolVersion.FIX44, pool, 777, 4096);
+            ConcurrentHashMap<Integer, Long> offsets = new ConcurrentHashMap<>();
+            long count = batchParser.parse(file, (offset, view) -> offsets.put(view.getInt(34), offset));
+
+            assertEquals(MESSAGES, count);
+            assertEquals(MESSAGES, offsets.size());
+            for (long offset : offsets.values()) {
+                assertEquals('8', content[(int) offset]);
+                assertTrue(offset == 0 || content[(int) offset - 1] == 1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSingleChunkFile() throws IOException {
+        Path file = writeLog(3, "\r\n");
+        BatchParser batchParser = new BatchParser(ProtocolVersion.FIX44);
+        List<Integer> seqNums = new ArrayList<>();
+        batchParser.parseOrdered(file, view -> view.getInt(34), seqNums::add);
+        assertEquals(Arrays.asList(1, 2, 3), seqNums);
+    }
+
+    @Test
+    void testTruncatedLastMessage() throws IOException {
+        byte[] content = Files.readAllBytes(writeLog(10, ""));
+        Path file = tempDir.resolve("truncated.log");
+        Files.write(file, Arrays.copyOf(content, content.length - 4));
+        BatchParser batchParser = new BatchParser(ProtocolVersion.FIX44, ForkJoinPool.commonPool(), 256, 1024);
+
+        ParserException exception = assertThrows(ParserException.class, () -> batchParser.parse(file, (offset, view) -> {
+        }));
+        assertTrue(exception.getMessage().contains("Truncated message"));
+    }
+
+    private Path writeLog(int messages, String separator) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 1; i <= messages; i++) {
+            String body = "35=D\u000134=" + i + "\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u0001"
+                    + "11=ORD" + i + "\u000155=AAPL\u000154=" + (1 + i % 2) + "\u000160=20231123-17:20:39.148\u000140=1\u0001"
+                    + "58=" + "x".repeat(i % 50) + "\u0001";
+            out.write(TestMessages.frame(body));
+            out.write(separator.getBytes());
+        }
+        Path file = tempDir.resolve("messages.log");
+        Files.write(file, out.toByteArray());
+        return file;
+    }
+}
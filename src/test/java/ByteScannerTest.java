@@ -0,0 +1,95 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ByteScannerTest {
+
+    private static final ByteScanner REFERENCE = ByteScanner.forName("scalar");
+
+    private static ByteScanner scanner(String name) {
+        assumeTrue(!name.equals("vector") || ByteScanner.isVectorSupported(), "jdk.incubator.vector not enabled");
+        return ByteScanner.forName(name);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"scalar", "swar", "vector"})
+    void testIndexOfMatchesReference(String name) {
+        ByteScanner scanner = scanner(name);
+        Random random = new Random(42);
+        byte[] data = new byte[1024];
+        random.nextBytes(data);
+
+        for (int start = 0; start < 80; start++) {
+            for (int end = start; end < data.length; end += 37) {
+                for (byte target : new byte[] {1, '=', (byte) 0x80, (byte) 0xFF}) {
+                    assertEquals(REFERENCE.indexOf(data, target, start, end), scanner.indexOf(data, target, start, end),
+                            "target " + target + " in [" + start + ", " + end + ")");
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"scalar", "swar", "vector"})
+    void testSumMatchesReference(String name) {
+        ByteScanner scanner = scanner(name);
+        byte[] data = new byte[64 * 1024];
+        new Random(7).nextBytes(data);
+
+        for (int start = 0; start < 70; start++) {
+            assertEquals(REFERENCE.sum(data, start, data.length - start), scanner.sum(data, start, data.length - start));
+        }
+        byte[] saturated = new byte[20_000];
+        Arrays.fill(saturated, (byte) 0xFF);
+        assertEquals(255 * saturated.length, scanner.sum(saturated, 0, saturated.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"scalar", "swar", "vector"})
+    void testDirectBufferMatchesReference(String name) {
+        ByteScanner scanner = scanner(name);
+        byte[] data = new byte[4096];
+        new Random(11).nextBytes(data);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+
+        for (int start = 0; start < 80; start++) {
+            for (int end = start; end < data.length; end += 97) {
+                for (byte target : new byte[] {1, '=', (byte) 0x80, (byte) 0xFF}) {
+                    assertEquals(REFERENCE.indexOf(data, target, start, end), scanner.indexOf(direct, target, start, end),
+                            "target " + target + " in [" + start + ", " + end + ")");
+                }
+            }
+            assertEquals(REFERENCE.sum(data, start, data.length - start), scanner.sum(direct, start, data.length - start));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"scalar", "swar", "vector"})
+    void testParserWithBackend(String name) {
+        Parser parser = new Parser(ProtocolVersion.FIX44, scanner(name));
+        byte[] msg = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=224\u0001"
+                .getBytes(StandardCharsets.US_ASCII);
+        assertEquals("30", parser.parse(msg).getBody().get(108));
+
+        byte[] corrupted = msg.clone();
+        corrupted[20] = 'B';
+        assertThrows(ParserException.class, () -> parser.parse(corrupted));
+    }
+
+    @Test
+    void testForName() {
+        assertTrue(ByteScanner.forName("swar") instanceof SwarByteScanner);
+        assertThrows(IllegalArgumentException.class, () -> ByteScanner.forName("gpu"));
+    }
+}
@@ -0,0 +1,130 @@
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecoderTest {
+
+    private static final byte[] ORDER = TestMessages.frame("35=D\u000134=6\u000149=BANZAI\u000152=20231123-17:20:43.399\u000156=EXEC\u0001"
+            + "11=ORD1\u0001453=2\u0001448=P1\u0001447=D\u0001452=1\u0001802=1\u0001523=SUB1\u0001803=4\u0001"
+            + "448=P2\u0001447=D\u0001452=3\u0001"
+            + "21=1\u000155=AAPL\u000154=1\u000160=20231123-17:20:43.398\u000138=100\u000140=2\u000144=189.50\u0001");
+
+    private static final byte[] REPORT = TestMessages.frame("35=8\u000134=7\u000149=EXEC\u000152=20231123-17:20:43.412\u000156=BANZAI\u0001"
+            + "37=X1\u000111=ORD1\u000117=E1\u0001150=F\u000139=2\u000155=AAPL\u000154=1\u000138=100\u0001"
+            + "32=100\u000131=189.48\u0001151=0\u000114=100\u00016=189.48\u000175=20231123\u0001");
+
+    private static Parser parser;
+
+    @BeforeAll
+    static void setUp() {
+        parser = new Parser(ProtocolVersion.FIX44);
+    }
+
+    @Test
+    void testTypedGetters() {
+        // Arrange
+        MessageView view = new MessageView();
+        parser.parse(REPORT, view);
+        Fix44ExecutionReportDecoder report = new Fix44ExecutionReportDecoder();
+
+        // Act
+        report.wrap(view);
+
+        // Assert
+        assertEquals("X1", report.getOrderID().toString());
+        assertEquals('F', report.getExecType());
+        assertEquals('2', report.getOrdStatus());
+        assertEquals(1894800L, report.getLastPx(4));
+        assertEquals(100_0000L, report.getCumQty(4));
+        assertEquals(ValueDecoder.decodeDate("20231123".getBytes(), 0, 8), report.getTradeDate());
+        assertTrue(report.hasLastQty());
+        assertFalse(report.hasPrice());
+        assertThrows(ParserException.class, () -> report.getPrice(4));
+        assertEquals(0, report.getNoPartyIDs().getCount());
+    }
+
+    @Test
+    void testHeaderAndTrailer() {
+        // Arrange
+        MessageView view = new MessageView();
+        parser.parse(REPORT, view);
+
+        // Act
+        Fix44HeaderDecoder header = new Fix44ExecutionReportDecoder().wrap(view).getHeader();
+
+        // Assert
+        assertEquals("FIX.4.4", header.getBeginString().toString());
+        assertEquals(7L, header.getMsgSeqNum());
+        assertEquals("EXEC", header.getSenderCompID().toString());
+        assertEquals(view.getUtcTimestamp(52), header.getSendingTime());
+        assertEquals(view.getString(10), header.getCheckSum().toString());
+        assertFalse(header.hasPossDupFlag());
+        assertEquals('8', new Fix44HeaderDecoder().wrap(view).getMsgType().charAt(0));
+    }
+
+    @Test
+    void testRepeatingGroups() {
+        // Arrange
+        MessageView view = new MessageView();
+        parser.parse(ORDER, view);
+        Fix44NewOrderSingleDecoder order = new Fix44NewOrderSingleDecoder().wrap(view);
+        StringBuilder parties = new StringBuilder();
+
+        // Act
+        for (Fix44NewOrderSingleDecoder.NoPartyIDsDecoder party : order.getNoPartyIDs()) {
+            parties.append(party.getPartyID()).append('/').append(party.getPartyRole());
+            for (Fix44NewOrderSingleDecoder.NoPartyIDsDecoder.NoPartySubIDsDecoder subId : party.getNoPartySubIDs()) {
+                parties.append('/').append(subId.getPartySubID()).append('/').append(subId.getPartySubIDType());
+            }
+            parties.append(';');
+        }
+
+        // Assert
+        assertEquals(2, order.getNoPartyIDs().getCount());
+        assertEquals("P1/1/SUB1/4;P2/3;", parties.toString());
+        assertEquals("ORD1", order.getClOrdID().toString());
+        assertEquals('1', order.getHandlInst());
+        assertEquals("AAPL", order.getSymbol().toString());
+        assertEquals(1895000L, order.getPrice(4));
+        assertEquals(Fix44NewOrderSingleDecoder.MSG_TYPE, view.getString(35));
+    }
+
+    @Test
+    void testWrapRejectsOtherMessageTypes() {
+        // Arrange
+        MessageView view = new MessageView();
+        parser.parse(REPORT, view);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new Fix44NewOrderSingleDecoder().wrap(view));
+    }
+
+    @Test
+    void testWrapAndReadDoNotAllocate() {
+        // Arrange
+        MessageView view = new MessageView();
+        parser.parse(ORDER, view);
+        Fix44NewOrderSingleDecoder order = new Fix44NewOrderSingleDecoder();
+        long[] sink = new long[1];
+
+        // Act
+        long allocated = Allocations.measure(() -> sink[0] += decode(order, view));
+
+        // Assert
+        assertEquals(0, allocated, "Wrapping a reused decoder and reading primitives should not allocate");
+        assertTrue(sink[0] > 0);
+    }
+
+    private static long decode(Fix44NewOrderSingleDecoder order, MessageView view) {
+        order.wrap(view);
+        long sum = order.getPrice(4) + order.getOrderQty(4) + order.getSide() + order.getHeader().getMsgSeqNum();
+        for (Fix44NewOrderSingleDecoder.NoPartyIDsDecoder party : order.getNoPartyIDs()) {
+            sum += party.getPartyRole();
+        }
+        return sum;
+    }
+}
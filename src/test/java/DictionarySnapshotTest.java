@@ -0,0 +1,81 @@
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DictionarySnapshotTest {
+
+    @ParameterizedTest
+    @EnumSource(ProtocolVersion.class)
+    void testRoundTripMatchesXml(ProtocolVersion version) throws IOException {
+        Dictionary xml = Dictionary.loadXml(version);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DictionarySnapshot.write(xml, out);
+
+        Dictionary snapshot = DictionarySnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+        assertSameDictionary(xml, snapshot);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ProtocolVersion.class)
+    void testBundledSnapshotMatchesXml(ProtocolVersion version) throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(version.getSnapshotResourceName())) {
+            assertNotNull(in, "snapshot is compiled during the build");
+            assertSameDictionary(Dictionary.loadXml(version), DictionarySnapshot.read(in));
+        }
+    }
+
+    @Test
+    void testRejectsForeignData() {
+        byte[] data = "8=FIX.4.4".getBytes();
+        assertThrows(IOException.class, () -> DictionarySnapshot.read(new ByteArrayInputStream(data)));
+    }
+
+    private static void assertSameDictionary(Dictionary expected, Dictionary actual) {
+        assertEquals(expected.getTagInfos().size(), actual.getTagInfos().size());
+        for (TagInfo tagInfo : expected.getTagInfos()) {
+            TagInfo other = actual.getTagInfo(tagInfo.getNumber());
+            assertNotNull(other);
+            assertEquals(tagInfo.getName(), other.getName());
+            assertEquals(tagInfo.getType(), other.getType());
+            assertEquals(new ArrayList<>(tagInfo.getValues()), new ArrayList<>(other.getValues()));
+            assertEquals(expected.getSection(tagInfo.getNumber()), actual.getSection(tagInfo.getNumber()));
+        }
+
+        assertSameLayout(expected.getHeaderLayout(), actual.getHeaderLayout());
+        assertEquals(expected.getMessageDefinitions().size(), actual.getMessageDefinitions().size());
+        for (MessageDefinition definition : expected.getMessageDefinitions()) {
+            MessageDefinition other = actual.getMessageDefinition(definition.getMsgType());
+            assertNotNull(other);
+            assertEquals(definition.getName(), other.getName());
+            assertSameLayout(definition, other);
+        }
+    }
+
+    private static void assertSameLayout(FieldLayout expected, FieldLayout actual) {
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    private static List<String> describe(FieldLayout layout) {
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            int tag = layout.getFieldTag(i);
+            fields.add(tag + (layout.isRequired(i) ? "!" : ""));
+            GroupDefinition group = layout.getGroup(tag);
+            if (group != null) {
+                fields.add(describe(group).toString());
+            }
+        }
+        return fields;
+    }
+}
@@ -1,5 +1,14 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -7,9 +16,41 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DictionaryTest {
 
+    private static final String VENUE_EXTENSION = """
+            <fix>
+              <header>
+                <field name="VenueSessionID" required="N"/>
+              </header>
+              <messages>
+                <message name="NewOrderSingle" msgtype="D">
+                  <field name="VenueOrderTag" required="N"/>
+                  <group name="NoVenueLegs" required="N">
+                    <field name="VenueLegID" required="Y"/>
+                  </group>
+                </message>
+                <message name="VenueHeartbeat" msgtype="U1">
+                  <field name="VenueOrderTag" required="Y"/>
+                </message>
+              </messages>
+              <fields>
+                <field number="5001" name="VenueOrderTag" type="CHAR">
+                  <value enum="A" description="AGGRESSIVE"/>
+                  <value enum="P" description="PASSIVE"/>
+                </field>
+                <field number="5002" name="VenueSessionID" type="STRING"/>
+                <field number="5003" name="NoVenueLegs" type="NUMINGROUP"/>
+                <field number="5004" name="VenueLegID" type="STRING"/>
+              </fields>
+            </fix>
+            """;
+
+    @TempDir
+    Path tempDir;
+
     private Dictionary dictionary;
     private ProtocolVersion testVersion;
 
@@ -53,4 +94,94 @@ class DictionaryTest {
 
         assertFalse(dictionary.isTrailerTag("Account"));
     }
+
+    @Test
+    void testGetSection() {
+        assertEquals(Dictionary.SECTION_HEADER, dictionary.getSection(8));
+        assertEquals(Dictionary.SECTION_HEADER, dictionary.getSection(34));
+        assertEquals(Dictionary.SECTION_BODY, dictionary.getSection(1));
+        assertEquals(Dictionary.SECTION_TRAILER, dictionary.getSection(10));
+        assertEquals(Dictionary.SECTION_UNKNOWN, dictionary.getSection(999));
+        assertEquals(Dictionary.SECTION_UNKNOWN, dictionary.getSection(100_000));
+    }
+
+    @Test
+    void testMessageDefinitions() {
+        MessageDefinition snapshot = dictionary.getMessageDefinition("W");
+        assertNotNull(snapshot);
+        assertEquals("MarketDataSnapshotFullRefresh", snapshot.getName());
+        assertTrue(snapshot.containsTag(55));
+
+        GroupDefinition entries = snapshot.getGroup(268);
+        assertNotNull(entries);
+        assertEquals(269, entries.getDelimiterTag());
+        assertTrue(entries.containsTag(270));
+        assertNull(snapshot.getGroup(270));
+
+        byte[] msgType = "AE".getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+        assertEquals("TradeCaptureReport", dictionary.getMessageDefinition(msgType, 0, 2).getName());
+        assertNull(dictionary.getMessageDefinition("ZZ"));
+        assertNotNull(dictionary.getHeaderLayout().getGroup(627));
+    }
+
+    @Test
+    void testExtendAddsVenueTagsAndSharesBaseDefinitions() throws IOException {
+        Dictionary venue = Dictionary.extend(dictionary, stream(VENUE_EXTENSION));
+
+        assertEquals("VenueOrderTag", venue.getTagInfo(5001).getName());
+        assertEquals(Dictionary.SECTION_HEADER, venue.getSection(5002));
+        assertEquals(Dictionary.SECTION_BODY, venue.getSection(5001));
+        assertSame(dictionary.getTagInfo(44), venue.getTagInfo(44));
+        assertSame(dictionary.getMessageDefinition("W"), venue.getMessageDefinition("W"));
+        assertNull(dictionary.getTagInfo(5001));
+
+        MessageDefinition order = venue.getMessageDefinition("D");
+        assertTrue(order.containsTag(11));
+        assertTrue(order.containsTag(5001));
+        assertEquals(5004, order.getGroup(5003).getDelimiterTag());
+        assertEquals("NewOrderSingle", order.getName());
+        assertTrue(venue.getMessageDefinition("U1").containsTag(5001));
+        assertTrue(venue.getHeaderLayout().containsTag(5002));
+    }
+
+    @Test
+    void testParserAcceptsVenueTagsOnlyWithExtension() throws IOException {
+        Path extension = tempDir.resolve("venue.xml");
+        Files.writeString(extension, VENUE_EXTENSION);
+        byte[] msg = TestMessages.frame("35=D\u00015002=S1\u000111=ORD1\u000155=MSFT\u000154=1\u000160=20231123-17:20:39\u0001"
+                + "40=1\u000138=100\u00015001=P\u00015003=1\u00015004=L1\u0001");
+
+        Dictionary venue = Dictionary.getInstance(ProtocolVersion.FIX44, extension);
+        Message message = new Parser(venue).parse(msg);
+
+        assertSame(venue, Dictionary.getInstance(ProtocolVersion.FIX44, tempDir.resolve("./venue.xml")));
+        assertEquals("S1", message.getHeader().get(5002));
+        assertEquals('P', message.getChar(5001));
+        assertEquals("L1", message.getGroup(5003).get(0, 5004));
+        assertThrows(ParserException.class, () -> new Parser(ProtocolVersion.FIX44).parse(msg));
+        assertThrows(ParserException.class, () -> new Parser(venue).parse(TestMessages.frame("35=D\u00015001=X\u0001")));
+    }
+
+    @Test
+    void testLoadFromXmlOrSnapshot() throws IOException {
+        Dictionary fromXml;
+        try (InputStream xml = Dictionary.class.getClassLoader().getResourceAsStream("FIX42.xml")) {
+            fromXml = Dictionary.load(xml);
+        }
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        DictionarySnapshot.write(fromXml, snapshot);
+        Path snapshotFile = tempDir.resolve("FIX42.dict");
+        Files.write(snapshotFile, snapshot.toByteArray());
+
+        Dictionary fromSnapshot = Dictionary.getInstance(snapshotFile);
+
+        assertSame(fromSnapshot, Dictionary.getInstance(snapshotFile));
+        assertEquals(fromXml.getTagInfos().size(), fromSnapshot.getTagInfos().size());
+        assertEquals("Account", fromSnapshot.getTagInfo(1).getName());
+        assertThrows(IOException.class, () -> Dictionary.load(stream("<fix><fields>")));
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
 }
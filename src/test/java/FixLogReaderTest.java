@@ -0,0 +1,122 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FixLogReaderTest {
+
+    private static final long BASE_NANOS = 1700760039148000000L; // 20231123-17:20:39.148
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLookupsByKey() throws IOException {
+        Path log = tempDir.resolve("session.log");
+        Files.write(log, messages(1, 100));
+
+        try (FixLogReader reader = FixLogReader.open(log, ProtocolVersion.FIX44)) {
+            assertEquals(100, reader.getMessageCount());
+
+            int[] entries = reader.findBySeqNum(42);
+            assertEquals(1, entries.length);
+            MessageView view = new MessageView();
+            reader.read(entries[0], view);
+            assertEquals(42, view.getInt(34));
+            assertEquals("ORD21", view.getString(11));
+
+            int[] order = reader.findByClOrdId("ORD21");
+            assertArrayEquals(new int[]{40, 41}, order);
+            assertEquals("8", reader.read(order[1]).getHeader().get(35));
+            assertEquals(0, reader.findByClOrdId("missing").length);
+            assertEquals(0, reader.findBySeqNum(1000).length);
+
+            assertEquals(10, reader.findBySendingTime(BASE_NANOS + 10_000_000L));
+            assertEquals(BASE_NANOS + 10_000_000L, reader.getSendingTime(10));
+            assertEquals(100, reader.findBySendingTime(Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void testIndexIsPersistedAndAppendable() throws IOException {
+        Path log = tempDir.resolve("live.log");
+        byte[] first = messages(1, 10);
+        byte[] second = messages(11, 20);
+        int split = 15;
+        Files.write(log, first);
+        Files.write(log, Arrays.copyOf(second, split), StandardOpenOption.APPEND);
+
+        try (FixLogReader reader = FixLogReader.open(log, ProtocolVersion.FIX44)) {
+            assertEquals(10, reader.getMessageCount());
+
+            Files.write(log, Arrays.copyOfRange(second, split, second.length), StandardOpenOption.APPEND);
+            assertEquals(10, reader.refresh());
+            assertEquals(20, reader.getMessageCount());
+            assertArrayEquals(new int[]{19}, reader.findBySeqNum(20));
+        }
+        assertTrue(Files.size(tempDir.resolve("live.log" + FixLogReader.INDEX_SUFFIX)) > 0);
+
+        // Reopening loads the sidecar instead of rescanning, then indexes the newly appended tail
+        Files.write(log, messages(21, 25), StandardOpenOption.APPEND);
+        try (FixLogReader reader = FixLogReader.open(log, ProtocolVersion.FIX44)) {
+            assertEquals(25, reader.getMessageCount());
+            assertEquals(first.length + second.length, reader.getOffset(20));
+            MessageView view = new MessageView();
+            reader.read(24, view);
+            assertEquals(25, view.getInt(34));
+            assertArrayEquals(new int[]{16, 17}, reader.findByClOrdId("ORD9"));
+        }
+    }
+
+    @Test
+    void testCorruptIndexIsRebuilt() throws IOException {
+        Path log = tempDir.resolve("corrupt.log");
+        Files.write(log, messages(1, 5));
+        Files.write(tempDir.resolve("corrupt.log" + FixLogReader.INDEX_SUFFIX), "garbage".getBytes(StandardCharsets.US_ASCII));
+
+        try (FixLogReader reader = FixLogReader.open(log, ProtocolVersion.FIX44)) {
+            assertEquals(5, reader.getMessageCount());
+        }
+    }
+
+    @Test
+    void testMissingTrailerIsRejected() throws IOException {
+        Path log = tempDir.resolve("broken.log");
+        byte[] content = messages(1, 3);
+        int trailer = new String(content, StandardCharsets.US_ASCII).lastIndexOf("\u000110=") + 1;
+        content[trailer + 1] = '1';
+        Files.write(log, content);
+
+        ParserException exception = assertThrows(ParserException.class, () -> FixLogReader.open(log, ProtocolVersion.FIX44));
+        assertTrue(exception.getMessage().contains("CheckSum not found"));
+    }
+
+    /**
+     * Generates newline-separated messages with consecutive MsgSeqNums: an order for every odd number and its
+     * execution report with the same ClOrdID for the following even number.
+     */
+    private static byte[] messages(int fromSeqNum, int toSeqNum) {
+        StringBuilder log = new StringBuilder();
+        for (int seqNum = fromSeqNum; seqNum <= toSeqNum; seqNum++) {
+            String clOrdId = "ORD" + (seqNum + 1) / 2;
+            String sendingTime = String.format("20231123-17:20:39.%03d", 148 + seqNum - 1);
+            String header = "34=" + seqNum + "\u000149=BANZAI\u000152=" + sendingTime + "\u000156=EXEC\u0001";
+            String body = seqNum % 2 == 1
+                    ? "35=D\u0001" + header + "11=" + clOrdId + "\u000121=1\u000155=AAPL\u000154=1\u000160=" + sendingTime + "\u000140=1\u0001"
+                    : "35=8\u0001" + header + "37=X" + seqNum + "\u000111=" + clOrdId + "\u000117=E" + seqNum
+                            + "\u0001150=0\u000139=0\u000155=AAPL\u000154=1\u0001151=100\u000114=0\u00016=0\u0001";
+            log.append(new String(TestMessages.frame(body), StandardCharsets.US_ASCII)).append('\n');
+        }
+        return log.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
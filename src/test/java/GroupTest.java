@@ -0,0 +1,126 @@
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GroupTest {
+
+    private static final String SNAPSHOT_BODY = "35=W\u000134=7\u000149=EXEC\u000152=20231123-17:20:39.148\u000156=BANZAI\u0001"
+            + "55=AAPL\u0001268=3\u0001"
+            + "269=0\u0001270=189.50\u0001271=100\u0001"
+            + "269=0\u0001270=189.49\u0001271=300\u0001"
+            + "269=1\u0001270=189.52\u0001271=200\u0001";
+
+    private static final String ORDER_LIST_BODY = "35=E\u000134=8\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u0001"
+            + "66=LIST1\u0001394=3\u000168=2\u000173=2\u0001"
+            + "11=O1\u000167=1\u0001453=2\u0001448=P1\u0001447=D\u0001452=1\u0001448=P2\u0001447=D\u0001452=3\u000155=AAPL\u000154=1\u000138=100\u0001"
+            + "11=O2\u000167=2\u000155=MSFT\u000154=2\u000138=50\u0001";
+
+    private static Parser parser;
+
+    @BeforeAll
+    static void setUp() {
+        parser = new Parser(ProtocolVersion.FIX44);
+    }
+
+    @Test
+    void testRepeatedTagsAreKeptPerEntry() {
+        Message message = parser.parse(TestMessages.frame(SNAPSHOT_BODY));
+
+        assertEquals("3", message.getBody().get(268));
+        assertNull(message.getBody().get(270));
+        Group entries = message.getGroup(268);
+        assertEquals(3, entries.size());
+        assertEquals("189.50", entries.get(0, 270));
+        assertEquals("189.49", entries.get(1, 270));
+        assertEquals("1", entries.get(2, 269));
+        assertEquals(3, entries.getFieldCount(2));
+        assertEquals(271, entries.getTag(2, 2));
+        assertEquals("10", message.getTrailer().keySet().iterator().next().toString());
+    }
+
+    @Test
+    void testViewGroupIndex() {
+        MessageView view = new MessageView();
+        parser.parse(TestMessages.frame(SNAPSHOT_BODY), view);
+
+        int group = view.findGroup(268);
+        assertEquals(1, view.getGroupCount());
+        assertEquals(3, view.getGroupEntryCount(group));
+        int last = view.getGroupEntry(group, 2);
+        assertEquals(18952L, view.getDecimalAt(view.indexOfInEntry(last, 270), 2));
+        assertEquals(3, view.getEntryEnd(last) - view.getEntryStart(last));
+        assertEquals(-1, view.findGroup(73));
+    }
+
+    @Test
+    void testNestedGroups() {
+        MessageView view = new MessageView();
+        parser.parse(TestMessages.frame(ORDER_LIST_BODY), view);
+
+        int orders = view.findGroup(73);
+        assertEquals(2, view.getGroupEntryCount(orders));
+        int firstOrder = view.getGroupEntry(orders, 0);
+        int parties = view.findGroup(453, firstOrder);
+        assertEquals(2, view.getGroupEntryCount(parties));
+        assertEquals("P2", view.getStringAt(view.indexOfInEntry(view.getGroupEntry(parties, 1), 448)));
+        assertEquals(-1, view.findGroup(453, view.getGroupEntry(orders, 1)));
+        assertEquals("AAPL", view.getStringAt(view.indexOfInEntry(firstOrder, 55)));
+
+        Message message = parser.parse(TestMessages.frame(ORDER_LIST_BODY));
+        Group orderGroup = message.getGroup(73);
+        assertEquals("O2", orderGroup.get(1, 11));
+        assertEquals("2", orderGroup.get(0, 453));
+        assertNull(orderGroup.get(0, 448));
+        Group partyGroup = orderGroup.getGroup(0, 453);
+        assertNotNull(partyGroup);
+        assertEquals("3", partyGroup.get(1, 452));
+        assertNull(orderGroup.getGroup(1, 453));
+    }
+
+    @Test
+    void testReusedMessageRefillsGroups() {
+        // Arrange
+        Message message = new Message();
+        MessageView view = new MessageView();
+        byte[] orderList = TestMessages.frame(ORDER_LIST_BODY);
+        byte[] snapshot = TestMessages.frame(SNAPSHOT_BODY);
+        parser.parse(orderList, 0, orderList.length, view, message);
+
+        // Act
+        parser.parse(snapshot, 0, snapshot.length, view, message);
+
+        // Assert
+        assertNull(message.getGroup(73));
+        assertEquals(1, message.getGroups().size());
+        assertEquals("189.52", message.getGroup(268).get(2, 270));
+        parser.parse(orderList, 0, orderList.length, view, message);
+        assertNull(message.getGroup(268));
+        assertEquals("P2", message.getGroup(73).getGroup(0, 453).get(1, 448));
+        assertEquals("MSFT", message.getGroup(73).get(1, 55));
+    }
+
+    @Test
+    void testEntryCountMismatch() {
+        assertThrows(ParserException.class, () -> parser.parse(TestMessages.frame(SNAPSHOT_BODY.replace("268=3", "268=4"))));
+        assertThrows(ParserException.class, () -> parser.parse(TestMessages.frame(SNAPSHOT_BODY.replace("268=3", "268=2"))));
+        assertThrows(ParserException.class, () -> parser.parse(TestMessages.frame(SNAPSHOT_BODY.replace("268=3", "268=999999"))));
+    }
+
+    @Test
+    void testLargeBook() {
+        StringBuilder body = new StringBuilder("35=W\u000134=9\u000149=EXEC\u000152=20231123-17:20:39.148\u000156=BANZAI\u000155=AAPL\u0001268=1000\u0001");
+        for (int i = 0; i < 1000; i++) {
+            body.append("269=").append(i % 2).append("\u0001270=").append(100 + i).append("\u0001271=10\u0001");
+        }
+        MessageView view = new MessageView();
+        parser.parse(TestMessages.frame(body.toString()), view);
+
+        int group = view.findGroup(268);
+        assertEquals(1000, view.getGroupEntryCount(group));
+        assertEquals(599, view.getIntAt(view.indexOfInEntry(view.getGroupEntry(group, 499), 270)));
+    }
+}
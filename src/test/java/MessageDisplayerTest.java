@@ -1,8 +1,13 @@
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MessageDisplayerTest {
 
@@ -29,4 +34,104 @@ class MessageDisplayerTest {
         MessageDisplayer.Record record2 = new MessageDisplayer.Record(2, "Field2", "Value2", "Description2");
         assertEquals("2:Field2 = Value2 (Description2)", record2.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRenderTextMatchesRecordFormat() {
+        Message message = new Message();
+        message.addHeaderField(35, "D");
+        message.addBodyField(54, "1");
+        message.addBodyField(55, "MSFT");
+
+        DisplayBuffer buffer = new DisplayBuffer();
+        MessageDisplayer.getInstance(version).render(message, StandardDisplayFormat.TEXT, buffer);
+
+        assertEquals(new MessageDisplayer.Record(35, "MsgType", "D", "ORDER_SINGLE") + "\n"
+                + new MessageDisplayer.Record(54, "Side", "1", "BUY") + "\n"
+                + new MessageDisplayer.Record(55, "Symbol", "MSFT") + "\n", buffer.toString());
+    }
+
+    @Test
+    void testRenderUnknownTagAndValue() throws IOException {
+        Message message = new Message();
+        message.addBodyField(5001, "X");
+        message.addBodyField(54, "?");
+
+        StringBuilder text = new StringBuilder();
+        MessageDisplayer.getInstance(version).display(message, StandardDisplayFormat.TEXT, text);
+
+        assertEquals("5001 = X\n54:Side = ?\n", text.toString());
+    }
+
+    @Test
+    void testRenderJsonLines() throws IOException {
+        Message message = new Message();
+        message.addHeaderField(35, "D");
+        message.addBodyField(5001, "a\"b\\c\u0002");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MessageDisplayer.getInstance(version).display(message, StandardDisplayFormat.JSON_LINES, out);
+
+        assertEquals("[{\"tag\":35,\"name\":\"MsgType\",\"value\":\"D\",\"description\":\"ORDER_SINGLE\"},"
+                + "{\"tag\":5001,\"value\":\"a\\\"b\\\\c\\u0002\"}]\n", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testRenderCsvQuotesWhereNeeded() {
+        Message message = new Message();
+        message.addBodyField(58, "Hello, \"world\"");
+        message.addBodyField(54, "2");
+
+        DisplayBuffer buffer = new DisplayBuffer();
+        MessageDisplayer.getInstance(version).render(message, StandardDisplayFormat.CSV, buffer);
+
+        assertEquals("58,Text,\"Hello, \"\"world\"\"\",\n54,Side,2,SELL\n", buffer.toString());
+    }
+
+    @Test
+    void testRenderViewIncludesGroupFields() {
+        byte[] msg = TestMessages.frame("35=W\u000155=AAPL\u0001268=1\u0001269=0\u0001270=1.5\u0001");
+        MessageView view = new MessageView();
+        new Parser(version).parse(msg, view);
+
+        DisplayBuffer buffer = new DisplayBuffer();
+        MessageDisplayer.getInstance(version).render(view, StandardDisplayFormat.TEXT, buffer);
+
+        String text = buffer.toString();
+        assertEquals(view.getFieldCount(), text.split("\n").length);
+        assertTrue(text.contains("269:MDEntryType = 0 (BID)\n270:MDEntryPx = 1.5\n"));
+    }
+
+    @Test
+    void testRenderMessageIncludesGroupFields() {
+        byte[] msg = TestMessages.frame("35=E\u000166=LIST1\u0001394=3\u000168=2\u000173=2\u0001"
+                + "11=O1\u000167=1\u0001453=2\u0001448=P1\u0001447=D\u0001452=1\u0001448=P2\u0001447=D\u0001452=3\u000155=AAPL\u000154=1\u000138=100\u0001"
+                + "11=O2\u000167=2\u000155=MSFT\u000154=2\u000138=50\u0001");
+        Parser parser = new Parser(version);
+        MessageView view = new MessageView();
+        parser.parse(msg, view);
+        MessageDisplayer displayer = MessageDisplayer.getInstance(version);
+
+        DisplayBuffer fromMessage = new DisplayBuffer();
+        displayer.render(parser.parse(msg), StandardDisplayFormat.TEXT, fromMessage);
+        DisplayBuffer fromView = new DisplayBuffer();
+        displayer.render(view, StandardDisplayFormat.TEXT, fromView);
+
+        assertEquals(fromView.toString(), fromMessage.toString());
+        assertTrue(fromMessage.toString().contains("453:NoPartyIDs = 2\n448:PartyID = P1\n"));
+    }
+
+    @Test
+    void testRenderIntoReusedBufferDoesNotAllocate() {
+        byte[] msg = TestMessages.frame("35=D\u000111=ORD1\u000155=MSFT\u000154=1\u000160=20231123-17:20:39\u000140=2\u000144=101.25\u000138=100\u0001");
+        MessageView view = new MessageView();
+        new Parser(version).parse(msg, view);
+        MessageDisplayer displayer = MessageDisplayer.getInstance(version);
+        DisplayBuffer buffer = new DisplayBuffer();
+        long allocated = Allocations.measure(() -> {
+            buffer.clear();
+            displayer.render(view, StandardDisplayFormat.JSON_LINES, buffer);
+        });
+
+        assertEquals(0, allocated, "Rendering into a reused buffer should not allocate");
+    }
+}
@@ -0,0 +1,168 @@
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageEncoderTest {
+
+    private static final long TIMESTAMP = 1700759039148L; // 2023-11-23T17:03:59.148Z
+
+    private static Parser parser;
+    private MessageEncoder encoder;
+    private byte[] buffer;
+
+    @BeforeAll
+    static void setUpParser() {
+        parser = new Parser(ProtocolVersion.FIX44);
+    }
+
+    @BeforeEach
+    void setUp() {
+        encoder = new MessageEncoder(ProtocolVersion.FIX44);
+        buffer = new byte[1024];
+    }
+
+    @Test
+    void testMatchesHandWrittenFrame() {
+        int length = encoder.wrap(buffer, 0, buffer.length)
+                .begin("A")
+                .addInt(34, 5)
+                .addString(49, "BANZAI")
+                .addUtcTimestamp(52, 1700760039148L)
+                .addString(56, "EXEC")
+                .addInt(98, 0)
+                .addInt(108, 30)
+                .finish();
+
+        byte[] expected = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=224\u0001"
+                .getBytes(StandardCharsets.US_ASCII);
+        assertArrayEquals(expected, Arrays.copyOf(buffer, length));
+    }
+
+    @Test
+    void testRoundTripNewOrderSingle() {
+        int offset = 17;
+        int length = encoder.wrap(buffer, offset, buffer.length - offset)
+                .begin("D")
+                .addString(11, "ORD-1")
+                .addChar(54, '1')
+                .addString(55, "AAPL")
+                .addLong(38, 1_500_000_000_000L)
+                .addDecimal(44, 18_950, 2)
+                .addChar(40, '2')
+                .addUtcTimestamp(60, TIMESTAMP)
+                // header fields after body fields are moved into the header
+                .addString(49, "BANZAI")
+                .addString(56, "EXEC")
+                .addInt(34, 42)
+                .addUtcTimestamp(52, TIMESTAMP)
+                .finish();
+
+        byte[] frame = Arrays.copyOfRange(buffer, offset, offset + length);
+        assertEquals(length, StreamFramer.frameLength(frame, 0, frame.length));
+        Message message = parser.parse(frame);
+
+        assertEquals("FIX.4.4", message.getHeader().get(8));
+        assertEquals("D", message.getHeader().get(35));
+        assertEquals("BANZAI", message.getHeader().get(49));
+        assertEquals("42", message.getHeader().get(34));
+        assertEquals("20231123-17:03:59.148", message.getHeader().get(52));
+        assertEquals("ORD-1", message.getBody().get(11));
+        assertEquals("1500000000000", message.getBody().get(38));
+        assertEquals("189.50", message.getBody().get(44));
+        assertEquals("20231123-17:03:59.148", message.getBody().get(60));
+
+        String text = new String(frame, StandardCharsets.US_ASCII);
+        assertTrue(text.indexOf("\u000149=") < text.indexOf("\u000111="), "header precedes body");
+        assertTrue(text.indexOf("\u000152=") < text.indexOf("\u000111="), "header precedes body");
+    }
+
+    @Test
+    void testTrailerFieldsFollowBody() {
+        int length = encoder.wrap(buffer, 0, buffer.length)
+                .begin("0")
+                .addString(49, "BANZAI")
+                .addString(89, "SIG")
+                .addString(112, "TEST")
+                .finish();
+
+        Message message = parser.parse(Arrays.copyOf(buffer, length));
+        String text = new String(buffer, 0, length, StandardCharsets.US_ASCII);
+        assertTrue(text.indexOf("112=TEST") < text.indexOf("89=SIG"));
+        assertEquals("SIG", message.getTrailer().get(89));
+        assertEquals("TEST", message.getBody().get(112));
+    }
+
+    @Test
+    void testNumericFormatting() {
+        MessageView view = new MessageView();
+        int length = encoder.wrap(buffer, 0, buffer.length)
+                .begin("D")
+                .addDecimal(44, -5, 2)
+                .addDecimal(99, 123, 0)
+                .addLong(38, Long.MIN_VALUE)
+                .addUtcTimestamp(60, -1)
+                .finish();
+        parser.parse(buffer, 0, length, view);
+
+        assertEquals("-0.05", view.getString(44));
+        assertEquals(-5, view.getDecimal(44, 2));
+        assertEquals("123", view.getString(99));
+        assertEquals(Long.MIN_VALUE, view.getLong(38));
+        assertEquals("19691231-23:59:59.999", view.getString(60));
+    }
+
+    @Test
+    void testDirectByteBuffer() {
+        ByteBuffer direct = ByteBuffer.allocateDirect(256);
+        direct.position(3);
+        int length = encoder.wrap(direct).begin("0").addString(49, "BANZAI").finish();
+
+        assertEquals(3 + length, direct.position());
+        byte[] frame = new byte[length];
+        direct.flip().position(3);
+        direct.get(frame);
+        assertEquals("BANZAI", parser.parse(frame).getHeader().get(49));
+    }
+
+    @Test
+    void testRejectsOverflowAndReservedTags() {
+        encoder.wrap(buffer, 0, 40).begin("D");
+        assertThrows(BufferOverflowException.class, () -> encoder.addString(58, "x".repeat(40)));
+        assertThrows(IllegalArgumentException.class, () -> encoder.addInt(9, 10));
+        assertThrows(IllegalArgumentException.class, () -> encoder.addInt(10, 10));
+    }
+
+    @Test
+    void testEncodingDoesNotAllocate() {
+        StringBuilder clOrdId = new StringBuilder("ORD-");
+        int[] seqNum = new int[1];
+
+        long allocated = Allocations.measure(() -> encodeOrder(clOrdId, seqNum[0]++));
+
+        assertEquals(0, allocated, "Steady-state encoding into a reused buffer should not allocate");
+    }
+
+    private int encodeOrder(StringBuilder clOrdId, int seqNum) {
+        clOrdId.setLength(4);
+        clOrdId.append(seqNum);
+        return encoder.wrap(buffer, 0, buffer.length)
+                .begin("D")
+                .addString(11, clOrdId)
+                .addChar(54, '1')
+                .addDecimal(44, 18_950, 2)
+                .addString(49, "BANZAI")
+                .addInt(34, seqNum)
+                .addUtcTimestamp(52, TIMESTAMP + seqNum)
+                .finish();
+    }
+}
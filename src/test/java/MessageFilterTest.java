@@ -0,0 +1,103 @@
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageFilterTest {
+
+    private static final String DROP_COPY = "35 in (8, 9) and 55 = \"AAPL\" and 1 startsWith \"ACC\"";
+
+    private static final byte[] FILL = TestMessages.frame("35=8\u000134=7\u000149=EXEC\u000152=20231123-17:20:43.412\u000156=BANZAI\u0001"
+            + "37=X1\u000111=ORD1\u000117=E1\u0001150=F\u000139=2\u00011=ACC1\u000155=AAPL\u000154=1\u0001"
+            + "32=100\u000131=189.48\u0001151=0\u000114=100\u00016=189.48\u0001");
+
+    private static final byte[] LOGON = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=224\u0001"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private static Dictionary dictionary;
+
+    @BeforeAll
+    static void setUp() {
+        dictionary = Dictionary.getInstance(ProtocolVersion.FIX44);
+    }
+
+    @Test
+    void testDropCopyFilter() {
+        // Arrange
+        MessageFilter filter = MessageFilter.compile(DROP_COPY, dictionary);
+
+        // Act & Assert
+        assertTrue(filter.matches(FILL));
+        assertFalse(filter.matches(LOGON));
+        assertFalse(filter.matches(replace(FILL, "55=AAPL", "55=MSFT")));
+        assertFalse(filter.matches(replace(FILL, "1=ACC1", "1=XYZ1")));
+        assertArrayEquals(new int[]{1, 35, 55}, filter.getTags());
+    }
+
+    @Test
+    void testOperatorsAndAbsentFields() {
+        // Act & Assert
+        assertTrue(MessageFilter.compile("Symbol = AAPL", dictionary).matches(FILL));
+        assertTrue(MessageFilter.compile("55 != MSFT and not 44 = 1", dictionary).matches(FILL));
+        assertTrue(MessageFilter.compile("44 != 1", dictionary).matches(FILL));
+        assertFalse(MessageFilter.compile("44 startsWith \"\"", dictionary).matches(FILL));
+        assertTrue(MessageFilter.compile("(35 = D or 35 = 8) AND (150 = F or 150 = 2)", dictionary).matches(FILL));
+        assertTrue(MessageFilter.compile("35 = A or 55 = MSFT or 39 = 2", dictionary).matches(FILL));
+        assertFalse(MessageFilter.compile("not (35 = 8)", dictionary).matches(FILL));
+    }
+
+    @Test
+    void testFirstOccurrenceDecides() {
+        // Arrange
+        byte[] twoParties = TestMessages.frame("35=D\u000134=6\u000149=BANZAI\u000152=20231123-17:20:43.399\u000156=EXEC\u0001"
+                + "11=ORD1\u0001453=2\u0001448=P1\u0001447=D\u0001452=1\u0001448=P2\u0001447=D\u0001452=3\u0001"
+                + "21=1\u000155=AAPL\u000154=1\u000160=20231123-17:20:43.398\u000140=1\u0001");
+
+        // Act & Assert
+        assertTrue(MessageFilter.compile("448 = P1", dictionary).matches(twoParties));
+        assertFalse(MessageFilter.compile("448 = P2", dictionary).matches(twoParties));
+    }
+
+    @Test
+    void testCompileErrors() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("", dictionary));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("NoSuchField = 1", dictionary));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("99999 = 1", dictionary));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("35 = 8 and", dictionary));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("35 in (8, 9", dictionary));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("55 = \"AAPL", dictionary));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("55 AAPL", dictionary));
+        IllegalArgumentException invalidValue = assertThrows(IllegalArgumentException.class,
+                () -> MessageFilter.compile("35 = ZZ", dictionary));
+        assertTrue(invalidValue.getMessage().contains("MsgType"));
+    }
+
+    @Test
+    void testMatchingDoesNotAllocate() {
+        // Arrange
+        MessageFilter filter = MessageFilter.compile(DROP_COPY, dictionary);
+        int[] matched = new int[1];
+
+        // Act
+        long allocated = Allocations.measure(
+                () -> matched[0] += (filter.matches(FILL) ? 1 : 0) + (filter.matches(LOGON) ? 1 : 0));
+
+        // Assert
+        assertEquals(0, allocated, "Matching with a compiled filter should not allocate");
+        assertTrue(matched[0] > 0);
+    }
+
+    private static byte[] replace(byte[] msg, String field, String replacement) {
+        String text = new String(msg, StandardCharsets.US_ASCII);
+        int checksum = text.lastIndexOf("10=");
+        String body = text.substring(text.indexOf("35="), checksum).replace(field, replacement);
+        return TestMessages.frame(body);
+    }
+}
@@ -0,0 +1,134 @@
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessagePoolTest {
+
+    private static final byte[] LOGON = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=224\u0001"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private static Parser parser;
+
+    @BeforeAll
+    public static void setUp() {
+        parser = new Parser(ProtocolVersion.FIX44);
+    }
+
+    @Test
+    public void testSlotsAreReusedInRingOrder() {
+        // Arrange
+        MessagePool pool = new MessagePool(parser, 2);
+        byte[] snapshot = TestMessages.frame("35=W\u000155=AAPL\u0001268=1\u0001269=0\u0001270=1.5\u0001");
+
+        // Act
+        Message first = pool.parse(LOGON);
+        Message second = pool.parse(snapshot);
+        Message third = pool.parse(snapshot);
+
+        // Assert
+        assertSame(first, third);
+        assertEquals("AAPL", third.getBody().get(55));
+        assertNull(third.getBody().get(108));
+        assertEquals(1, third.getGroup(268).size());
+        assertSame(second, pool.get(1));
+        assertSame(third, pool.get(2));
+        assertNull(pool.get(0));
+        assertNull(pool.get(3));
+        assertEquals(3, pool.getSequence());
+    }
+
+    @Test
+    public void testInvalidMessageDoesNotAdvanceSequence() {
+        // Arrange
+        MessagePool pool = new MessagePool(parser, 4);
+        byte[] invalid = LOGON.clone();
+        invalid[invalid.length - 2] = '5';
+
+        // Act
+        Message valid = pool.parse(LOGON);
+        assertThrows(ParserException.class, () -> pool.parse(invalid));
+
+        // Assert
+        assertEquals(1, pool.getSequence());
+        assertSame(valid, pool.get(0));
+        assertEquals("30", valid.getBody().get(108));
+    }
+
+    @Test
+    public void testCapacityMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new MessagePool(parser, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MessagePool(parser, 3));
+    }
+
+    @Test
+    public void testSteadyStatePooledParsingDoesNotAllocate() {
+        // Arrange
+        MessagePool pool = new MessagePool(parser, 16);
+
+        // Act
+        long allocated = Allocations.measure(() -> pool.parse(LOGON));
+
+        // Assert
+        assertEquals(0, allocated, "Parsing into reused pool slots should not allocate");
+        assertEquals(30, pool.get(pool.getSequence() - 1).getInt(108));
+    }
+
+    @Test
+    public void testSteadyStatePooledParsingOfGroupsDoesNotAllocate() {
+        // Arrange
+        MessagePool pool = new MessagePool(parser, 16);
+        byte[] snapshot = TestMessages.frame("35=W\u000155=AAPL\u0001268=2\u0001269=0\u0001270=1.5\u0001269=1\u0001270=1.6\u0001");
+
+        // Act
+        long allocated = Allocations.measure(() -> pool.parse(snapshot));
+
+        // Assert
+        assertEquals(0, allocated, "Parsing repeating groups into reused pool slots should not allocate");
+        assertEquals("1.6", pool.get(pool.getSequence() - 1).getGroup(268).get(1, 270));
+    }
+
+    @Test
+    public void testSoakKeepsRetainedHeapFlat() {
+        // Arrange
+        MessagePool pool = new MessagePool(parser, 1024);
+        byte[][] messages = {
+                LOGON,
+                TestMessages.frame("35=W\u000155=AAPL\u0001268=2\u0001269=0\u0001270=1.5\u0001269=1\u0001270=1.6\u0001"),
+                TestMessages.frame("35=D\u000111=ORD1\u000155=MSFT\u000154=1\u000160=20231123-17:20:39\u000140=2\u000144=101.25\u000138=100\u0001")
+        };
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 200_000; i++) {
+            pool.parse(messages[i % messages.length]);
+        }
+
+        // Act
+        long warm = retainedHeap(memoryBean);
+        for (int i = 0; i < 2_000_000; i++) {
+            pool.parse(messages[i % messages.length]);
+        }
+        long soaked = retainedHeap(memoryBean);
+
+        // Assert
+        assertTrue(soaked - warm < 1024 * 1024,
+                "Retained heap grew by " + (soaked - warm) + " bytes over 2,000,000 pooled messages");
+        assertEquals(2_200_000, pool.getSequence());
+    }
+
+    private static long retainedHeap(MemoryMXBean memoryBean) {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            used = Math.min(used, memoryBean.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+}
@@ -1,11 +1,13 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.LinkedHashMap;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MessageTest {
 
@@ -56,8 +58,6 @@ public class MessageTest {
         message.addHeaderField(3, "HeaderValue3");
 
         Map<Integer, String> header = message.getHeader();
-        assertInstanceOf(LinkedHashMap.class, header, "Header should be a LinkedHashMap to preserve order");
-
         // Verify the sequence of entries
         int expectedTag = 1;
         for (Map.Entry<Integer, String> entry : header.entrySet()) {
@@ -74,8 +74,6 @@ public class MessageTest {
         message.addBodyField(3, "BodyValue3");
 
         Map<Integer, String> body = message.getBody();
-        assertInstanceOf(LinkedHashMap.class, body, "Body should be a LinkedHashMap to preserve order");
-
         // Verify the sequence of entries
         int expectedTag = 1;
         for (Map.Entry<Integer, String> entry : body.entrySet()) {
@@ -92,8 +90,6 @@ public class MessageTest {
         message.addTrailerField(3, "TrailerValue3");
 
         Map<Integer, String> trailer = message.getTrailer();
-        assertInstanceOf(LinkedHashMap.class, trailer, "Trailer should be a LinkedHashMap to preserve order");
-
         // Verify the sequence of entries
         int expectedTag = 1;
         for (Map.Entry<Integer, String> entry : trailer.entrySet()) {
@@ -102,4 +98,78 @@ public class MessageTest {
             expectedTag++;
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReplacingFieldKeepsPosition() {
+        message.addBodyField(1, "BodyValue1");
+        message.addBodyField(2, "BodyValue2");
+        String previous = message.getBody().put(1, "Replaced");
+
+        assertEquals("BodyValue1", previous);
+        assertEquals(2, message.getBody().size());
+        assertEquals(1, message.getBody().keySet().iterator().next());
+        assertEquals("Replaced", message.getString(1));
+    }
+
+    @Test
+    public void testTypedAccessorsDecodeParsedBytes() {
+        byte[] buffer = "34=215\u000144=101.25\u000154=1\u000160=1700000000000\u0001".getBytes(StandardCharsets.US_ASCII);
+        message.addHeaderField(34, buffer, 3, 3);
+        message.addBodyField(44, buffer, 10, 6);
+        message.addBodyField(54, buffer, 20, 1);
+        message.addBodyField(60, buffer, 25, 13);
+
+        assertEquals(215, message.getInt(34));
+        assertEquals(1012500, message.getDecimal(44, 4));
+        assertEquals('1', message.getChar(54));
+        assertEquals(1_700_000_000_000L, message.getLong(60));
+        assertEquals("101.25", message.getString(44));
+        assertEquals("101.25", message.getBody().get(44));
+        assertTrue(message.hasField(60));
+        assertFalse(message.hasField(38));
+        assertThrows(ParserException.class, () -> message.getInt(38));
+    }
+
+    @Test
+    public void testClearEmptiesAllSections() {
+        message.addHeaderField(34, "5");
+        message.addBodyField(108, "30");
+        message.addTrailerField(10, "224");
+
+        message.clear();
+
+        assertTrue(message.getHeader().isEmpty());
+        assertTrue(message.getBody().isEmpty());
+        assertTrue(message.getTrailer().isEmpty());
+        assertFalse(message.hasField(108));
+    }
+
+    @Test
+    public void testGetNumericDecodesByDictionaryType() {
+        Message parsed = new Parser(ProtocolVersion.FIX44).parse(TestMessages.frame(
+                "35=8\u000134=7\u000143=Y\u000152=20231123-17:20:39.148\u000137=O1\u000117=E1\u0001150=F\u000139=2\u0001"
+                        + "55=MSFT\u000154=1\u000138=100\u000144=101.25\u000175=20231123\u0001"));
+
+        assertEquals(7, parsed.getNumeric(34, 4));
+        assertEquals(1, parsed.getNumeric(43, 4));
+        assertEquals(1700760039148000000L, parsed.getNumeric(52, 4));
+        assertEquals('1', parsed.getNumeric(54, 4));
+        assertEquals(1012500, parsed.getNumeric(44, 4));
+        assertEquals(19684, parsed.getNumeric(75, 4));
+        assertTrue(parsed.getBoolean(43));
+        assertEquals(19684, parsed.getDate(75));
+        assertThrows(IllegalArgumentException.class, () -> parsed.getNumeric(55, 4));
+        assertThrows(IllegalStateException.class, () -> message.getNumeric(34, 0));
+    }
+
+    @Test
+    public void testDecodingSendingTimeDoesNotAllocate() {
+        Message parsed = new Parser(ProtocolVersion.FIX44).parse(TestMessages.frame("35=0\u000152=20231123-17:20:39.148\u0001"));
+        long[] sum = new long[1];
+
+        long allocated = Allocations.measure(() -> sum[0] += parsed.getUtcTimestamp(52) + parsed.getNumeric(52, 0));
+
+        assertEquals(0, allocated, "Decoding SendingTime should not allocate");
+        assertTrue(sum[0] != 0);
+    }
+}
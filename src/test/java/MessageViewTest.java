@@ -0,0 +1,65 @@
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageViewTest {
+
+    private static final byte[] ORDER = ("8=FIX.4.4\u00019=130\u000135=D\u000134=6\u000149=BANZAI\u000152=20231123-17:20:43.399\u0001"
+            + "56=EXEC\u000111=1700760043390\u000121=1\u000138=100\u000140=1\u000154=1\u000155=AAPL\u000159=0\u0001"
+            + "60=20231123-17:20:43.398\u000110=094\u0001").getBytes(StandardCharsets.US_ASCII);
+
+    private static Parser parser;
+
+    @BeforeAll
+    static void setUp() {
+        parser = new Parser(ProtocolVersion.FIX44);
+    }
+
+    @Test
+    void testFieldsAreIndexedInOrder() {
+        MessageView view = new MessageView();
+        parser.parse(ORDER, view);
+
+        assertEquals(16, view.getFieldCount());
+        assertEquals(8, view.getTagAt(0));
+        assertEquals(10, view.getTagAt(15));
+        assertEquals("FIX.4.4", view.getStringAt(0));
+        assertEquals(ORDER, view.getBuffer());
+    }
+
+    @Test
+    void testTypedAccessors() {
+        MessageView view = new MessageView();
+        parser.parse(ORDER, view);
+
+        assertEquals(6, view.getInt(34));
+        assertEquals(1700760043390L, view.getLong(11));
+        assertEquals('D', view.getChar(35));
+        assertEquals(1000000L, view.getDecimal(38, 4));
+        assertEquals("AAPL", view.getCharSequence(55).toString());
+        assertEquals("EXEC", view.getString(56));
+        assertTrue(view.hasField(55));
+        assertFalse(view.hasField(44));
+        assertThrows(ParserException.class, () -> view.getInt(44));
+    }
+
+    @Test
+    void testViewGrowsAndIsReusable() {
+        MessageView view = new MessageView(2);
+        parser.parse(ORDER, view);
+        assertEquals(16, view.getFieldCount());
+
+        byte[] logon = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=224\u0001"
+                .getBytes(StandardCharsets.US_ASCII);
+        parser.parse(logon, view);
+        assertEquals(10, view.getFieldCount());
+        assertEquals(30, view.getInt(108));
+        assertFalse(view.hasField(55));
+    }
+}
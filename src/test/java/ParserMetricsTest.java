@@ -0,0 +1,110 @@
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParserMetricsTest {
+
+    private static final byte[] LOGON = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=224\u0001"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void testCountsMessagesByMsgTypeAndFailureReason() {
+        // Arrange
+        ParserMetrics metrics = new ParserMetrics();
+        Parser parser = new InstrumentedParser(ProtocolVersion.FIX44, metrics);
+        byte[] order = TestMessages.frame("35=D\u000111=ORD1\u000155=MSFT\u000154=1\u000160=20231123-17:20:39\u000140=2\u000144=101.25\u000138=100\u0001");
+        byte[] invalid = LOGON.clone();
+        invalid[invalid.length - 2] = '5';
+
+        // Act
+        parser.parse(LOGON);
+        parser.parse(order);
+        parser.parse(order, new MessageView());
+        assertThrows(ParserException.class, () -> parser.parse(invalid));
+
+        // Assert
+        assertEquals(4, metrics.getMessageCount());
+        assertEquals(2L * LOGON.length + 2L * order.length, metrics.getByteCount());
+        assertEquals(1, metrics.getFailureCount());
+        assertEquals(1, metrics.getFailureCount(ParseError.CHECKSUM_MISMATCH));
+        assertEquals(Map.of("A", 2L, "D", 2L), metrics.getMessageCountsByMsgType());
+        assertEquals(Map.of("CHECKSUM_MISMATCH", 1L), metrics.getFailureCountsByReason());
+        assertEquals(4, metrics.getLatencyHistogram().getCount());
+        assertTrue(metrics.getLatencyP50Nanos() <= metrics.getLatencyMaxNanos());
+    }
+
+    @Test
+    public void testResetClearsCounters() {
+        // Arrange
+        ParserMetrics metrics = new ParserMetrics();
+        Parser parser = new InstrumentedParser(ProtocolVersion.FIX44, metrics);
+        parser.parse(LOGON);
+
+        // Act
+        metrics.reset();
+
+        // Assert
+        assertEquals(0, metrics.getMessageCount());
+        assertEquals(0, metrics.getMessageCount("A"));
+        assertEquals(0, metrics.getLatencyMaxNanos());
+    }
+
+    @Test
+    public void testHistogramPercentilesWithinBucketPrecision() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 100);
+        }
+
+        // Assert
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 / LatencyHistogram.SUB_BUCKET_COUNT);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 / LatencyHistogram.SUB_BUCKET_COUNT);
+        assertEquals(1_000_000, histogram.getMaxValue(), 1_000_000 / LatencyHistogram.SUB_BUCKET_COUNT);
+        assertTrue(histogram.getValueAtPercentile(50) >= 500_000);
+    }
+
+    @Test
+    public void testRegistersWithPlatformMBeanServer() throws Exception {
+        // Arrange
+        ParserMetrics metrics = new ParserMetrics();
+        new InstrumentedParser(ProtocolVersion.FIX44, metrics).parse(LOGON);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        // Act
+        ObjectName name = metrics.register("test");
+
+        // Assert
+        assertEquals(1L, server.getAttribute(name, "MessageCount"));
+        assertEquals(LOGON.length, ((Long) server.getAttribute(name, "ByteCount")).intValue());
+        metrics.unregister(name);
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void testRecordingKnownMsgTypeDoesNotAllocate() {
+        // Arrange
+        ParserMetrics metrics = new ParserMetrics();
+        Parser parser = new InstrumentedParser(ProtocolVersion.FIX44, metrics);
+        MessageView view = new MessageView();
+        ParseResult result = new ParseResult();
+
+        // Act
+        long allocated = Allocations.measure(() -> parser.parse(LOGON, 0, LOGON.length, view, result));
+
+        // Assert
+        assertEquals(0, allocated, "Recording metrics for a known MsgType should not allocate");
+    }
+}
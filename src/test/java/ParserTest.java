@@ -1,10 +1,17 @@
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ParserTest {
 
@@ -70,4 +77,271 @@ public class ParserTest {
 
         assertNotNull(exception.getMessage());
     }
+
+    @Test
+    public void testParseIntoViewDoesNotAllocate() {
+        // Arrange
+        byte[] msg = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=224\u0001"
+                .getBytes(StandardCharsets.US_ASCII);
+        MessageView view = new MessageView();
+
+        // Act
+        long allocated = Allocations.measure(() -> parser.parse(msg, view));
+
+        // Assert
+        assertEquals(0, allocated, "Steady-state parsing into a reused view should not allocate");
+        assertEquals(30, view.getInt(108));
+    }
+
+    @Test
+    public void testValidationLevelNoneSkipsAllChecks() {
+        // Arrange
+        Parser trusting = new Parser(ProtocolVersion.FIX44, ValidationLevel.NONE);
+        byte[] msg = "8=FIX.4.4\u00019=1\u000135=A\u0001999=Unknown\u0001108=InvalidValue\u000110=999\u0001"
+                .getBytes(StandardCharsets.US_ASCII);
+
+        // Act
+        Message result = trusting.parse(msg);
+
+        // Assert
+        assertEquals("Unknown", result.getBody().get(999));
+        assertEquals(ValidationLevel.NONE, trusting.getValidationLevel());
+        byte[] groupTooShort = TestMessages.frame("35=W\u000155=AAPL\u0001268=2\u0001269=0\u0001270=1.5\u0001");
+        assertThrows(ParserException.class, () -> trusting.parse(groupTooShort));
+    }
+
+    @Test
+    public void testValidationLevelChecksumOnly() {
+        // Arrange
+        Parser checksumOnly = new Parser(ProtocolVersion.FIX44, ValidationLevel.CHECKSUM_ONLY);
+        byte[] unknownField = TestMessages.frame("35=A\u000134=5\u0001999=Unknown\u0001");
+        byte[] badChecksum = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=999\u0001"
+                .getBytes(StandardCharsets.US_ASCII);
+
+        // Act & Assert
+        assertEquals("Unknown", checksumOnly.parse(unknownField).getBody().get(999));
+        assertThrows(ParserException.class, () -> checksumOnly.parse(badChecksum));
+    }
+
+    @Test
+    public void testFramingValidationIsOptIn() {
+        // Arrange
+        Parser framing = new Parser(ProtocolVersion.FIX44, ValidationLevel.FRAMING);
+        byte[] wrongBodyLength = "8=FIX.4.4\u00019=64\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=223\u0001"
+                .getBytes(StandardCharsets.US_ASCII);
+        byte[] msgTypeNotThird = TestMessages.frame("34=5\u000135=A\u000198=0\u0001108=30\u0001");
+        byte[] noChecksum = "8=FIX.4.4\u00019=5\u000135=A\u0001".getBytes(StandardCharsets.US_ASCII);
+
+        // Act & Assert
+        assertEquals("30", parser.parse(wrongBodyLength).getBody().get(108));
+        assertEquals("30", parser.parse(msgTypeNotThird).getBody().get(108));
+        assertNotNull(parser.parse(noChecksum));
+        ParserException exception = assertThrows(ParserException.class, () -> framing.parse(wrongBodyLength));
+        assertTrue(exception.getMessage().contains("BodyLength mismatch"));
+        assertThrows(ParserException.class, () -> framing.parse(msgTypeNotThird));
+        assertThrows(ParserException.class, () -> framing.parse(noChecksum));
+    }
+
+    @Test
+    public void testFullDictionaryValidation() {
+        // Arrange
+        Parser strict = new Parser(ProtocolVersion.FIX44, ValidationLevel.FULL_DICTIONARY);
+        String header = "34=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u0001";
+        byte[] valid = TestMessages.frame("35=A\u0001" + header + "98=0\u0001108=30\u0001");
+        byte[] missingRequired = TestMessages.frame("35=A\u0001" + header + "98=0\u0001");
+        byte[] missingHeaderField = TestMessages.frame("35=A\u000134=5\u000149=BANZAI\u000156=EXEC\u000198=0\u0001108=30\u0001");
+        byte[] undefinedForMsgType = TestMessages.frame("35=A\u0001" + header + "98=0\u0001108=30\u000155=AAPL\u0001");
+        byte[] headerAfterBody = TestMessages.frame("35=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000198=0\u0001108=30\u000156=EXEC\u0001");
+        byte[] groupEntryMissingRequired = TestMessages.frame("35=E\u0001" + header
+                + "66=LIST1\u0001394=3\u000168=1\u000173=1\u000111=O1\u000155=AAPL\u000154=1\u000138=100\u0001");
+
+        // Act & Assert
+        assertEquals("30", strict.parse(valid).getBody().get(108));
+        assertNotNull(parser.parse(missingRequired));
+        assertTrue(assertThrows(ParserException.class, () -> strict.parse(missingRequired)).getMessage().contains("108"));
+        assertTrue(assertThrows(ParserException.class, () -> strict.parse(missingHeaderField)).getMessage().contains("52"));
+        assertTrue(assertThrows(ParserException.class, () -> strict.parse(undefinedForMsgType)).getMessage().contains("55"));
+        assertTrue(assertThrows(ParserException.class, () -> strict.parse(headerAfterBody)).getMessage().contains("out of order"));
+        assertTrue(assertThrows(ParserException.class, () -> strict.parse(groupEntryMissingRequired)).getMessage().contains("67"));
+    }
+
+    @Test
+    public void testParseResultReportsErrorWithoutThrowing() {
+        // Arrange
+        String text = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u0001999=UnknownField\u000110=224\u0001";
+        byte[] unknownField = text.getBytes(StandardCharsets.US_ASCII);
+        byte[] badChecksum = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=999\u0001"
+                .getBytes(StandardCharsets.US_ASCII);
+        MessageView view = new MessageView();
+        ParseResult result = new ParseResult();
+
+        // Act & Assert
+        assertFalse(parser.parse(unknownField, 0, unknownField.length, view, result));
+        assertEquals(ParseError.UNKNOWN_TAG, result.getError());
+        assertEquals(999, result.getTag());
+        assertEquals(text.indexOf("999="), result.getOffset());
+
+        assertFalse(parser.parse(badChecksum, 0, badChecksum.length, view, result));
+        assertEquals(ParseError.CHECKSUM_MISMATCH, result.getError());
+        assertEquals(999, result.getExpected());
+        assertEquals(224, result.getActual());
+        assertEquals(badChecksum.length - 7, result.getOffset());
+
+        byte[] valid = TestMessages.frame("35=A\u000134=5\u000198=0\u0001108=30\u0001");
+        assertTrue(parser.parse(valid, 0, valid.length, view, result));
+        assertTrue(result.isSuccess());
+        assertEquals(ParseError.NONE, result.getError());
+    }
+
+    @Test
+    public void testParserExceptionCarriesErrorWithoutStackTrace() {
+        // Arrange
+        byte[] groupTooShort = TestMessages.frame("35=W\u000155=AAPL\u0001268=2\u0001269=0\u0001270=1.5\u0001");
+
+        // Act
+        ParserException exception = assertThrows(ParserException.class, () -> parser.parse(groupTooShort));
+
+        // Assert
+        assertEquals(ParseError.GROUP_COUNT_MISMATCH, exception.getError());
+        assertEquals(268, exception.getTag());
+        assertTrue(exception.getOffset() > 0);
+        assertTrue(exception.getMessage().contains("declares 2 entries but contains 1"));
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    public void testErrorOffsetIsFieldStartForTagWithLeadingZeros() {
+        // Arrange
+        byte[] groupTooShort = TestMessages.frame("35=W\u000155=AAPL\u00010268=2\u0001269=0\u0001270=1.5\u0001");
+        MessageView view = new MessageView();
+        ParseResult result = new ParseResult();
+
+        // Act
+        boolean parsed = parser.parse(groupTooShort, 0, groupTooShort.length, view, result);
+
+        // Assert
+        assertFalse(parsed);
+        assertEquals(ParseError.GROUP_COUNT_MISMATCH, result.getError());
+        assertEquals(new String(groupTooShort, StandardCharsets.US_ASCII).indexOf("0268="), result.getOffset());
+    }
+
+    @Test
+    public void testRejectingIntoParseResultDoesNotAllocate() {
+        // Arrange
+        byte[] msg = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=999\u0001"
+                .getBytes(StandardCharsets.US_ASCII);
+        MessageView view = new MessageView();
+        ParseResult result = new ParseResult();
+
+        // Act
+        long allocated = Allocations.measure(() -> parser.parse(msg, 0, msg.length, view, result));
+
+        // Assert
+        assertEquals(0, allocated, "Rejecting a message into a reused result should not allocate");
+        assertEquals(ParseError.CHECKSUM_MISMATCH, result.getError());
+    }
+
+    @Test
+    public void testParseDirectBufferMatchesArray() throws IOException {
+        for (String example : new String[] {"example1.bin", "example2.bin", "example3.bin"}) {
+            // Arrange
+            byte[] msg = Files.readAllBytes(Path.of("examples", example));
+            ByteBuffer direct = ByteBuffer.allocateDirect(msg.length + 10);
+            direct.position(10);
+            direct.put(msg).position(10);
+            MessageView expected = new MessageView();
+            MessageView actual = new MessageView();
+
+            // Act
+            parser.parse(msg, expected);
+            parser.parse(direct, actual);
+
+            // Assert
+            assertEquals(10, direct.position(), example);
+            assertEquals(null, actual.getBuffer());
+            assertEquals(expected.getFieldCount(), actual.getFieldCount(), example);
+            assertEquals(expected.getGroupCount(), actual.getGroupCount(), example);
+            for (int i = 0; i < expected.getFieldCount(); i++) {
+                assertEquals(expected.getTagAt(i), actual.getTagAt(i));
+                assertEquals(expected.getValueOffsetAt(i) + 10, actual.getValueOffsetAt(i));
+                assertEquals(expected.getStringAt(i), actual.getStringAt(i));
+            }
+            assertEquals(expected.getInt(34), actual.getInt(34));
+            assertEquals(expected.getUtcTimestamp(52), actual.getUtcTimestamp(52));
+        }
+    }
+
+    @Test
+    public void testParseHeapBufferUsesBackingArray() {
+        // Arrange
+        byte[] msg = TestMessages.frame("35=A\u000134=5\u000198=0\u0001108=30\u0001");
+        byte[] padded = new byte[msg.length + 4];
+        System.arraycopy(msg, 0, padded, 4, msg.length);
+        ByteBuffer heap = ByteBuffer.wrap(padded, 4, msg.length).slice();
+        MessageView view = new MessageView();
+
+        // Act
+        parser.parse(heap, view);
+
+        // Assert
+        assertEquals(padded, view.getBuffer());
+        assertEquals(null, view.getByteBuffer());
+        assertEquals(30, view.getInt(108));
+    }
+
+    @Test
+    public void testParseDirectBufferReportsErrors() {
+        // Arrange
+        byte[] badChecksum = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=999\u0001"
+                .getBytes(StandardCharsets.US_ASCII);
+        byte[] invalidValue = TestMessages.frame("35=D\u000154=Z\u0001");
+        byte[] groupTooShort = TestMessages.frame("35=W\u000155=AAPL\u0001268=2\u0001269=0\u0001270=1.5\u0001");
+        MessageView view = new MessageView();
+        ParseResult result = new ParseResult();
+
+        // Act & Assert
+        assertFalse(parser.parse(direct(badChecksum), view, result));
+        assertEquals(ParseError.CHECKSUM_MISMATCH, result.getError());
+        assertEquals(224, result.getActual());
+        assertEquals(badChecksum.length - 7, result.getOffset());
+
+        assertFalse(parser.parse(direct(invalidValue), view, result));
+        assertEquals(ParseError.INVALID_VALUE, result.getError());
+        assertEquals(54, result.getTag());
+
+        ParserException exception = assertThrows(ParserException.class, () -> parser.parse(direct(groupTooShort), view));
+        assertEquals(ParseError.GROUP_COUNT_MISMATCH, exception.getError());
+
+        Parser strict = new Parser(ProtocolVersion.FIX44, ValidationLevel.FULL_DICTIONARY);
+        byte[] missingRequired = TestMessages.frame("35=D\u000149=A\u000156=B\u000134=1\u000152=20231123-17:20:39\u000111=ORD1\u0001");
+        assertFalse(strict.parse(direct(missingRequired), view, result));
+        assertEquals(ParseError.MISSING_REQUIRED_FIELD, result.getError());
+    }
+
+    @Test
+    public void testParseDirectBufferDoesNotAllocate() {
+        // Arrange
+        ByteBuffer msg = direct("8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=224\u0001"
+                .getBytes(StandardCharsets.US_ASCII));
+        MessageView view = new MessageView();
+        ParseResult result = new ParseResult();
+        long[] sum = new long[1];
+
+        // Act
+        long allocated = Allocations.measure(() -> {
+            parser.parse(msg, view, result);
+            sum[0] += view.getInt(108);
+        });
+
+        // Assert
+        assertEquals(0, allocated, "Parsing a direct buffer into a reused view should not allocate");
+        assertTrue(result.isSuccess());
+        assertTrue(sum[0] > 0);
+    }
+
+    private static ByteBuffer direct(byte[] msg) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(msg.length);
+        buffer.put(msg).flip();
+        return buffer;
+    }
 }
@@ -0,0 +1,73 @@
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SelectiveParserTest {
+
+    private static final byte[] ORDER = "8=FIX.4.4\u00019=130\u000135=D\u000134=6\u000149=BANZAI\u000152=20231123-17:20:43.399\u000156=EXEC\u000111=1700760043390\u000121=1\u000138=100\u000140=1\u000154=1\u000155=AAPL\u000159=0\u000160=20231123-17:20:43.398\u000110=094\u0001"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void testExtractsOnlyInterestingTags() {
+        SelectiveParser parser = new SelectiveParser(ProtocolVersion.FIX44, new int[]{55, 38, 35}, true);
+        MessageView view = new MessageView();
+
+        assertTrue(parser.parse(ORDER, 0, ORDER.length, view));
+        assertEquals(3, view.getFieldCount());
+        assertEquals(35, view.getTagAt(0));
+        assertEquals('D', view.getChar(35));
+        assertEquals(100, view.getInt(38));
+        assertEquals("AAPL", view.getString(55));
+        assertFalse(view.hasField(34));
+    }
+
+    @Test
+    void testStopsAtLastInterestingTag() {
+        // Garbage after the last interesting field is never scanned when the checksum is not verified
+        byte[] msg = ORDER.clone();
+        int text = new String(msg, StandardCharsets.US_ASCII).indexOf("59=0");
+        msg[text + 3] = 'X';
+        SelectiveParser lenient = new SelectiveParser(ProtocolVersion.FIX44, new int[]{11, 54}, false);
+        MessageView view = new MessageView();
+
+        assertTrue(lenient.parse(msg, 0, msg.length, view));
+        assertEquals(1, view.getInt(54));
+
+        SelectiveParser verifying = new SelectiveParser(ProtocolVersion.FIX44, new int[]{11, 54}, true);
+        assertThrows(ParserException.class, () -> verifying.parse(msg, 0, msg.length, view));
+    }
+
+    @Test
+    void testReportsMissingTags() {
+        SelectiveParser parser = new SelectiveParser(ProtocolVersion.FIX44, new int[]{11, 44}, true);
+        MessageView view = new MessageView();
+
+        assertFalse(parser.parse(ORDER, 0, ORDER.length, view));
+        assertTrue(view.hasField(11));
+        assertFalse(view.hasField(44));
+    }
+
+    @Test
+    void testValidatesFraming() {
+        SelectiveParser parser = new SelectiveParser(ProtocolVersion.FIX44, new int[]{35}, false);
+        MessageView view = new MessageView();
+        byte[] wrongLength = new String(ORDER, StandardCharsets.US_ASCII).replace("9=130", "9=129")
+                .getBytes(StandardCharsets.US_ASCII);
+
+        assertThrows(ParserException.class, () -> parser.parse(wrongLength, 0, wrongLength.length, view));
+        assertThrows(ParserException.class, () -> parser.parse(ORDER, 0, ORDER.length - 1, view));
+    }
+
+    @Test
+    void testValidatesInterestingValues() {
+        byte[] msg = new String(ORDER, StandardCharsets.US_ASCII).replace("54=1", "54=Z").getBytes(StandardCharsets.US_ASCII);
+        SelectiveParser parser = new SelectiveParser(ProtocolVersion.FIX44, new int[]{54}, false);
+        assertThrows(ParserException.class, () -> parser.parse(msg, 0, msg.length, new MessageView()));
+        assertThrows(IllegalArgumentException.class, () -> new SelectiveParser(ProtocolVersion.FIX44, new int[]{99999}, true));
+    }
+}
@@ -0,0 +1,138 @@
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SessionTrackerTest {
+
+    private static Parser parser;
+
+    @BeforeAll
+    public static void setUp() {
+        parser = new Parser(ProtocolVersion.FIX44);
+    }
+
+    private static MessageView parse(String sender, String target, int seqNum, String extraFields) {
+        MessageView view = new MessageView();
+        byte[] msg = TestMessages.frame("35=0\u000149=" + sender + "\u000156=" + target + "\u000134=" + seqNum + "\u0001" + extraFields);
+        parser.parse(msg, view);
+        return view;
+    }
+
+    @Test
+    public void testDetectsGapsDuplicatesAndResends() {
+        // Arrange
+        List<String> events = new ArrayList<>();
+        SessionTracker tracker = new SessionTracker(new SessionTracker.Listener() {
+            @Override
+            public void onGap(int session, long expected, long received) {
+                events.add("gap " + expected + "-" + (received - 1));
+            }
+
+            @Override
+            public void onDuplicate(int session, long expected, long received) {
+                events.add("duplicate " + received);
+            }
+
+            @Override
+            public void onPossDupResend(int session, long expected, long received) {
+                events.add("resend " + received);
+            }
+        });
+
+        // Act & Assert
+        assertEquals(SessionTracker.Status.IN_SEQUENCE, tracker.track(parse("BANZAI", "EXEC", 1, "")));
+        assertEquals(SessionTracker.Status.IN_SEQUENCE, tracker.track(parse("BANZAI", "EXEC", 2, "")));
+        assertEquals(SessionTracker.Status.GAP, tracker.track(parse("BANZAI", "EXEC", 5, "")));
+        assertEquals(SessionTracker.Status.POSS_DUP_RESEND, tracker.track(parse("BANZAI", "EXEC", 3, "43=Y\u0001")));
+        assertEquals(SessionTracker.Status.DUPLICATE, tracker.track(parse("BANZAI", "EXEC", 4, "")));
+        assertEquals(SessionTracker.Status.IN_SEQUENCE, tracker.track(parse("BANZAI", "EXEC", 6, "")));
+        assertEquals(SessionTracker.Status.UNTRACKED, tracker.track(viewWithout34()));
+
+        int session = tracker.findSession("BANZAI", "EXEC");
+        assertEquals(List.of("gap 3-4", "resend 3", "duplicate 4"), events);
+        assertEquals(7, tracker.getNextSeqNum(session));
+        assertEquals(1, tracker.getGapCount(session));
+        assertEquals(1, tracker.getDuplicateCount(session));
+        assertEquals(1, tracker.getPossDupResendCount(session));
+        assertEquals("BANZAI", tracker.getSenderCompId(session));
+        assertEquals("EXEC", tracker.getTargetCompId(session));
+    }
+
+    private static MessageView viewWithout34() {
+        MessageView view = new MessageView();
+        parser.parse(TestMessages.frame("35=0\u000149=BANZAI\u000156=EXEC\u0001"), view);
+        return view;
+    }
+
+    @Test
+    public void testSequenceResetAndResetSeqNumFlag() {
+        // Arrange
+        SessionTracker tracker = new SessionTracker();
+        tracker.track(parse("BANZAI", "EXEC", 10, ""));
+
+        // Act & Assert
+        MessageView gapFill = new MessageView();
+        parser.parse(TestMessages.frame("35=4\u000149=BANZAI\u000156=EXEC\u000134=11\u0001123=Y\u000136=20\u0001"), gapFill);
+        assertEquals(SessionTracker.Status.SEQUENCE_RESET, tracker.track(gapFill));
+        assertEquals(SessionTracker.Status.IN_SEQUENCE, tracker.track(parse("BANZAI", "EXEC", 20, "")));
+
+        MessageView logon = new MessageView();
+        parser.parse(TestMessages.frame("35=A\u000149=BANZAI\u000156=EXEC\u000134=1\u000198=0\u0001108=30\u0001141=Y\u0001"), logon);
+        assertEquals(SessionTracker.Status.SEQUENCE_RESET, tracker.track(logon));
+        assertEquals(2, tracker.getNextSeqNum(tracker.findSession("BANZAI", "EXEC")));
+    }
+
+    @Test
+    public void testTracksViewsOverDirectBuffers() {
+        // Arrange
+        SessionTracker tracker = new SessionTracker();
+        byte[] msg = TestMessages.frame("35=4\u000149=BANZAI\u000156=EXEC\u000134=2\u000136=10\u0001");
+        ByteBuffer direct = ByteBuffer.allocateDirect(msg.length);
+        direct.put(msg).flip();
+        MessageView view = new MessageView();
+        parser.parse(direct, view);
+
+        // Act
+        tracker.track(parse("BANZAI", "EXEC", 1, ""));
+        SessionTracker.Status status = tracker.track(view);
+
+        // Assert
+        assertEquals(SessionTracker.Status.SEQUENCE_RESET, status);
+        assertEquals(1, tracker.getSessionCount());
+        assertEquals(10, tracker.getNextSeqNum(tracker.findSession("BANZAI", "EXEC")));
+    }
+
+    @Test
+    public void testTracksThousandsOfSessionsWithoutAllocating() {
+        // Arrange
+        int sessions = 5_000;
+        MessageView[] views = new MessageView[sessions];
+        for (int i = 0; i < sessions; i++) {
+            views[i] = parse("FIRM" + i, "VENUE", 1, "");
+        }
+        SessionTracker tracker = new SessionTracker();
+        for (MessageView view : views) {
+            tracker.track(view);
+        }
+
+        // Act
+        long allocated = Allocations.measure(() -> {
+            for (MessageView view : views) {
+                tracker.track(view);
+            }
+        }, 200);
+
+        // Assert
+        assertEquals(0, allocated, "Tracking known sessions should not allocate");
+        assertEquals(sessions, tracker.getSessionCount());
+        int session = tracker.findSession("FIRM4321", "VENUE");
+        assertEquals("FIRM4321", tracker.getSenderCompId(session));
+        assertEquals(2, tracker.getNextSeqNum(session));
+        assertEquals(-1, tracker.findSession("VENUE", "FIRM4321"));
+    }
+}
@@ -0,0 +1,116 @@
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamFramerTest {
+
+    private static final String LOGON = "8=FIX.4.4\u00019=65\u000135=A\u000134=5\u000149=BANZAI\u000152=20231123-17:20:39.148\u000156=EXEC\u000198=0\u0001108=30\u000110=224\u0001";
+    private static final String ORDER = "8=FIX.4.4\u00019=130\u000135=D\u000134=6\u000149=BANZAI\u000152=20231123-17:20:43.399\u0001"
+            + "56=EXEC\u000111=1700760043390\u000121=1\u000138=100\u000140=1\u000154=1\u000155=AAPL\u000159=0\u0001"
+            + "60=20231123-17:20:43.398\u000110=094\u0001";
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void testFrameLength() {
+        byte[] logon = bytes(LOGON);
+        assertEquals(logon.length, StreamFramer.frameLength(logon, 0, logon.length));
+        assertEquals(logon.length, StreamFramer.frameLength(logon, 0, 16));
+        assertEquals(-1, StreamFramer.frameLength(logon, 0, 13));
+    }
+
+    @Test
+    void testMultipleFramesInOneChunkAreNotCopied() {
+        byte[] stream = bytes(LOGON + ORDER + LOGON);
+        StreamFramer framer = new StreamFramer(256);
+        List<String> frames = new ArrayList<>();
+
+        framer.onData(ByteBuffer.wrap(stream), (buffer, offset, length) -> {
+            assertSame(stream, buffer);
+            frames.add(new String(buffer, offset, length, StandardCharsets.US_ASCII));
+        });
+
+        assertEquals(List.of(LOGON, ORDER, LOGON), frames);
+        assertEquals(0, framer.getPendingLength());
+    }
+
+    @Test
+    void testFramesSplitAtEveryPosition() {
+        byte[] stream = bytes(LOGON + ORDER);
+        for (int split = 1; split < stream.length; split++) {
+            StreamFramer framer = new StreamFramer(256);
+            List<String> frames = new ArrayList<>();
+            StreamFramer.FrameHandler handler = (buffer, offset, length) ->
+                    frames.add(new String(buffer, offset, length, StandardCharsets.US_ASCII));
+
+            framer.onData(ByteBuffer.wrap(stream, 0, split), handler);
+            framer.onData(ByteBuffer.wrap(stream, split, stream.length - split), handler);
+
+            assertEquals(List.of(LOGON, ORDER), frames, "split at " + split);
+            assertEquals(0, framer.getPendingLength());
+        }
+    }
+
+    @Test
+    void testDirectBufferChunks() {
+        byte[] stream = bytes(ORDER + LOGON);
+        StreamFramer framer = new StreamFramer(256);
+        Parser parser = new Parser(ProtocolVersion.FIX44);
+        MessageView view = new MessageView();
+        List<Integer> seqNums = new ArrayList<>();
+
+        ByteBuffer chunk = ByteBuffer.allocateDirect(40);
+        for (int pos = 0; pos < stream.length; pos += chunk.capacity()) {
+            chunk.clear();
+            chunk.put(stream, pos, Math.min(chunk.capacity(), stream.length - pos));
+            chunk.flip();
+            framer.onData(chunk, (buffer, offset, length) -> {
+                parser.parse(buffer, offset, length, view);
+                seqNums.add(view.getInt(34));
+            });
+        }
+
+        assertEquals(List.of(6, 5), seqNums);
+    }
+
+    @Test
+    void testFrameExceedingCapacity() {
+        StreamFramer framer = new StreamFramer(64);
+        byte[] stream = bytes(ORDER);
+        assertThrows(ParserException.class,
+                () -> framer.onData(ByteBuffer.wrap(stream, 0, 100), (buffer, offset, length) -> { }));
+    }
+
+    @Test
+    void testMalformedFrames() {
+        StreamFramer framer = new StreamFramer(256);
+        assertThrows(ParserException.class,
+                () -> framer.onData(ByteBuffer.wrap(bytes("35=A\u0001")), (buffer, offset, length) -> { }));
+
+        byte[] wrongLength = bytes(LOGON.replace("9=65", "9=64"));
+        assertThrows(ParserException.class,
+                () -> StreamFramer.frameLength(wrongLength, 0, wrongLength.length));
+    }
+
+    @Test
+    void testParseFrameFromOffset() {
+        byte[] stream = bytes(ORDER + LOGON);
+        Parser parser = new Parser(ProtocolVersion.FIX44);
+        MessageView view = new MessageView();
+
+        parser.parse(stream, ORDER.length(), LOGON.length(), view);
+
+        assertEquals(10, view.getFieldCount());
+        assertEquals("BANZAI", view.getString(49));
+        assertEquals(30, view.getInt(108));
+    }
+}
@@ -1,5 +1,7 @@
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -27,6 +29,16 @@ class TagInfoTest {
         assertEquals("STRING", tagInfo.getType());
     }
 
+    @Test
+    void getValueType() {
+        assertEquals(ValueType.STRING, new TagInfo(FIX_MSG_FIRST_TAG, "BeginString", "STRING").getValueType());
+        assertEquals(ValueType.INT, new TagInfo(34, "MsgSeqNum", "SEQNUM").getValueType());
+        assertEquals(ValueType.DECIMAL, new TagInfo(44, "Price", "PRICE").getValueType());
+        assertEquals(ValueType.UTC_TIMESTAMP, new TagInfo(52, "SendingTime", "UTCTIMESTAMP").getValueType());
+        assertEquals(ValueType.DATE, new TagInfo(75, "TradeDate", "LOCALMKTDATE").getValueType());
+        assertEquals(ValueType.BOOLEAN, new TagInfo(43, "PossDupFlag", "BOOLEAN").getValueType());
+    }
+
     @Test
     void addValue() {
         TagInfo tagInfo = new TagInfo(13, "CommType", "CHAR");
@@ -63,4 +75,28 @@ class TagInfoTest {
         assertEquals("1", value2.value());
         assertEquals("PER_UNIT", value2.description());
     }
-}
\ No newline at end of file
+
+    @Test
+    void hasValueBytes() {
+        TagInfo tagInfo = new TagInfo(35, "MsgType", "STRING");
+        tagInfo.addValue(new TagInfo.Value("D", "ORDER_SINGLE"));
+        tagInfo.addValue(new TagInfo.Value("AE", "TRADE_CAPTURE_REPORT"));
+        byte[] buffer = "35=AE\u0001".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(tagInfo.hasValue(buffer, 3, 2));
+        assertFalse(tagInfo.hasValue(buffer, 3, 1));
+        assertFalse(tagInfo.hasValue(buffer, 0, 2));
+    }
+
+    @Test
+    void getValueBytes() {
+        TagInfo tagInfo = new TagInfo(54, "Side", "CHAR");
+        tagInfo.addValue(new TagInfo.Value("1", "BUY"));
+        byte[] buffer = "54=2\u000154=1\u0001".getBytes(StandardCharsets.US_ASCII);
+        assertNull(tagInfo.getValue(buffer, 3, 1));
+        assertEquals("BUY", tagInfo.getValue(buffer, 8, 1).description());
+
+        tagInfo.addValue(new TagInfo.Value("2", "SELL"));
+        assertTrue(tagInfo.hasValue(buffer, 3, 1));
+        assertEquals("SELL", tagInfo.getValue(buffer, 3, 1).description());
+    }
+}
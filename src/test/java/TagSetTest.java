@@ -0,0 +1,42 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TagSetTest {
+
+    @Test
+    void testSlotsFollowAscendingTagOrder() {
+        TagSet tags = new TagSet(new int[]{55, 35, 20000, 55, TagTable.DIRECT_LIMIT - 1});
+
+        assertEquals(4, tags.size());
+        assertArrayEquals(new int[]{35, 55, TagTable.DIRECT_LIMIT - 1, 20000}, tags.toArray());
+        assertEquals(0, tags.slotOf(35));
+        assertEquals(1, tags.slotOf(55));
+        assertEquals(2, tags.slotOf(TagTable.DIRECT_LIMIT - 1));
+        assertEquals(3, tags.slotOf(20000));
+        assertEquals(20000, tags.getTag(3));
+        assertEquals(-1, tags.slotOf(44));
+        assertEquals(-1, tags.slotOf(TagTable.DIRECT_LIMIT));
+        assertEquals(-1, tags.slotOf(20001));
+        assertEquals(-1, tags.slotOf(0));
+    }
+
+    @Test
+    void testSeenFlagsResetPerScan() {
+        int[] many = new int[100];
+        for (int i = 0; i < many.length; i++) {
+            many[i] = i + 1;
+        }
+        TagSet tags = new TagSet(many);
+
+        assertTrue(tags.markSeen(tags.slotOf(1)));
+        assertTrue(tags.markSeen(tags.slotOf(100)));
+        assertFalse(tags.markSeen(tags.slotOf(100)));
+        assertFalse(tags.markSeen(tags.slotOf(1)));
+        tags.clearSeen();
+        assertTrue(tags.markSeen(tags.slotOf(100)));
+    }
+}
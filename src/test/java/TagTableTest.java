@@ -0,0 +1,46 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TagTableTest {
+
+    @Test
+    void testDirectRange() {
+        TagTable table = new TagTable(60);
+        TagInfo account = new TagInfo(1, "Account", "STRING");
+        TagInfo checkSum = new TagInfo(10, "CheckSum", "STRING");
+        table.put(account, Dictionary.SECTION_BODY);
+        table.put(checkSum, Dictionary.SECTION_TRAILER);
+
+        assertSame(account, table.get(1));
+        assertSame(checkSum, table.get(10));
+        assertEquals(Dictionary.SECTION_TRAILER, table.getSection(10));
+        assertNull(table.get(2));
+        assertNull(table.get(-1));
+        assertNull(table.get(100));
+        assertEquals(Dictionary.SECTION_UNKNOWN, table.getSection(2));
+    }
+
+    @Test
+    void testSparseRange() {
+        TagTable table = new TagTable(9999);
+        for (int tag = 5000; tag < 10000; tag += 7) {
+            table.put(new TagInfo(tag, "Custom" + tag, "STRING"), Dictionary.SECTION_BODY);
+        }
+        table.put(new TagInfo(TagTable.DIRECT_LIMIT - 1, "EdgeOfDirect", "INT"), Dictionary.SECTION_HEADER);
+
+        for (int tag = 5000; tag < 10000; tag++) {
+            if ((tag - 5000) % 7 == 0) {
+                assertEquals("Custom" + tag, table.get(tag).getName());
+                assertEquals(Dictionary.SECTION_BODY, table.getSection(tag));
+            } else {
+                assertNull(table.get(tag));
+                assertEquals(Dictionary.SECTION_UNKNOWN, table.getSection(tag));
+            }
+        }
+        assertEquals("EdgeOfDirect", table.get(TagTable.DIRECT_LIMIT - 1).getName());
+        assertEquals(Dictionary.SECTION_HEADER, table.getSection(TagTable.DIRECT_LIMIT - 1));
+    }
+}
@@ -0,0 +1,25 @@
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds FIX 4.4 test messages, shared by the tests and the benchmark corpus.
+ */
+final class TestMessages {
+
+    private TestMessages() {
+    }
+
+    /**
+     * Frames a message body with BeginString, a matching BodyLength and a correct CheckSum.
+     *
+     * @param body the fields from MsgType onwards, each terminated by SOH
+     * @return the framed message in US-ASCII
+     */
+    static byte[] frame(String body) {
+        String prefix = "8=FIX.4.4\u00019=" + body.length() + "\u0001";
+        int checksum = 0;
+        for (char c : (prefix + body).toCharArray()) {
+            checksum += c;
+        }
+        return (prefix + body + String.format("10=%03d\u0001", checksum % 256)).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,127 @@
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValueCacheTest {
+
+    private static final byte[] ORDER = ("8=FIX.4.4\u00019=130\u000135=D\u000134=6\u000149=BANZAI\u000152=20231123-17:20:43.399\u0001"
+            + "56=EXEC\u000111=1700760043390\u000121=1\u000138=100\u000140=1\u000154=1\u000155=AAPL\u000159=0\u0001"
+            + "60=20231123-17:20:43.398\u000110=094\u0001").getBytes(StandardCharsets.US_ASCII);
+
+    private static Dictionary dictionary;
+
+    @BeforeAll
+    static void setUp() {
+        dictionary = Dictionary.getInstance(ProtocolVersion.FIX44);
+    }
+
+    @Test
+    void testParserInternsSelectedFields() {
+        // Arrange
+        ValueCache cache = new ValueCache(dictionary, 64);
+        Parser parser = new Parser(dictionary, ByteScanner.getDefault(), ValidationLevel.STRUCTURAL, cache);
+
+        // Act
+        Message first = parser.parse(ORDER);
+        Message second = parser.parse(ORDER.clone());
+        MessageView view = new MessageView();
+        parser.parse(ORDER.clone(), view);
+
+        // Assert
+        assertSame(first.getString(49), second.getString(49));
+        assertSame(first.getString(55), second.getString(55));
+        assertSame(first.getString(55), view.getString(55));
+        assertSame(first.getString(35), view.getString(35));
+        assertNotSame(first.getString(11), second.getString(11));
+        assertEquals("1700760043390", view.getString(11));
+        assertTrue(cache.isInterned(56));
+        assertFalse(cache.isInterned(11));
+        assertEquals(3, cache.getMissCount());
+        assertEquals(4, cache.getHitCount());
+    }
+
+    @Test
+    void testClockEvictionSparesReferencedEntries() {
+        // Arrange
+        ValueCache cache = new ValueCache(dictionary, 4);
+        byte[] values = "AAAA BBBB CCCC DDDD EEEE".getBytes(StandardCharsets.US_ASCII);
+        String a = cache.intern(values, 0, 4);
+        cache.intern(values, 5, 4);
+        cache.intern(values, 10, 4);
+        cache.intern(values, 15, 4);
+
+        // Act
+        assertSame(a, cache.intern(values, 0, 4));
+        cache.intern(values, 20, 4);
+
+        // Assert
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(4, cache.getSize());
+        assertSame(a, cache.intern(values, 0, 4));
+        assertEquals(2.0 / 7, cache.getHitRate(), 1e-9);
+        cache.intern(values, 5, 4);
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    void testCustomSelectionAndLongValues() {
+        // Arrange
+        ValueCache cache = new ValueCache(dictionary, 16, tagInfo -> tagInfo.getNumber() == 58);
+        byte[] text = "x".repeat(ValueCache.MAX_VALUE_LENGTH + 1).getBytes(StandardCharsets.US_ASCII);
+
+        // Act & Assert
+        assertTrue(cache.isInterned(58));
+        assertFalse(cache.isInterned(49));
+        assertFalse(cache.isInterned(99999));
+        assertNotSame(cache.getString(58, text, 0, text.length), cache.getString(58, text, 0, text.length));
+        assertSame(cache.getString(58, text, 0, 8), cache.getString(58, text, 0, 8));
+        assertThrows(IllegalArgumentException.class, () -> new Parser(Dictionary.getInstance(ProtocolVersion.FIX42),
+                ByteScanner.getDefault(), ValidationLevel.STRUCTURAL, cache));
+    }
+
+    @Test
+    void testRegisterExposesCounters() throws Exception {
+        // Arrange
+        ValueCache cache = new ValueCache(dictionary, 16);
+        byte[] value = "EXEC".getBytes(StandardCharsets.US_ASCII);
+        cache.intern(value, 0, 4);
+        cache.intern(value, 0, 4);
+
+        // Act
+        ObjectName name = cache.register("value-cache-test");
+        try {
+            // Assert
+            assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "HitCount"));
+            assertEquals(0.5, (double) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "HitRate"), 1e-9);
+        } finally {
+            cache.unregister(name);
+        }
+    }
+
+    @Test
+    void testHitsDoNotAllocate() {
+        // Arrange
+        ValueCache cache = new ValueCache(dictionary, 64);
+        Parser parser = new Parser(dictionary, ByteScanner.getDefault(), ValidationLevel.STRUCTURAL, cache);
+        MessageView view = new MessageView();
+        parser.parse(ORDER, view);
+        int[] length = new int[1];
+
+        // Act
+        long allocated = Allocations.measure(() -> length[0] += view.getStringAt(4).length() + view.getString(55).length());
+
+        // Assert
+        assertEquals(0, allocated, "Reading an interned value that is already cached should not allocate");
+        assertTrue(length[0] > 0);
+    }
+}
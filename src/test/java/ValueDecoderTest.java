@@ -0,0 +1,84 @@
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValueDecoderTest {
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void decodeInt() {
+        assertEquals(224, ValueDecoder.decodeInt(bytes("224"), 0, 3));
+        assertEquals(-17, ValueDecoder.decodeInt(bytes("x-17x"), 1, 3));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeInt(bytes("12a"), 0, 3));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeInt(bytes("99999999999"), 0, 11));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeInt(bytes("-"), 0, 1));
+    }
+
+    @Test
+    void decodeLong() {
+        assertEquals(1700760043390L, ValueDecoder.decodeLong(bytes("1700760043390"), 0, 13));
+        assertEquals(Long.MAX_VALUE, ValueDecoder.decodeLong(bytes("9223372036854775807"), 0, 19));
+        assertEquals(Long.MIN_VALUE, ValueDecoder.decodeLong(bytes("-9223372036854775808"), 0, 20));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeLong(bytes("9223372036854775808"), 0, 19));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeInt(bytes("18446744073709551617"), 0, 20));
+    }
+
+    @Test
+    void decodeChar() {
+        assertEquals('D', ValueDecoder.decodeChar(bytes("D"), 0, 1));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeChar(bytes("DD"), 0, 2));
+    }
+
+    @Test
+    void decodeDecimal() {
+        assertEquals(1234500L, ValueDecoder.decodeDecimal(bytes("123.45"), 0, 6, 4));
+        assertEquals(-1500L, ValueDecoder.decodeDecimal(bytes("-1.5"), 0, 4, 3));
+        assertEquals(100L, ValueDecoder.decodeDecimal(bytes("100"), 0, 3, 0));
+        assertEquals(12L, ValueDecoder.decodeDecimal(bytes("1.200"), 0, 5, 1));
+        assertEquals(500L, ValueDecoder.decodeDecimal(bytes(".5"), 0, 2, 3));
+        assertEquals(Long.MIN_VALUE, ValueDecoder.decodeDecimal(bytes("-922337203685477.5808"), 0, 21, 4));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeDecimal(bytes("18446744073709551617"), 0, 20, 0));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeDecimal(bytes("922337203685478"), 0, 15, 4));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeDecimal(bytes("1.25"), 0, 4, 1));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeDecimal(bytes("1.2.3"), 0, 5, 4));
+    }
+
+    @Test
+    void decodeUtcTimestamp() {
+        assertEquals(1700760039148000000L, ValueDecoder.decodeUtcTimestamp(bytes("20231123-17:20:39.148"), 0, 21));
+        assertEquals(1700760039000000000L, ValueDecoder.decodeUtcTimestamp(bytes("20231123-17:20:39"), 0, 17));
+        assertEquals(1700760039148123456L, ValueDecoder.decodeUtcTimestamp(bytes("20231123-17:20:39.148123456"), 0, 27));
+        assertEquals(951782400000000000L, ValueDecoder.decodeUtcTimestamp(bytes("20000229-00:00:00"), 0, 17));
+        assertEquals(-1000000L, ValueDecoder.decodeUtcTimestamp(bytes("19691231-23:59:59.999"), 0, 21));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeUtcTimestamp(bytes("20231123 17:20:39"), 0, 17));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeUtcTimestamp(bytes("20231323-17:20:39"), 0, 17));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeUtcTimestamp(bytes("20231123-17:20:39."), 0, 18));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeUtcTimestamp(bytes("20230231-17:20:39"), 0, 17));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeUtcTimestamp(bytes("21000229-00:00:00"), 0, 17));
+    }
+
+    @Test
+    void decodeBoolean() {
+        assertEquals(true, ValueDecoder.decodeBoolean(bytes("Y"), 0, 1));
+        assertEquals(false, ValueDecoder.decodeBoolean(bytes("N"), 0, 1));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeBoolean(bytes("y"), 0, 1));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeBoolean(bytes("YY"), 0, 2));
+    }
+
+    @Test
+    void decodeDate() {
+        assertEquals(19684, ValueDecoder.decodeDate(bytes("20231123"), 0, 8));
+        assertEquals(0, ValueDecoder.decodeDate(bytes("19700101"), 0, 8));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeDate(bytes("2023112"), 0, 7));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeDate(bytes("20231301"), 0, 8));
+        assertEquals(19782, ValueDecoder.decodeDate(bytes("20240229"), 0, 8));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeDate(bytes("20230229"), 0, 8));
+        assertThrows(ParserException.class, () -> ValueDecoder.decodeDate(bytes("20230431"), 0, 8));
+    }
+}
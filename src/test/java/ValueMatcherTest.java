@@ -0,0 +1,59 @@
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValueMatcherTest {
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void testSingleAndMultiCharValues() {
+        ValueMatcher matcher = ValueMatcher.compile(List.of(
+                new TagInfo.Value("0", "HEARTBEAT"),
+                new TagInfo.Value("D", "ORDER_SINGLE"),
+                new TagInfo.Value("AE", "TRADE_CAPTURE_REPORT"),
+                new TagInfo.Value("BE", "USER_REQUEST")));
+
+        assertTrue(matcher.matches(bytes("D"), 0, 1));
+        assertTrue(matcher.matches(bytes("xAEx"), 1, 2));
+        assertFalse(matcher.matches(bytes("E"), 0, 1));
+        assertFalse(matcher.matches(bytes("AF"), 0, 2));
+        assertFalse(matcher.matches(bytes("AEE"), 0, 3));
+        assertFalse(matcher.matches(new byte[] {(byte) 0xFF}, 0, 1));
+        assertEquals("USER_REQUEST", matcher.lookup(bytes("BE"), 0, 2).description());
+        assertEquals("HEARTBEAT", matcher.lookup(bytes("0"), 0, 1).description());
+        assertNull(matcher.lookup(bytes("Z"), 0, 1));
+    }
+
+    @Test
+    void testKeysWithEqualStringHashCodes() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        ValueMatcher matcher = ValueMatcher.compile(List.of(
+                new TagInfo.Value("Aa", "first"),
+                new TagInfo.Value("BB", "second")));
+
+        assertEquals("first", matcher.lookup(bytes("Aa"), 0, 2).description());
+        assertEquals("second", matcher.lookup(bytes("BB"), 0, 2).description());
+    }
+
+    @Test
+    void testDictionaryMsgTypes() {
+        Dictionary dictionary = Dictionary.getInstance(ProtocolVersion.FIX44);
+        TagInfo msgType = dictionary.getTagInfo(35);
+        for (String value : List.of("0", "A", "D", "8", "W", "AE", "BH")) {
+            byte[] encoded = bytes(value);
+            assertTrue(msgType.hasValue(encoded, 0, encoded.length), value);
+            assertEquals(msgType.getValue(value), msgType.getValue(encoded, 0, encoded.length));
+        }
+        byte[] unknown = bytes("ZZ");
+        assertFalse(msgType.hasValue(unknown, 0, unknown.length));
+    }
+}